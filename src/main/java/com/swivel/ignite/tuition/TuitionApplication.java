@@ -3,12 +3,14 @@ package com.swivel.ignite.tuition;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.netflix.eureka.EnableEurekaClient;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Tuition Application
  */
 @SpringBootApplication
 @EnableEurekaClient
+@EnableScheduling
 public class TuitionApplication {
 
     public static void main(String[] args) {
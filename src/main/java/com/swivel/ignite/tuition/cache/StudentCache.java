@@ -0,0 +1,145 @@
+package com.swivel.ignite.tuition.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.swivel.ignite.tuition.dto.response.StudentResponseDto;
+import com.swivel.ignite.tuition.util.TokenDigest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Short lived in-memory cache of students returned by the student microservice, keyed by student id and the
+ * auth scope (a digest of the token) the student was read with.
+ * <p>
+ * A load runs on the calling thread and concurrent misses for the same key wait for that single remote call.
+ * Failed loads are not cached. Hit, miss and eviction counts are published as the cache metrics of the
+ * "student" cache.
+ */
+@Component
+public class StudentCache {
+
+    private static final String CACHE_NAME = "student";
+    private static final String NO_SCOPE = "";
+    private final AsyncCache<Key, StudentResponseDto> cache;
+
+    public StudentCache(@Value("${student.cache.maxSize}") long maxSize,
+                        @Value("${student.cache.ttlSeconds}") long ttlSeconds,
+                        MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+    }
+
+    /**
+     * This method returns a copy of the cached student, loading it on a miss.
+     * Concurrent misses for the same student and token share a single load.
+     *
+     * @param studentId student id
+     * @param token     auth token the student is read with
+     * @param loader    loads the student from the student microservice
+     * @return student/ null
+     * @throws IOException if the load fails with an IOException
+     */
+    public StudentResponseDto get(String studentId, String token, Loader loader) throws IOException {
+        CompletableFuture<StudentResponseDto> load = new CompletableFuture<>();
+        CompletableFuture<StudentResponseDto> future =
+                cache.get(new Key(studentId, getScope(token)), (key, executor) -> load);
+        if (future == load) {
+            try {
+                load.complete(loader.load());
+            } catch (IOException | RuntimeException | Error e) {
+                load.completeExceptionally(e);
+            }
+        }
+        return copy(await(future));
+    }
+
+    /**
+     * This method evicts a student for every auth scope, including a load that is still in flight
+     *
+     * @param studentId student id
+     */
+    public void evict(String studentId) {
+        cache.asMap().keySet().removeIf(key -> key.studentId.equals(studentId));
+    }
+
+    /**
+     * This method waits for a load and rethrows the exception it failed with
+     *
+     * @param future pending or completed load
+     * @return student/ null
+     * @throws IOException if the load failed with an IOException
+     */
+    private StudentResponseDto await(CompletableFuture<StudentResponseDto> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException)
+                throw (IOException) cause;
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof Error)
+                throw (Error) cause;
+            throw e;
+        }
+    }
+
+    /**
+     * This method copies a cached student, since callers update the tuition of the returned student
+     *
+     * @param student cached student
+     * @return copy/ null
+     */
+    private StudentResponseDto copy(StudentResponseDto student) {
+        if (student == null)
+            return null;
+        Date tuitionJoinedOn = student.getTuitionJoinedOn() == null
+                ? null : new Date(student.getTuitionJoinedOn().getTime());
+        return new StudentResponseDto(student.getStudentId(), student.getName(), student.getTuitionId(),
+                tuitionJoinedOn);
+    }
+
+    /**
+     * This method returns the auth scope of a token. Only a digest is kept so that tokens are not held in memory.
+     *
+     * @param token auth token
+     * @return auth scope
+     */
+    private String getScope(String token) {
+        return token == null ? NO_SCOPE : TokenDigest.of(token);
+    }
+
+    /**
+     * Loads a student on a cache miss
+     */
+    @FunctionalInterface
+    public interface Loader {
+
+        StudentResponseDto load() throws IOException;
+    }
+
+    /**
+     * Cache key (student id and auth scope)
+     */
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class Key {
+
+        private final String studentId;
+        private final String scope;
+    }
+}
@@ -0,0 +1,87 @@
+package com.swivel.ignite.tuition.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Bounded in-memory cache of tuition snapshots by tuition id.
+ * <p>
+ * Hit, miss and eviction counts are published as the cache metrics of the "tuition" cache.
+ */
+@Component
+public class TuitionCache {
+
+    private static final String CACHE_NAME = "tuition";
+    private final Cache<String, TuitionSnapshot> cache;
+
+    public TuitionCache(@Value("${tuition.cache.maxSize}") long maxSize,
+                        @Value("${tuition.cache.ttlSeconds}") long ttlSeconds,
+                        MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * This method returns the cached snapshot of a tuition, loading it on a miss.
+     * Concurrent misses for the same id share a single load.
+     *
+     * @param id     tuition id
+     * @param loader loads the snapshot from the DB (returns null if the tuition does not exist)
+     * @return snapshot/ null
+     */
+    public TuitionSnapshot get(String id, Function<String, TuitionSnapshot> loader) {
+        return cache.get(id, loader);
+    }
+
+    /**
+     * This method returns the cached snapshots of the given tuition, loading all misses together.
+     * Tuition that do not exist are left out of the result.
+     *
+     * @param ids    tuition ids
+     * @param loader loads the snapshots of the missed ids from the DB by id
+     * @return snapshots by tuition id
+     */
+    public Map<String, TuitionSnapshot> getAll(Collection<String> ids,
+                                               Function<Set<String>, Map<String, TuitionSnapshot>> loader) {
+        return cache.getAll(ids, missedIds -> {
+            Set<String> idSet = new HashSet<>();
+            missedIds.forEach(idSet::add);
+            return loader.apply(idSet);
+        });
+    }
+
+    /**
+     * This method evicts a tuition. Inside a transaction the eviction happens after commit, so that a
+     * concurrent reader cannot cache the state that is about to be replaced.
+     *
+     * @param id tuition id
+     */
+    public void evict(String id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(id);
+                }
+            });
+        }
+        cache.invalidate(id);
+    }
+}
@@ -0,0 +1,211 @@
+package com.swivel.ignite.tuition.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.swivel.ignite.tuition.config.BaseConfig;
+import com.swivel.ignite.tuition.dto.response.TuitionPageResponseDto;
+import com.swivel.ignite.tuition.entity.Tuition;
+import com.swivel.ignite.tuition.enums.ResponseStatusType;
+import com.swivel.ignite.tuition.enums.SuccessResponseStatusType;
+import com.swivel.ignite.tuition.exception.TuitionServiceException;
+import com.swivel.ignite.tuition.service.TuitionService;
+import com.swivel.ignite.tuition.wrapper.ResponseWrapper;
+import com.swivel.ignite.tuition.wrapper.SuccessResponseWrapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Bounded in-memory cache of the serialized tuition catalogue pages (get all tuition responses).
+ * <p>
+ * Each page keeps its JSON response bytes and their gzip encoding together with the catalogue ETag read before
+ * the page was loaded, so a page is only served while the catalogue ETag is unchanged. After every catalogue
+ * change of this instance the cached pages are rebuilt in the background (at most one rebuild is pending), so the
+ * next read usually finds the page ready. A page that is still stale when it is read is rebuilt on the request
+ * thread. Rebuild durations are published as tuition.catalogue.rebuild (tagged by trigger).
+ */
+@Slf4j
+@Component
+public class TuitionCatalogueCache {
+
+    private static final String REBUILD_METRIC = "tuition.catalogue.rebuild";
+    private static final String TRIGGER_TAG = "trigger";
+    private static final String REQUEST_TRIGGER = "request";
+    private static final String BACKGROUND_TRIGGER = "background";
+    private final TuitionService tuitionService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Executor rebuildExecutor;
+    private final Cache<String, CataloguePage> pages;
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+
+    @Autowired
+    public TuitionCatalogueCache(TuitionService tuitionService, TuitionVersions tuitionVersions,
+                                 ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                 @Qualifier(BaseConfig.CATALOGUE_REBUILD_EXECUTOR) Executor rebuildExecutor,
+                                 @Value("${tuition.catalogue.maxPages}") long maxPages,
+                                 @Value("${tuition.cache.ttlSeconds}") long ttlSeconds) {
+        this.tuitionService = tuitionService;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.rebuildExecutor = rebuildExecutor;
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(maxPages)
+                .expireAfterAccess(Duration.ofSeconds(ttlSeconds))
+                .build();
+        tuitionVersions.addCatalogueListener(this::scheduleRebuild);
+    }
+
+    /**
+     * This method returns the serialized catalogue page for the current catalogue, building it on a miss
+     *
+     * @param afterId id of the last tuition of the previous page (null for the first page)
+     * @param size    requested page size (null for the default size)
+     * @return catalogue page
+     */
+    public CataloguePage get(String afterId, Integer size) {
+        String key = getKey(afterId, size);
+        CataloguePage page = pages.getIfPresent(key);
+        if (page != null && isFresh(page))
+            return page;
+        page = build(afterId, size, REQUEST_TRIGGER);
+        pages.put(key, page);
+        return page;
+    }
+
+    /**
+     * This method schedules a background rebuild of the cached pages, unless one is pending already
+     */
+    private void scheduleRebuild() {
+        if (pages.estimatedSize() == 0 || !rebuildPending.compareAndSet(false, true))
+            return;
+        try {
+            rebuildExecutor.execute(this::rebuild);
+        } catch (RejectedExecutionException e) {
+            rebuildPending.set(false);
+            log.warn("Failed to schedule the tuition catalogue rebuild", e);
+        }
+    }
+
+    /**
+     * This method rebuilds the stale cached pages. A page that fails to build is evicted, so that it is built
+     * on its next read.
+     */
+    private void rebuild() {
+        rebuildPending.set(false);
+        for (CataloguePage page : new ArrayList<>(pages.asMap().values())) {
+            if (isFresh(page))
+                continue;
+            String key = getKey(page.getAfterId(), page.getRequestedSize());
+            try {
+                pages.put(key, build(page.getAfterId(), page.getRequestedSize(), BACKGROUND_TRIGGER));
+            } catch (RuntimeException e) {
+                pages.invalidate(key);
+                log.warn("Failed to rebuild the tuition catalogue page after: {}", page.getAfterId(), e);
+            }
+        }
+    }
+
+    /**
+     * This method loads and serializes a catalogue page
+     *
+     * @param afterId id of the last tuition of the previous page (null for the first page)
+     * @param size    requested page size (null for the default size)
+     * @param trigger rebuild trigger (metric tag)
+     * @return catalogue page
+     */
+    private CataloguePage build(String afterId, Integer size, String trigger) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            String eTag = tuitionService.getCatalogueETag();
+            Slice<Tuition> tuitionSlice = tuitionService.getPage(afterId, size);
+            ResponseWrapper responseWrapper = new SuccessResponseWrapper(ResponseStatusType.SUCCESS,
+                    SuccessResponseStatusType.RETURNED_ALL_TUITION.getMessage(),
+                    new TuitionPageResponseDto(tuitionSlice), SuccessResponseWrapper.DISPLAY_MESSAGE,
+                    SuccessResponseStatusType.RETURNED_ALL_TUITION.getCode());
+            byte[] json = objectMapper.writeValueAsBytes(responseWrapper);
+            return new CataloguePage(afterId, size, eTag, tuitionSlice.getNumberOfElements(), json, gzip(json));
+        } catch (IOException e) {
+            throw new TuitionServiceException("Serializing the tuition catalogue page was failed.", e);
+        } finally {
+            sample.stop(meterRegistry.timer(REBUILD_METRIC, TRIGGER_TAG, trigger));
+        }
+    }
+
+    /**
+     * This method checks if a page was built for the current catalogue
+     *
+     * @param page catalogue page
+     * @return true/false
+     */
+    private boolean isFresh(CataloguePage page) {
+        return Objects.equals(page.getETag(), tuitionService.getCatalogueETag());
+    }
+
+    /**
+     * This method compresses the response bytes with gzip
+     *
+     * @param json response bytes
+     * @return gzip encoded bytes
+     * @throws IOException if compressing fails
+     */
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(bytes)) {
+            gzipOutputStream.write(json);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * This method returns the cache key of a page
+     *
+     * @param afterId id of the last tuition of the previous page
+     * @param size    requested page size
+     * @return cache key
+     */
+    private static String getKey(String afterId, Integer size) {
+        return afterId + "/" + size;
+    }
+
+    /**
+     * Serialized catalogue page
+     */
+    @Getter
+    public static final class CataloguePage {
+
+        private final String afterId;
+        private final Integer requestedSize;
+        private final String eTag;
+        private final int numberOfElements;
+        private final byte[] json;
+        private final byte[] gzip;
+
+        private CataloguePage(String afterId, Integer requestedSize, String eTag, int numberOfElements, byte[] json,
+                              byte[] gzip) {
+            this.afterId = afterId;
+            this.requestedSize = requestedSize;
+            this.eTag = eTag;
+            this.numberOfElements = numberOfElements;
+            this.json = json;
+            this.gzip = gzip;
+        }
+    }
+}
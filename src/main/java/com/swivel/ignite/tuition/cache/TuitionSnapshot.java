@@ -0,0 +1,45 @@
+package com.swivel.ignite.tuition.cache;
+
+import com.swivel.ignite.tuition.entity.Tuition;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Immutable copy of a tuition that is safe to share between requests
+ */
+@Getter
+public final class TuitionSnapshot {
+
+    private final String id;
+    private final String name;
+    private final String location;
+    private final Set<String> studentIds;
+    private final Long version;
+
+    public TuitionSnapshot(Tuition tuition) {
+        this.id = tuition.getId();
+        this.name = tuition.getName();
+        this.location = tuition.getLocation();
+        this.studentIds = tuition.getStudentIds() == null ? Collections.emptySet()
+                : Collections.unmodifiableSet(new HashSet<>(tuition.getStudentIds()));
+        this.version = tuition.getVersion();
+    }
+
+    /**
+     * This method returns a new detached tuition with the values of this snapshot
+     *
+     * @return tuition
+     */
+    public Tuition toTuition() {
+        Tuition tuition = new Tuition();
+        tuition.setId(id);
+        tuition.setName(name);
+        tuition.setLocation(location);
+        tuition.setStudentIds(new HashSet<>(studentIds));
+        tuition.setVersion(version);
+        return tuition;
+    }
+}
@@ -0,0 +1,110 @@
+package com.swivel.ignite.tuition.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory versions of the tuition and the tuition catalogue, used as ETags of the tuition reads.
+ * <p>
+ * Tuition versions only move forward, so a reader that loaded an older version cannot replace a newer one written
+ * by the tuition service, and a deleted tuition keeps a tombstone. The catalogue version changes with every write
+ * of this instance. Writes of other instances are not seen, so entries expire and the catalogue ETag rolls over
+ * after the tuition cache TTL, which bounds a stale 304 the same way as the tuition cache bounds a stale read.
+ */
+@Component
+public class TuitionVersions {
+
+    private static final long DELETED = Long.MAX_VALUE;
+    private final Cache<String, Long> versions;
+    private final String instanceId;
+    private final AtomicLong catalogueVersion = new AtomicLong();
+    private final List<Runnable> catalogueListeners = new CopyOnWriteArrayList<>();
+    private final long ttlMillis;
+
+    public TuitionVersions(@Value("${tuition.cache.maxSize}") long maxSize,
+                           @Value("${tuition.cache.ttlSeconds}") long ttlSeconds) {
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.instanceId = UUID.randomUUID().toString().substring(0, 8);
+        this.ttlMillis = Math.max(1, Duration.ofSeconds(ttlSeconds).toMillis());
+    }
+
+    /**
+     * This method returns the strong ETag of a tuition version
+     *
+     * @param version tuition version
+     * @return ETag
+     */
+    public static String toETag(Long version) {
+        return "\"v" + (version == null ? 0 : version) + "\"";
+    }
+
+    /**
+     * This method returns the ETag of the known version of a tuition
+     *
+     * @param id tuition id
+     * @return ETag/ null if the version is not known or the tuition is deleted
+     */
+    public String getETag(String id) {
+        Long version = versions.getIfPresent(id);
+        return version == null || version == DELETED ? null : toETag(version);
+    }
+
+    /**
+     * This method records a version of a tuition, unless a newer version is known already
+     *
+     * @param id      tuition id
+     * @param version tuition version
+     */
+    public void update(String id, Long version) {
+        if (version != null)
+            versions.asMap().merge(id, version, Math::max);
+    }
+
+    /**
+     * This method records that a tuition is deleted
+     *
+     * @param id tuition id
+     */
+    public void markDeleted(String id) {
+        versions.put(id, DELETED);
+    }
+
+    /**
+     * This method returns the strong ETag of the current catalogue (all tuition)
+     *
+     * @return ETag
+     */
+    public String getCatalogueETag() {
+        return "\"c" + instanceId + "-" + catalogueVersion.get() + "-" + System.currentTimeMillis() / ttlMillis
+                + "\"";
+    }
+
+    /**
+     * This method records a change of the catalogue and notifies the catalogue listeners
+     */
+    public void catalogueChanged() {
+        catalogueVersion.incrementAndGet();
+        catalogueListeners.forEach(Runnable::run);
+    }
+
+    /**
+     * This method registers a listener that runs on the writing thread after each change of the catalogue,
+     * so it must return quickly
+     *
+     * @param listener catalogue listener
+     */
+    public void addCatalogueListener(Runnable listener) {
+        catalogueListeners.add(listener);
+    }
+}
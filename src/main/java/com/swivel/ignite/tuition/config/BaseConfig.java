@@ -1,17 +1,238 @@
 package com.swivel.ignite.tuition.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.HttpConnectionFactory;
+import org.apache.http.conn.ManagedHttpClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.ManagedHttpClientConnectionFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.oauth2.client.token.grant.client.ClientCredentialsAccessTokenProvider;
+import org.springframework.security.oauth2.client.token.grant.client.ClientCredentialsResourceDetails;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Base component configuration
+ * <p>
+ * Student lookups are on the request path, and the calls that follow a tuition change are sent by the outbox on
+ * either these blocking clients or the non-blocking clients of {@link WebClientConfig} (tuition.outbox.client).
+ * Each service gets its own pooled keep-alive HTTP client with bounded pools, timeouts and idle connection
+ * eviction. Pool usage is exposed as httpcomponents.httpclient.pool.* gauges and connection reuse as the ratio of
+ * tuition.client.connections.created to tuition.client.requests (both tagged by client).
  */
 @Configuration
 public class BaseConfig {
 
+    public static final String STUDENT_REST_TEMPLATE = "studentRestTemplate";
+    public static final String PAYMENT_REST_TEMPLATE = "paymentRestTemplate";
+    public static final String BULK_LOOKUP_EXECUTOR = "bulkLookupExecutor";
+    public static final String TUITION_REQUEST_EXECUTOR = "tuitionRequestExecutor";
+    public static final String CATALOGUE_REBUILD_EXECUTOR = "catalogueRebuildExecutor";
+    private static final String STUDENT_CLIENT = "student";
+    private static final String PAYMENT_CLIENT = "payment";
+    private static final String STUDENT_HTTP_CLIENT = "studentHttpClient";
+    private static final String PAYMENT_HTTP_CLIENT = "paymentHttpClient";
+    private static final String CLIENT_TAG = "client";
+    private static final String REQUESTS_METRIC = "tuition.client.requests";
+    private static final String CONNECTIONS_CREATED_METRIC = "tuition.client.connections.created";
+
+    @Bean(name = STUDENT_HTTP_CLIENT)
+    public CloseableHttpClient studentHttpClient(
+            MeterRegistry meterRegistry,
+            @Value("${student.http.maxConnections}") int maxConnections,
+            @Value("${student.http.maxConnectionsPerRoute}") int maxConnectionsPerRoute,
+            @Value("${student.http.connectTimeoutMillis}") int connectTimeoutMillis,
+            @Value("${student.http.connectionRequestTimeoutMillis}") int connectionRequestTimeoutMillis,
+            @Value("${student.http.readTimeoutMillis}") int readTimeoutMillis,
+            @Value("${student.http.idleTimeoutSeconds}") long idleTimeoutSeconds) {
+        PoolingHttpClientConnectionManager connectionManager = createConnectionManager(STUDENT_CLIENT,
+                maxConnections, maxConnectionsPerRoute, meterRegistry);
+        return createHttpClient(STUDENT_CLIENT, connectionManager, connectTimeoutMillis,
+                connectionRequestTimeoutMillis, readTimeoutMillis, idleTimeoutSeconds, meterRegistry);
+    }
+
+    @Bean(name = PAYMENT_HTTP_CLIENT)
+    public CloseableHttpClient paymentHttpClient(
+            MeterRegistry meterRegistry,
+            @Value("${payment.http.maxConnections}") int maxConnections,
+            @Value("${payment.http.maxConnectionsPerRoute}") int maxConnectionsPerRoute,
+            @Value("${payment.http.connectTimeoutMillis}") int connectTimeoutMillis,
+            @Value("${payment.http.connectionRequestTimeoutMillis}") int connectionRequestTimeoutMillis,
+            @Value("${payment.http.readTimeoutMillis}") int readTimeoutMillis,
+            @Value("${payment.http.idleTimeoutSeconds}") long idleTimeoutSeconds) {
+        PoolingHttpClientConnectionManager connectionManager = createConnectionManager(PAYMENT_CLIENT,
+                maxConnections, maxConnectionsPerRoute, meterRegistry);
+        return createHttpClient(PAYMENT_CLIENT, connectionManager, connectTimeoutMillis,
+                connectionRequestTimeoutMillis, readTimeoutMillis, idleTimeoutSeconds, meterRegistry);
+    }
+
+    @Bean(name = STUDENT_REST_TEMPLATE)
+    public RestTemplate studentRestTemplate(@Qualifier(STUDENT_HTTP_CLIENT) CloseableHttpClient httpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+
+    @Bean(name = PAYMENT_REST_TEMPLATE)
+    public RestTemplate paymentRestTemplate(@Qualifier(PAYMENT_HTTP_CLIENT) CloseableHttpClient httpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+
+    /**
+     * Access token of this service for the calls delivered by the outbox, obtained from the auth service with
+     * the client credentials of this service
+     *
+     * @param accessTokenUri      token endpoint of the auth service
+     * @param clientId            client id
+     * @param clientSecret        client secret
+     * @param expiryMarginSeconds time before the expiry at which a new token is obtained
+     * @return service token provider
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public ServiceTokenProvider serviceTokenProvider(
+            @Value("${oauth.client.access-token-uri}") String accessTokenUri,
+            @Value("${security.oauth2.client.client-id}") String clientId,
+            @Value("${security.oauth2.client.client-secret}") String clientSecret,
+            @Value("${oauth.client.expiry-margin-seconds}") long expiryMarginSeconds) {
+        ClientCredentialsResourceDetails resourceDetails = new ClientCredentialsResourceDetails();
+        resourceDetails.setAccessTokenUri(accessTokenUri);
+        resourceDetails.setClientId(clientId);
+        resourceDetails.setClientSecret(clientSecret);
+        return new ServiceTokenProvider(resourceDetails, new ClientCredentialsAccessTokenProvider(),
+                expiryMarginSeconds);
+    }
+
+    /**
+     * Bounded executor for the parallel student lookups of the bulk enrollment requests. The blocking unlink
+     * (tuition.outbox.client BLOCKING) runs its per student calls on it as well. When all threads are busy and
+     * the queue is full, the calling thread runs the call itself, which slows down the caller instead of failing
+     * the call.
+     *
+     * @param concurrency   max parallel calls
+     * @param queueCapacity max queued calls
+     * @return executor
+     */
+    @Bean(name = BULK_LOOKUP_EXECUTOR)
+    public ThreadPoolTaskExecutor bulkLookupExecutor(@Value("${tuition.bulk.lookup.concurrency}") int concurrency,
+                                                     @Value("${tuition.bulk.lookup.queueCapacity}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("bulk-lookup-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * Bounded executor for the async tuition endpoints. Each task runs with the security context of the request
+     * that submitted it. When all threads are busy and the queue is full, new requests are rejected instead of
+     * falling back to the servlet thread.
+     *
+     * @param concurrency   max parallel request flows
+     * @param queueCapacity max queued request flows
+     * @return executor
+     */
+    @Bean(name = TUITION_REQUEST_EXECUTOR)
+    public ThreadPoolTaskExecutor tuitionRequestExecutor(@Value("${tuition.async.concurrency}") int concurrency,
+                                                         @Value("${tuition.async.queueCapacity}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("tuition-request-");
+        executor.setTaskDecorator(DelegatingSecurityContextRunnable::new);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * Single thread executor for the background rebuilds of the tuition catalogue cache. Rebuilds are coalesced
+     * by the cache, so at most one rebuild waits in the queue.
+     *
+     * @return executor
+     */
+    @Bean(name = CATALOGUE_REBUILD_EXECUTOR)
+    public ThreadPoolTaskExecutor catalogueRebuildExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("catalogue-rebuild-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * This method creates a connection pool that counts the connections it opens
+     *
+     * @param client                 client name (metric tag)
+     * @param maxConnections         max connections of the pool
+     * @param maxConnectionsPerRoute max connections per route (host)
+     * @param meterRegistry          meter registry
+     * @return connection manager
+     */
+    private PoolingHttpClientConnectionManager createConnectionManager(String client, int maxConnections,
+                                                                       int maxConnectionsPerRoute,
+                                                                       MeterRegistry meterRegistry) {
+        Counter connectionsCreated = meterRegistry.counter(CONNECTIONS_CREATED_METRIC, CLIENT_TAG, client);
+        HttpConnectionFactory<HttpRoute, ManagedHttpClientConnection> connectionFactory = (route, config) -> {
+            connectionsCreated.increment();
+            return ManagedHttpClientConnectionFactory.INSTANCE.create(route, config);
+        };
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+                connectionFactory);
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, client, Tags.empty())
+                .bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    /**
+     * This method creates a keep-alive HTTP client on the given pool. Idle and expired connections are evicted
+     * by a background thread, which stops when the client is closed on shutdown.
+     *
+     * @param client                         client name (metric tag)
+     * @param connectionManager              connection pool
+     * @param connectTimeoutMillis           TCP connect timeout
+     * @param connectionRequestTimeoutMillis max wait for a connection from the pool
+     * @param readTimeoutMillis              max wait for response data (socket timeout)
+     * @param idleTimeoutSeconds             idle time after which a pooled connection is closed
+     * @param meterRegistry                  meter registry
+     * @return http client
+     */
+    private CloseableHttpClient createHttpClient(String client, PoolingHttpClientConnectionManager connectionManager,
+                                                 int connectTimeoutMillis, int connectionRequestTimeoutMillis,
+                                                 int readTimeoutMillis, long idleTimeoutSeconds,
+                                                 MeterRegistry meterRegistry) {
+        Counter requests = meterRegistry.counter(REQUESTS_METRIC, CLIENT_TAG, client);
+        HttpRequestInterceptor requestCounter = (request, context) -> requests.increment();
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(connectTimeoutMillis)
+                .setConnectionRequestTimeout(connectionRequestTimeoutMillis)
+                .setSocketTimeout(readTimeoutMillis)
+                .build();
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .addInterceptorFirst(requestCounter)
+                .evictExpiredConnections()
+                .evictIdleConnections(idleTimeoutSeconds, TimeUnit.SECONDS)
+                .build();
     }
 }
@@ -0,0 +1,135 @@
+package com.swivel.ignite.tuition.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.swivel.ignite.tuition.util.TokenDigest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.common.exceptions.InvalidTokenException;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+import org.springframework.security.oauth2.provider.token.AccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.DefaultAccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.ResourceServerTokenServices;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resource server token services that cache the token introspection (check_token) results of the auth service
+ * <p>
+ * Results are keyed by a digest of the token. An entry lives until the token expires or the max TTL is over,
+ * whichever comes first, so a token revoked at the auth service is still accepted for at most the max TTL.
+ * Concurrent misses for the same token share a single introspection and rejected tokens are not cached. Hit,
+ * miss and eviction counts are published as the cache metrics of the "token" cache.
+ * <p>
+ * Entries are only bounded by the token expiry when the delegate extracts authentications with an
+ * {@link ExpiryAccessTokenConverter}.
+ */
+public class CachingResourceServerTokenServices implements ResourceServerTokenServices {
+
+    private static final String CACHE_NAME = "token";
+    private final ResourceServerTokenServices delegate;
+    private final Cache<String, OAuth2Authentication> cache;
+
+    public CachingResourceServerTokenServices(ResourceServerTokenServices delegate, long maxSize,
+                                              long maxTtlSeconds, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry(TimeUnit.SECONDS.toNanos(maxTtlSeconds)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * This method returns the authentication of an access token, introspecting the token on a cache miss.
+     * Every caller gets its own authentication, since the authentication manager sets the request details on it.
+     *
+     * @param accessToken access token
+     * @return authentication
+     * @throws AuthenticationException if the token is not valid
+     * @throws InvalidTokenException   if the token is not valid
+     */
+    @Override
+    public OAuth2Authentication loadAuthentication(String accessToken) throws AuthenticationException,
+            InvalidTokenException {
+        OAuth2Authentication authentication = cache.get(TokenDigest.of(accessToken),
+                key -> delegate.loadAuthentication(accessToken));
+        if (authentication == null)
+            return null;
+        return new OAuth2Authentication(authentication.getOAuth2Request(), authentication.getUserAuthentication());
+    }
+
+    /**
+     * This method reads the access token details (not cached)
+     *
+     * @param accessToken access token
+     * @return access token details
+     */
+    @Override
+    public OAuth2AccessToken readAccessToken(String accessToken) {
+        return delegate.readAccessToken(accessToken);
+    }
+
+    /**
+     * Expires a cached authentication when its token expires or after the max TTL
+     */
+    private static final class TokenExpiry implements Expiry<String, OAuth2Authentication> {
+
+        private final long maxTtlNanos;
+
+        private TokenExpiry(long maxTtlNanos) {
+            this.maxTtlNanos = maxTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, OAuth2Authentication authentication, long currentTime) {
+            Serializable expiresAt = authentication.getOAuth2Request().getExtensions().get(AccessTokenConverter.EXP);
+            if (!(expiresAt instanceof Long))
+                return maxTtlNanos;
+            long untilExpiryMillis = TimeUnit.SECONDS.toMillis((Long) expiresAt) - System.currentTimeMillis();
+            return Math.max(0, Math.min(maxTtlNanos, TimeUnit.MILLISECONDS.toNanos(untilExpiryMillis)));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, OAuth2Authentication authentication, long currentTime,
+                                      long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, OAuth2Authentication authentication, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * Access token converter that keeps the expiry (exp, epoch seconds) of the introspected token as an
+     * extension of the OAuth2 request, which the default converter drops
+     */
+    public static class ExpiryAccessTokenConverter extends DefaultAccessTokenConverter {
+
+        @Override
+        public OAuth2Authentication extractAuthentication(Map<String, ?> map) {
+            OAuth2Authentication authentication = super.extractAuthentication(map);
+            Object expiresAt = map.get(EXP);
+            if (!(expiresAt instanceof Number))
+                return authentication;
+            OAuth2Request request = authentication.getOAuth2Request();
+            Map<String, Serializable> extensions = new HashMap<>(request.getExtensions());
+            extensions.put(EXP, ((Number) expiresAt).longValue());
+            OAuth2Request requestWithExpiry = new OAuth2Request(request.getRequestParameters(),
+                    request.getClientId(), request.getAuthorities(), request.isApproved(), request.getScope(),
+                    request.getResourceIds(), request.getRedirectUri(), request.getResponseTypes(), extensions);
+            return new OAuth2Authentication(requestWithExpiry, authentication.getUserAuthentication());
+        }
+    }
+}
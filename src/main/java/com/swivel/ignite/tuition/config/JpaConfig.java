@@ -0,0 +1,33 @@
+package com.swivel.ignite.tuition.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.loader.BatchFetchStyle;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+/**
+ * Hibernate configuration of the tuition entities
+ * <p>
+ * Lazy collections (the student ids of a tuition) are batch fetched with a batch size of the maximum page size,
+ * so initializing the collections of a tuition page takes one statement whatever the configured page limit is.
+ * Batches are padded to a few fixed sizes, so a partial page also takes one statement without preparing a new
+ * statement for every page size.
+ */
+@Configuration
+public class JpaConfig implements HibernatePropertiesCustomizer {
+
+    private final int maxPageSize;
+
+    public JpaConfig(@Value("${tuition.page.maxSize}") int maxPageSize) {
+        this.maxPageSize = maxPageSize;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, maxPageSize);
+        hibernateProperties.put(AvailableSettings.BATCH_FETCH_STYLE, BatchFetchStyle.PADDED);
+    }
+}
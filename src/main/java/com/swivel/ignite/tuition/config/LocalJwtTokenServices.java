@@ -0,0 +1,88 @@
+package com.swivel.ignite.tuition.config;
+
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.token.DefaultAccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.DefaultTokenServices;
+import org.springframework.security.oauth2.provider.token.TokenStore;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.store.JwtTokenStore;
+import org.springframework.security.oauth2.provider.token.store.jwk.JwkTokenStore;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Resource server token services that verify signed JWT access tokens locally, without calling the auth service
+ * <p>
+ * The signature is verified with the configured public key (PEM) or with the keys of a JWK set, which may be a
+ * local file (file: URL). Expired tokens are rejected, and the authorities (ADMIN, STUDENT) are read from the
+ * configured claim, either a list or a space/ comma separated string.
+ */
+public class LocalJwtTokenServices extends DefaultTokenServices {
+
+    public LocalJwtTokenServices(String publicKey, String jwkSetUri, String authoritiesClaim) {
+        ClaimAuthoritiesAccessTokenConverter accessTokenConverter =
+                new ClaimAuthoritiesAccessTokenConverter(authoritiesClaim);
+        setTokenStore(createTokenStore(publicKey, jwkSetUri, accessTokenConverter));
+    }
+
+    /**
+     * This method creates the token store that decodes and verifies the access tokens
+     *
+     * @param publicKey            public key (PEM) of the auth service
+     * @param jwkSetUri            JWK set uri of the auth service (preferred over the public key when set)
+     * @param accessTokenConverter converter of the verified claims
+     * @return token store
+     */
+    private static TokenStore createTokenStore(String publicKey, String jwkSetUri,
+                                               DefaultAccessTokenConverter accessTokenConverter) {
+        if (jwkSetUri != null && !jwkSetUri.isEmpty())
+            return new JwkTokenStore(jwkSetUri, accessTokenConverter);
+        if (publicKey == null || publicKey.isEmpty())
+            throw new IllegalStateException("A JWT public key or JWK set uri is required to verify tokens locally");
+        JwtAccessTokenConverter jwtAccessTokenConverter = new JwtAccessTokenConverter();
+        jwtAccessTokenConverter.setAccessTokenConverter(accessTokenConverter);
+        jwtAccessTokenConverter.setVerifierKey(publicKey);
+        try {
+            jwtAccessTokenConverter.afterPropertiesSet();
+        } catch (Exception e) {
+            throw new IllegalStateException("Invalid JWT public key", e);
+        }
+        return new JwtTokenStore(jwtAccessTokenConverter);
+    }
+
+    /**
+     * Access token converter that reads the authorities from a configurable claim
+     */
+    static class ClaimAuthoritiesAccessTokenConverter extends DefaultAccessTokenConverter {
+
+        private final String authoritiesClaim;
+
+        ClaimAuthoritiesAccessTokenConverter(String authoritiesClaim) {
+            this.authoritiesClaim = authoritiesClaim;
+        }
+
+        @Override
+        public OAuth2Authentication extractAuthentication(Map<String, ?> map) {
+            if (AUTHORITIES.equals(authoritiesClaim) || !map.containsKey(authoritiesClaim))
+                return super.extractAuthentication(map);
+            Map<String, Object> claims = new HashMap<>(map);
+            claims.put(AUTHORITIES, getAuthorities(map.get(authoritiesClaim)));
+            return super.extractAuthentication(claims);
+        }
+
+        /**
+         * This method returns the authorities of an authorities claim
+         *
+         * @param claim list or space/ comma separated string of authorities
+         * @return authorities
+         */
+        private List<String> getAuthorities(Object claim) {
+            if (claim instanceof Collection)
+                return ((Collection<?>) claim).stream().map(String::valueOf).collect(Collectors.toList());
+            return Arrays.stream(String.valueOf(claim).split("[\\s,]+"))
+                    .filter(authority -> !authority.isEmpty())
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.swivel.ignite.tuition.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+
+/**
+ * Circuit breaker and bulkhead configuration of the student and payment microservice calls
+ * <p>
+ * A circuit breaker opens when too many calls of its dependency fail or are slow, and then rejects calls
+ * until the wait in open state is over. A bulkhead caps the concurrent calls of its dependency, so that a
+ * slow dependency cannot hold every request thread. Client errors (4xx) are answers of a healthy dependency,
+ * so they do not count as failures. State, call and bulkhead metrics are published as resilience4j.* meters
+ * and state changes are counted by resilience4j.circuitbreaker.state.transitions (tagged by name, from, to).
+ */
+@Slf4j
+@Configuration
+public class ResilienceConfig {
+
+    public static final String STUDENT_CIRCUIT_BREAKER = "studentCircuitBreaker";
+    public static final String PAYMENT_CIRCUIT_BREAKER = "paymentCircuitBreaker";
+    public static final String STUDENT_BULKHEAD = "studentBulkhead";
+    public static final String PAYMENT_BULKHEAD = "paymentBulkhead";
+    private static final String STUDENT = "student";
+    private static final String PAYMENT = "payment";
+    private static final String STATE_TRANSITIONS_METRIC = "resilience4j.circuitbreaker.state.transitions";
+    private static final String NAME_TAG = "name";
+    private static final String FROM_TAG = "from";
+    private static final String TO_TAG = "to";
+
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry(MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.ofDefaults();
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    public BulkheadRegistry bulkheadRegistry(MeterRegistry meterRegistry) {
+        BulkheadRegistry registry = BulkheadRegistry.ofDefaults();
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean(name = STUDENT_CIRCUIT_BREAKER)
+    public CircuitBreaker studentCircuitBreaker(
+            CircuitBreakerRegistry registry, MeterRegistry meterRegistry,
+            @Value("${student.resilience.failureRateThreshold}") float failureRateThreshold,
+            @Value("${student.resilience.slowCallRateThreshold}") float slowCallRateThreshold,
+            @Value("${student.resilience.slowCallDurationMillis}") long slowCallDurationMillis,
+            @Value("${student.resilience.slidingWindowSize}") int slidingWindowSize,
+            @Value("${student.resilience.minimumNumberOfCalls}") int minimumNumberOfCalls,
+            @Value("${student.resilience.waitInOpenStateSeconds}") long waitInOpenStateSeconds,
+            @Value("${student.resilience.permittedCallsInHalfOpenState}") int permittedCallsInHalfOpenState) {
+        CircuitBreakerConfig config = createCircuitBreakerConfig(failureRateThreshold, slowCallRateThreshold,
+                slowCallDurationMillis, slidingWindowSize, minimumNumberOfCalls, waitInOpenStateSeconds,
+                permittedCallsInHalfOpenState);
+        return createCircuitBreaker(registry, STUDENT, config, meterRegistry);
+    }
+
+    @Bean(name = PAYMENT_CIRCUIT_BREAKER)
+    public CircuitBreaker paymentCircuitBreaker(
+            CircuitBreakerRegistry registry, MeterRegistry meterRegistry,
+            @Value("${payment.resilience.failureRateThreshold}") float failureRateThreshold,
+            @Value("${payment.resilience.slowCallRateThreshold}") float slowCallRateThreshold,
+            @Value("${payment.resilience.slowCallDurationMillis}") long slowCallDurationMillis,
+            @Value("${payment.resilience.slidingWindowSize}") int slidingWindowSize,
+            @Value("${payment.resilience.minimumNumberOfCalls}") int minimumNumberOfCalls,
+            @Value("${payment.resilience.waitInOpenStateSeconds}") long waitInOpenStateSeconds,
+            @Value("${payment.resilience.permittedCallsInHalfOpenState}") int permittedCallsInHalfOpenState) {
+        CircuitBreakerConfig config = createCircuitBreakerConfig(failureRateThreshold, slowCallRateThreshold,
+                slowCallDurationMillis, slidingWindowSize, minimumNumberOfCalls, waitInOpenStateSeconds,
+                permittedCallsInHalfOpenState);
+        return createCircuitBreaker(registry, PAYMENT, config, meterRegistry);
+    }
+
+    @Bean(name = STUDENT_BULKHEAD)
+    public Bulkhead studentBulkhead(BulkheadRegistry registry,
+                                    @Value("${student.resilience.maxConcurrentCalls}") int maxConcurrentCalls,
+                                    @Value("${student.resilience.maxWaitMillis}") long maxWaitMillis) {
+        return registry.bulkhead(STUDENT, createBulkheadConfig(maxConcurrentCalls, maxWaitMillis));
+    }
+
+    @Bean(name = PAYMENT_BULKHEAD)
+    public Bulkhead paymentBulkhead(BulkheadRegistry registry,
+                                    @Value("${payment.resilience.maxConcurrentCalls}") int maxConcurrentCalls,
+                                    @Value("${payment.resilience.maxWaitMillis}") long maxWaitMillis) {
+        return registry.bulkhead(PAYMENT, createBulkheadConfig(maxConcurrentCalls, maxWaitMillis));
+    }
+
+    /**
+     * This method creates a count based circuit breaker config. A full bulkhead says nothing about the health
+     * of the dependency, so it is ignored like client errors.
+     *
+     * @param failureRateThreshold          failure rate (%) that opens the circuit
+     * @param slowCallRateThreshold         slow call rate (%) that opens the circuit
+     * @param slowCallDurationMillis        duration after which a call is slow
+     * @param slidingWindowSize             number of recent calls the rates are computed on
+     * @param minimumNumberOfCalls          number of calls before the rates are computed
+     * @param waitInOpenStateSeconds        time the circuit stays open before calls are let through again
+     * @param permittedCallsInHalfOpenState number of trial calls when half open
+     * @return circuit breaker config
+     */
+    private CircuitBreakerConfig createCircuitBreakerConfig(float failureRateThreshold, float slowCallRateThreshold,
+                                                            long slowCallDurationMillis, int slidingWindowSize,
+                                                            int minimumNumberOfCalls, long waitInOpenStateSeconds,
+                                                            int permittedCallsInHalfOpenState) {
+        return CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallDurationMillis))
+                .waitDurationInOpenState(Duration.ofSeconds(waitInOpenStateSeconds))
+                .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpenState)
+                .ignoreExceptions(HttpClientErrorException.class, BulkheadFullException.class)
+                .build();
+    }
+
+    /**
+     * This method creates a semaphore bulkhead config
+     *
+     * @param maxConcurrentCalls max concurrent calls
+     * @param maxWaitMillis      max wait for a free call slot before the call is rejected
+     * @return bulkhead config
+     */
+    private BulkheadConfig createBulkheadConfig(int maxConcurrentCalls, long maxWaitMillis) {
+        return BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ofMillis(maxWaitMillis))
+                .build();
+    }
+
+    /**
+     * This method creates a circuit breaker that logs and counts its state transitions
+     *
+     * @param registry      circuit breaker registry
+     * @param name          dependency name
+     * @param config        circuit breaker config
+     * @param meterRegistry meter registry
+     * @return circuit breaker
+     */
+    private CircuitBreaker createCircuitBreaker(CircuitBreakerRegistry registry, String name,
+                                                CircuitBreakerConfig config, MeterRegistry meterRegistry) {
+        CircuitBreaker circuitBreaker = registry.circuitBreaker(name, config);
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            CircuitBreaker.StateTransition transition = event.getStateTransition();
+            log.warn("Circuit breaker: {} changed state from {} to {}", name, transition.getFromState(),
+                    transition.getToState());
+            meterRegistry.counter(STATE_TRANSITIONS_METRIC, NAME_TAG, name, FROM_TAG,
+                    transition.getFromState().name(), TO_TAG, transition.getToState().name()).increment();
+        });
+        return circuitBreaker;
+    }
+}
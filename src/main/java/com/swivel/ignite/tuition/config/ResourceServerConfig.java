@@ -1,22 +1,34 @@
 package com.swivel.ignite.tuition.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.oauth2.config.annotation.web.configuration.EnableResourceServer;
 import org.springframework.security.oauth2.config.annotation.web.configuration.ResourceServerConfigurerAdapter;
 import org.springframework.security.oauth2.config.annotation.web.configurers.ResourceServerSecurityConfigurer;
+import org.springframework.security.oauth2.provider.token.RemoteTokenServices;
+import org.springframework.security.oauth2.provider.token.ResourceServerTokenServices;
 
 /**
  * Resource Server Configuration
+ * <p>
+ * By default access tokens are introspected by the check_token endpoint of the auth service and the results are
+ * cached (see {@link CachingResourceServerTokenServices}), so a request with a known token does not wait for the
+ * auth service. With oauth.jwt.enabled the access tokens are signed JWTs that are verified locally (see
+ * {@link LocalJwtTokenServices}), so no request waits for the auth service.
  */
 @Configuration
 @EnableResourceServer
 public class ResourceServerConfig extends ResourceServerConfigurerAdapter {
 
     private static final String TUITION_ENDPOINT = "/api/v1/tuition/**";
+    private static final String TUITION_EXPORT_ENDPOINT = "/api/v1/tuition/export";
+    private static final String TUITION_LIST_ENDPOINT = "/api/v1/tuition/get/list";
     private final String resourceId;
 
     @Autowired
@@ -24,6 +36,53 @@ public class ResourceServerConfig extends ResourceServerConfigurerAdapter {
         this.resourceId = resourceId;
     }
 
+    /**
+     * This method creates the token services of the resource server that introspect tokens remotely, which
+     * replace the default remote token services of the auto configuration
+     *
+     * @param tokenInfoUri  check_token endpoint of the auth service
+     * @param clientId      client id of this service at the auth service
+     * @param clientSecret  client secret of this service at the auth service
+     * @param maxSize       max cached tokens
+     * @param maxTtlSeconds max time an introspection result is cached
+     * @param meterRegistry meter registry
+     * @return caching token services
+     */
+    @Bean
+    @ConditionalOnProperty(name = "oauth.jwt.enabled", havingValue = "false", matchIfMissing = true)
+    public ResourceServerTokenServices tokenServices(
+            @Value("${security.oauth2.resource.token-info-uri}") String tokenInfoUri,
+            @Value("${security.oauth2.client.client-id}") String clientId,
+            @Value("${security.oauth2.client.client-secret}") String clientSecret,
+            @Value("${oauth.token-cache.max-size}") long maxSize,
+            @Value("${oauth.token-cache.max-ttl-seconds}") long maxTtlSeconds,
+            MeterRegistry meterRegistry) {
+        RemoteTokenServices remoteTokenServices = new RemoteTokenServices();
+        remoteTokenServices.setCheckTokenEndpointUrl(tokenInfoUri);
+        remoteTokenServices.setClientId(clientId);
+        remoteTokenServices.setClientSecret(clientSecret);
+        remoteTokenServices.setAccessTokenConverter(
+                new CachingResourceServerTokenServices.ExpiryAccessTokenConverter());
+        return new CachingResourceServerTokenServices(remoteTokenServices, maxSize, maxTtlSeconds, meterRegistry);
+    }
+
+    /**
+     * This method creates the token services of the resource server that verify signed JWT access tokens locally
+     *
+     * @param publicKey        public key (PEM) of the auth service
+     * @param jwkSetUri        JWK set uri of the auth service, e.g. file:/etc/ignite/jwks.json
+     * @param authoritiesClaim claim of the authorities
+     * @return local JWT token services
+     */
+    @Bean
+    @ConditionalOnProperty(name = "oauth.jwt.enabled", havingValue = "true")
+    public ResourceServerTokenServices jwtTokenServices(
+            @Value("${oauth.jwt.public-key}") String publicKey,
+            @Value("${oauth.jwt.jwk-set-uri}") String jwkSetUri,
+            @Value("${oauth.jwt.authorities-claim}") String authoritiesClaim) {
+        return new LocalJwtTokenServices(publicKey, jwkSetUri, authoritiesClaim);
+    }
+
     /**
      * Configure a resource id for resource server APIs
      *
@@ -45,7 +104,10 @@ public class ResourceServerConfig extends ResourceServerConfigurerAdapter {
     @Override
     public void configure(HttpSecurity http) throws Exception {
         http.authorizeRequests()
+                // reading tuition by ids is a POST, so it has to be matched before the admin only POST endpoints
+                .antMatchers(HttpMethod.POST, TUITION_LIST_ENDPOINT).access("hasAnyAuthority('ADMIN', 'STUDENT')")
                 .antMatchers(HttpMethod.POST, TUITION_ENDPOINT).access("hasAuthority('ADMIN')")
+                .antMatchers(HttpMethod.GET, TUITION_EXPORT_ENDPOINT).access("hasAuthority('ADMIN')")
                 .antMatchers(HttpMethod.GET, TUITION_ENDPOINT).access("hasAnyAuthority('ADMIN', 'STUDENT')")
                 .antMatchers(HttpMethod.DELETE, TUITION_ENDPOINT).access("hasAuthority('ADMIN')")
                 .antMatchers("/v2/api-docs", "/configuration/ui", "/swagger-resources/**",
@@ -0,0 +1,67 @@
+package com.swivel.ignite.tuition.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.oauth2.client.resource.OAuth2ProtectedResourceDetails;
+import org.springframework.security.oauth2.client.token.AccessTokenProvider;
+import org.springframework.security.oauth2.client.token.DefaultAccessTokenRequest;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access token of this service (client credentials grant) for the calls that are not made on behalf of a request
+ * <p>
+ * The outbox delivers its calls long after the request that recorded them, when the access token of that request
+ * may have expired, so the calls are authorized with a token of the service itself. The token is obtained from
+ * the auth service on first use and reused until it is about to expire or a downstream service rejects it.
+ */
+@Slf4j
+public class ServiceTokenProvider {
+
+    private final OAuth2ProtectedResourceDetails resourceDetails;
+    private final AccessTokenProvider accessTokenProvider;
+    private final long expiryMarginMillis;
+    private OAuth2AccessToken accessToken;
+
+    public ServiceTokenProvider(OAuth2ProtectedResourceDetails resourceDetails,
+                                AccessTokenProvider accessTokenProvider, long expiryMarginSeconds) {
+        this.resourceDetails = resourceDetails;
+        this.accessTokenProvider = accessTokenProvider;
+        this.expiryMarginMillis = TimeUnit.SECONDS.toMillis(expiryMarginSeconds);
+    }
+
+    /**
+     * This method returns the access token of the service as an authorization header value, obtaining a new token
+     * if there is none yet or the current one expires within the expiry margin
+     *
+     * @return bearer token
+     * @throws org.springframework.security.oauth2.common.exceptions.OAuth2Exception if no token could be obtained
+     */
+    public synchronized String getToken() {
+        if (accessToken == null || isExpiring(accessToken)) {
+            log.debug("Obtaining the service access token. url: {}", resourceDetails.getAccessTokenUri());
+            accessToken = accessTokenProvider.obtainAccessToken(resourceDetails, new DefaultAccessTokenRequest());
+        }
+        return OAuth2AccessToken.BEARER_TYPE + " " + accessToken.getValue();
+    }
+
+    /**
+     * This method drops the current access token, so the next call obtains a new one. It is called when a
+     * downstream service rejects the token (revoked before its expiry).
+     */
+    public synchronized void invalidate() {
+        accessToken = null;
+    }
+
+    /**
+     * This method checks if the token expires within the expiry margin
+     *
+     * @param token access token
+     * @return true/false
+     */
+    private boolean isExpiring(OAuth2AccessToken token) {
+        Date expiration = token.getExpiration();
+        return expiration != null && expiration.getTime() - expiryMarginMillis <= System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,84 @@
+package com.swivel.ignite.tuition.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Non-blocking web client configuration for the reactive student and payment microservice clients
+ * <p>
+ * Each service gets its own Reactor Netty connection pool, sized and timed out like the pool of its blocking
+ * client (see {@link BaseConfig}), so both client paths can be compared under the same limits. Pool usage is
+ * exposed as reactor.netty.connection.provider.* gauges tagged with the pool name, next to the
+ * httpcomponents.httpclient.pool.* gauges of the blocking pools. The response timeout is applied per call by the
+ * reactive services.
+ */
+@Configuration
+public class WebClientConfig {
+
+    public static final String STUDENT_WEB_CLIENT = "studentWebClient";
+    public static final String PAYMENT_WEB_CLIENT = "paymentWebClient";
+    private static final String STUDENT_CLIENT = "student";
+    private static final String PAYMENT_CLIENT = "payment";
+
+    @Bean(name = STUDENT_WEB_CLIENT)
+    public WebClient studentWebClient(
+            WebClient.Builder webClientBuilder,
+            @Value("${student.baseUrl}") String baseUrl,
+            @Value("${student.http.maxConnections}") int maxConnections,
+            @Value("${student.http.connectTimeoutMillis}") int connectTimeoutMillis,
+            @Value("${student.http.connectionRequestTimeoutMillis}") long connectionRequestTimeoutMillis,
+            @Value("${student.http.idleTimeoutSeconds}") long idleTimeoutSeconds) {
+        return createWebClient(webClientBuilder, STUDENT_CLIENT, baseUrl, maxConnections, connectTimeoutMillis,
+                connectionRequestTimeoutMillis, idleTimeoutSeconds);
+    }
+
+    @Bean(name = PAYMENT_WEB_CLIENT)
+    public WebClient paymentWebClient(
+            WebClient.Builder webClientBuilder,
+            @Value("${payment.baseUrl}") String baseUrl,
+            @Value("${payment.http.maxConnections}") int maxConnections,
+            @Value("${payment.http.connectTimeoutMillis}") int connectTimeoutMillis,
+            @Value("${payment.http.connectionRequestTimeoutMillis}") long connectionRequestTimeoutMillis,
+            @Value("${payment.http.idleTimeoutSeconds}") long idleTimeoutSeconds) {
+        return createWebClient(webClientBuilder, PAYMENT_CLIENT, baseUrl, maxConnections, connectTimeoutMillis,
+                connectionRequestTimeoutMillis, idleTimeoutSeconds);
+    }
+
+    /**
+     * This method creates a web client on its own bounded keep-alive connection pool with pool metrics
+     *
+     * @param webClientBuilder               web client builder (with the application codecs)
+     * @param client                         client name (pool name)
+     * @param baseUrl                        base url of the microservice
+     * @param maxConnections                 max connections of the pool
+     * @param connectTimeoutMillis           TCP connect timeout
+     * @param connectionRequestTimeoutMillis max wait for a connection from the pool
+     * @param idleTimeoutSeconds             idle time after which a pooled connection is closed
+     * @return web client
+     */
+    private WebClient createWebClient(WebClient.Builder webClientBuilder, String client, String baseUrl,
+                                      int maxConnections, int connectTimeoutMillis,
+                                      long connectionRequestTimeoutMillis, long idleTimeoutSeconds) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(client)
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(connectionRequestTimeoutMillis))
+                .maxIdleTime(Duration.ofSeconds(idleTimeoutSeconds))
+                .metrics(true)
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .tcpConfiguration(tcpClient -> tcpClient.option(ChannelOption.CONNECT_TIMEOUT_MILLIS,
+                        connectTimeoutMillis));
+        return webClientBuilder.clone()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
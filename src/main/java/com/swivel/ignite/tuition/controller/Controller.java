@@ -9,9 +9,12 @@ import com.swivel.ignite.tuition.wrapper.ErrorResponseWrapper;
 import com.swivel.ignite.tuition.wrapper.ResponseWrapper;
 import com.swivel.ignite.tuition.wrapper.RestErrorResponseWrapper;
 import com.swivel.ignite.tuition.wrapper.SuccessResponseWrapper;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.Arrays;
+
 /**
  * Base Controller
  */
@@ -19,7 +22,9 @@ public class Controller {
 
     protected static final String AUTH_HEADER = "Authorization";
     private static final String ERROR_MESSAGE = "Oops!! Something went wrong. Please try again.";
-    private static final String SUCCESS_MESSAGE = "Successfully returned the data.";
+    private static final String SUCCESS_MESSAGE = SuccessResponseWrapper.DISPLAY_MESSAGE;
+    private static final String WEAK_ETAG_PREFIX = "W/";
+    private static final String ANY_ETAG = "*";
 
     /**
      * This method creates an empty data response for bad request scenarios
@@ -70,4 +75,49 @@ public class Controller {
                 data, SUCCESS_MESSAGE, status.getCode());
         return new ResponseEntity<>(responseWrapper, HttpStatus.valueOf(status.getCode()));
     }
+
+    /**
+     * This method creates data response for success scenarios with an ETag of the data
+     *
+     * @param status success status
+     * @param data   response data
+     * @param eTag   ETag of the data
+     * @return success response
+     */
+    protected ResponseEntity<ResponseWrapper> getSuccessResponse(SuccessResponseStatusType status, ResponseDto data,
+                                                                 String eTag) {
+        ResponseWrapper responseWrapper = new SuccessResponseWrapper(ResponseStatusType.SUCCESS, status.getMessage(),
+                data, SUCCESS_MESSAGE, status.getCode());
+        HttpHeaders headers = new HttpHeaders();
+        if (eTag != null)
+            headers.setETag(eTag);
+        return new ResponseEntity<>(responseWrapper, headers, HttpStatus.valueOf(status.getCode()));
+    }
+
+    /**
+     * This method creates an empty 304 response for conditional reads of unchanged data
+     *
+     * @param eTag current ETag of the data
+     * @return not modified response
+     */
+    protected ResponseEntity<ResponseWrapper> getNotModifiedResponse(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+    }
+
+    /**
+     * This method checks if an If-None-Match header matches the current ETag (weak comparison as required
+     * for If-None-Match)
+     *
+     * @param ifNoneMatch If-None-Match header (null if absent)
+     * @param eTag        current ETag
+     * @return true if the client has the current data
+     */
+    protected boolean isNotModified(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || eTag == null)
+            return false;
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith(WEAK_ETAG_PREFIX) ? tag.substring(WEAK_ETAG_PREFIX.length()) : tag)
+                .anyMatch(tag -> tag.equals(ANY_ETAG) || tag.equals(eTag));
+    }
 }
@@ -1,40 +1,107 @@
 package com.swivel.ignite.tuition.controller;
 
+import com.swivel.ignite.tuition.cache.TuitionCatalogueCache;
+import com.swivel.ignite.tuition.cache.TuitionCatalogueCache.CataloguePage;
+import com.swivel.ignite.tuition.cache.TuitionVersions;
+import com.swivel.ignite.tuition.config.BaseConfig;
+import com.swivel.ignite.tuition.dto.request.StudentIdListRequestDto;
 import com.swivel.ignite.tuition.dto.request.TuitionCreateRequestDto;
+import com.swivel.ignite.tuition.dto.request.TuitionIdListRequestDto;
 import com.swivel.ignite.tuition.dto.response.StudentResponseDto;
-import com.swivel.ignite.tuition.dto.response.TuitionListResponseDto;
+import com.swivel.ignite.tuition.dto.response.TuitionBulkCreateResponseDto;
+import com.swivel.ignite.tuition.dto.response.TuitionBulkCreateResultDto;
+import com.swivel.ignite.tuition.dto.response.TuitionMultiGetResponseDto;
 import com.swivel.ignite.tuition.dto.response.TuitionResponseDto;
+import com.swivel.ignite.tuition.dto.response.TuitionStudentBulkResponseDto;
+import com.swivel.ignite.tuition.dto.response.TuitionStudentBulkResultDto;
+import com.swivel.ignite.tuition.dto.response.TuitionSummaryPageResponseDto;
 import com.swivel.ignite.tuition.entity.Tuition;
+import com.swivel.ignite.tuition.enums.BulkItemStatusType;
 import com.swivel.ignite.tuition.enums.ErrorResponseStatusType;
 import com.swivel.ignite.tuition.enums.SuccessResponseStatusType;
+import com.swivel.ignite.tuition.repository.TuitionSummary;
+import com.swivel.ignite.tuition.service.ReactiveStudentService;
 import com.swivel.ignite.tuition.service.StudentService;
+import com.swivel.ignite.tuition.service.TuitionEnrollmentService;
 import com.swivel.ignite.tuition.service.TuitionService;
+import com.swivel.ignite.tuition.util.PageCursor;
+import com.swivel.ignite.tuition.util.TuitionId;
 import com.swivel.ignite.tuition.wrapper.ResponseWrapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Tuition Controller
+ * <p>
+ * The enrollment and delete endpoints have async variants (/async/...) that release the servlet thread while the
+ * flow runs. The student is read on the non-blocking student client and the tuition on the tuition request
+ * executor (which carries over the security context), and the change runs on the async flows of the
+ * {@link TuitionService}. The access token is read on the servlet thread. A flow that does not finish within the
+ * async timeout gets an error response, although its changes may still be committed.
+ * <p>
+ * The tuition reads return strong ETags (the tuition version, or the catalogue version for lists) and answer a
+ * matching If-None-Match with 304. When the version is known in memory, the 304 is returned without a DB read.
+ * <p>
+ * Get all tuition pages are written from the pre-serialized bytes of the tuition catalogue cache, gzip encoded
+ * when the client accepts gzip.
  */
 @RestController
 @RequestMapping("api/v1/tuition")
 @Slf4j
 public class TuitionController extends Controller {
 
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    private static final String GZIP_ENCODING = "gzip";
+    private static final String ANY_ENCODING = "*";
+    private static final String ZERO_QUALITY = "q=0";
     private final TuitionService tuitionService;
     private final StudentService studentService;
+    private final ReactiveStudentService reactiveStudentService;
+    private final TuitionEnrollmentService tuitionEnrollmentService;
+    private final TuitionCatalogueCache tuitionCatalogueCache;
+    private final int maxBulkSize;
+    private final Executor requestExecutor;
+    private final long asyncTimeoutMillis;
 
     @Autowired
-    public TuitionController(TuitionService tuitionService, StudentService studentService) {
+    public TuitionController(TuitionService tuitionService, StudentService studentService,
+                             ReactiveStudentService reactiveStudentService,
+                             TuitionEnrollmentService tuitionEnrollmentService,
+                             TuitionCatalogueCache tuitionCatalogueCache,
+                             @Value("${tuition.bulk.maxSize}") int maxBulkSize,
+                             @Qualifier(BaseConfig.TUITION_REQUEST_EXECUTOR) Executor requestExecutor,
+                             @Value("${tuition.async.timeoutMillis}") long asyncTimeoutMillis) {
         this.tuitionService = tuitionService;
         this.studentService = studentService;
+        this.reactiveStudentService = reactiveStudentService;
+        this.tuitionEnrollmentService = tuitionEnrollmentService;
+        this.tuitionCatalogueCache = tuitionCatalogueCache;
+        this.maxBulkSize = maxBulkSize;
+        this.requestExecutor = requestExecutor;
+        this.asyncTimeoutMillis = asyncTimeoutMillis;
     }
 
     /**
@@ -56,18 +123,82 @@ public class TuitionController extends Controller {
         return getSuccessResponse(SuccessResponseStatusType.CREATE_TUITION, responseDto);
     }
 
+    /**
+     * This method creates a list of tuition classes in one request
+     *
+     * @param requestDtoList tuition create request dto list
+     * @return success(per item results)/ error response
+     */
+    @PostMapping(path = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ResponseWrapper> createTuitionList(@RequestBody List<TuitionCreateRequestDto> requestDtoList) {
+        if (requestDtoList == null || requestDtoList.isEmpty()) {
+            log.error("Required fields missing in tuition bulk create request for creating tuition");
+            return getBadRequestResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS);
+        }
+        if (requestDtoList.size() > maxBulkSize) {
+            log.error("Tuition bulk create request of size: {} exceeds the limit: {}", requestDtoList.size(),
+                    maxBulkSize);
+            return getBadRequestResponse(ErrorResponseStatusType.TOO_MANY_ITEMS);
+        }
+        List<TuitionBulkCreateResultDto> results = tuitionService.createTuitions(requestDtoList);
+        TuitionBulkCreateResponseDto responseDto = new TuitionBulkCreateResponseDto(results);
+        log.debug("Created {} of {} tuition in bulk", responseDto.getCreatedCount(), results.size());
+        return getSuccessResponse(SuccessResponseStatusType.BULK_CREATE_TUITION, responseDto);
+    }
+
     /**
      * This method returns a tuition class by id
      *
-     * @param id tuition class id
-     * @return success(tuition response)/ error response
+     * @param id          tuition class id
+     * @param ifNoneMatch ETag(s) of the tuition held by the client
+     * @return success(tuition response)/ not modified/ error response
      */
     @GetMapping(path = "/get/{tuitionId}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<ResponseWrapper> getTuitionById(@PathVariable(name = "tuitionId") String id) {
+    public ResponseEntity<ResponseWrapper> getTuitionById(
+            @PathVariable(name = "tuitionId") String id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String knownETag = tuitionService.getETag(id);
+        if (isNotModified(ifNoneMatch, knownETag)) {
+            log.debug("Tuition of id: {} not modified", id);
+            return getNotModifiedResponse(knownETag);
+        }
         Tuition tuition = tuitionService.findById(id);
+        String eTag = TuitionVersions.toETag(tuition.getVersion());
+        if (isNotModified(ifNoneMatch, eTag))
+            return getNotModifiedResponse(eTag);
         TuitionResponseDto responseDto = new TuitionResponseDto(tuition);
         log.debug("Successfully returned the tuition {}", responseDto.toLogJson());
-        return getSuccessResponse(SuccessResponseStatusType.READ_TUITION, responseDto);
+        return getSuccessResponse(SuccessResponseStatusType.READ_TUITION, responseDto, eTag);
+    }
+
+    /**
+     * This method returns many tuition classes by id in one call. Ids that do not belong to a tuition are
+     * reported as missing instead of failing the request.
+     *
+     * @param requestDto tuition id list request dto
+     * @return success(tuition list and missing ids)/ error response
+     */
+    @PostMapping(path = "/get/list", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ResponseWrapper> getTuitionListById(@RequestBody TuitionIdListRequestDto requestDto) {
+        if (!requestDto.isRequiredAvailable()) {
+            log.error("Required fields missing in tuition id list request DTO for getting tuition list");
+            return getBadRequestResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS);
+        }
+        if (requestDto.getTuitionIds().size() > maxBulkSize) {
+            log.error("Getting {} tuition exceeds the limit: {}", requestDto.getTuitionIds().size(), maxBulkSize);
+            return getBadRequestResponse(ErrorResponseStatusType.TOO_MANY_ITEMS);
+        }
+        Map<String, Tuition> tuitionMap = tuitionService.findAllById(requestDto.getTuitionIds());
+        List<String> missingIds = requestDto.getTuitionIds().stream()
+                .distinct()
+                .filter(id -> !tuitionMap.containsKey(id))
+                .collect(Collectors.toList());
+        TuitionMultiGetResponseDto responseDto = new TuitionMultiGetResponseDto(
+                new ArrayList<>(tuitionMap.values()), missingIds);
+        log.debug("Returned {} tuition, missing ids: {}", tuitionMap.size(), missingIds);
+        return getSuccessResponse(SuccessResponseStatusType.READ_TUITION_LIST, responseDto);
     }
 
     /**
@@ -77,26 +208,168 @@ public class TuitionController extends Controller {
      * @return success/ error response
      */
     @DeleteMapping(path = "/delete/{tuitionId}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<ResponseWrapper> deleteTuition(@PathVariable(name = "tuitionId") String tuitionId,
-                                                         HttpServletRequest request) {
-        String token = request.getHeader(AUTH_HEADER);
+    public ResponseEntity<ResponseWrapper> deleteTuition(@PathVariable(name = "tuitionId") String tuitionId) {
         Tuition tuition = tuitionService.findById(tuitionId);
-        tuitionService.deleteTuition(tuition, token);
+        tuitionService.deleteTuition(tuition);
         log.debug("Deleted tuition of id: {}", tuitionId);
         return getSuccessResponse(SuccessResponseStatusType.DELETE_TUITION, null);
     }
 
     /**
-     * This method is used to get all tuition
+     * This method deletes a tuition class by id without holding the servlet thread
+     *
+     * @param tuitionId tuitionId
+     * @return success/ error response
+     */
+    @DeleteMapping(path = "/async/delete/{tuitionId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public CompletableFuture<ResponseEntity<ResponseWrapper>> deleteTuitionAsync(
+            @PathVariable(name = "tuitionId") String tuitionId) {
+        return withTimeout(findTuitionAsync(tuitionId)
+                .thenCompose(tuitionService::deleteTuitionAsync)
+                .thenApply(result -> {
+                    log.debug("Deleted tuition of id: {}", tuitionId);
+                    return getSuccessResponse(SuccessResponseStatusType.DELETE_TUITION, null);
+                }));
+    }
+
+    /**
+     * This method is used to get all tuition page by page (keyset pagination ordered by id)
      *
-     * @return success(tuition list)/ error response
+     * @param size           page size (capped by the server)
+     * @param after          cursor returned as nextCursor of the previous page
+     * @param ifNoneMatch    ETag(s) of the page held by the client
+     * @param acceptEncoding content encodings accepted by the client
+     * @return success(tuition page)/ not modified/ error response
      */
     @GetMapping(path = "/get/all", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<ResponseWrapper> getAllTuition() {
-        List<Tuition> tuitionList = tuitionService.getAll();
-        TuitionListResponseDto responseDto = new TuitionListResponseDto(tuitionList);
-        log.debug("Returned all tuition");
-        return getSuccessResponse(SuccessResponseStatusType.RETURNED_ALL_TUITION, responseDto);
+    public ResponseEntity<?> getAllTuition(
+            @RequestParam(name = "size", required = false) Integer size,
+            @RequestParam(name = "after", required = false) String after,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        String eTag = tuitionService.getCatalogueETag();
+        if (isNotModified(ifNoneMatch, eTag)) {
+            log.debug("Tuition page not modified");
+            return getNotModifiedResponse(eTag);
+        }
+        String afterId;
+        try {
+            afterId = decodeAfterId(after);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid page cursor for getting all tuition: {}", after);
+            return getBadRequestResponse(ErrorResponseStatusType.INVALID_PAGE_CURSOR);
+        }
+        CataloguePage page = tuitionCatalogueCache.get(afterId, size);
+        log.debug("Returned tuition page of size: {}", page.getNumberOfElements());
+        return getCataloguePageResponse(page, acceptsGzip(acceptEncoding));
+    }
+
+    /**
+     * This method creates a success response of the pre-serialized bytes of a catalogue page
+     *
+     * @param page catalogue page
+     * @param gzip true to send the gzip encoded bytes
+     * @return success response
+     */
+    private ResponseEntity<byte[]> getCataloguePageResponse(CataloguePage page, boolean gzip) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setVary(Collections.singletonList(HttpHeaders.ACCEPT_ENCODING));
+        if (page.getETag() != null)
+            headers.setETag(page.getETag());
+        if (gzip)
+            headers.set(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING);
+        return new ResponseEntity<>(gzip ? page.getGzip() : page.getJson(), headers, HttpStatus.OK);
+    }
+
+    /**
+     * This method checks if an Accept-Encoding header accepts gzip (gzip or * without q=0)
+     *
+     * @param acceptEncoding Accept-Encoding header (null if absent)
+     * @return true/false
+     */
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null)
+            return false;
+        return Arrays.stream(acceptEncoding.split(","))
+                .map(coding -> coding.replace(" ", "").toLowerCase())
+                .anyMatch(coding -> {
+                    String[] parts = coding.split(";");
+                    boolean gzipCoding = parts[0].equals(GZIP_ENCODING) || parts[0].equals(ANY_ENCODING);
+                    return gzipCoding && Arrays.stream(parts).skip(1).noneMatch(this::isZeroQuality);
+                });
+    }
+
+    /**
+     * This method checks if a content coding parameter sets the quality to zero (q=0, q=0.0, q=0.00, ...)
+     *
+     * @param parameter content coding parameter
+     * @return true/false
+     */
+    private boolean isZeroQuality(String parameter) {
+        return parameter.startsWith(ZERO_QUALITY) && parameter.substring(ZERO_QUALITY.length()).matches("(\\.0*)?");
+    }
+
+    /**
+     * This method is used to get all tuition summaries (without student ids) page by page
+     *
+     * @param size        page size (capped by the server)
+     * @param after       cursor returned as nextCursor of the previous page
+     * @param ifNoneMatch ETag(s) of the page held by the client
+     * @return success(tuition summary page)/ not modified/ error response
+     */
+    @GetMapping(path = "/get/all/summary", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ResponseWrapper> getAllTuitionSummary(
+            @RequestParam(name = "size", required = false) Integer size,
+            @RequestParam(name = "after", required = false) String after,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = tuitionService.getCatalogueETag();
+        if (isNotModified(ifNoneMatch, eTag)) {
+            log.debug("Tuition summary page not modified");
+            return getNotModifiedResponse(eTag);
+        }
+        String afterId;
+        try {
+            afterId = decodeAfterId(after);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid page cursor for getting all tuition summaries: {}", after);
+            return getBadRequestResponse(ErrorResponseStatusType.INVALID_PAGE_CURSOR);
+        }
+        Slice<TuitionSummary> summarySlice = tuitionService.getSummaryPage(afterId, size);
+        TuitionSummaryPageResponseDto responseDto = new TuitionSummaryPageResponseDto(summarySlice);
+        log.debug("Returned tuition summary page of size: {}", summarySlice.getNumberOfElements());
+        return getSuccessResponse(SuccessResponseStatusType.RETURNED_ALL_TUITION_SUMMARY, responseDto, eTag);
+    }
+
+    /**
+     * This method streams all tuition as newline delimited JSON (one tuition per line) for consumers
+     * that need the whole catalogue
+     *
+     * @param response http servlet response
+     * @throws IOException if writing the response fails
+     */
+    @GetMapping(path = "/export")
+    public void exportAllTuition(HttpServletResponse response) throws IOException {
+        response.setContentType(APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        long count = tuitionService.exportAll(response.getOutputStream());
+        log.debug("Exported {} tuition", count);
+    }
+
+    /**
+     * This method decodes a page cursor to the tuition id it wraps
+     *
+     * @param after page cursor (null for the first page)
+     * @return tuition id/ null
+     * @throws IllegalArgumentException if the cursor is malformed or does not wrap a tuition id
+     */
+    private String decodeAfterId(String after) {
+        if (after == null)
+            return null;
+        String afterId = PageCursor.decode(after);
+        if (!TuitionId.isValid(afterId))
+            throw new IllegalArgumentException("Page cursor does not wrap a tuition id");
+        return afterId;
     }
 
     /**
@@ -110,18 +383,81 @@ public class TuitionController extends Controller {
     public ResponseEntity<ResponseWrapper> addStudentToTuition(@PathVariable(name = "studentId") String studentId,
                                                                @PathVariable(name = "tuitionId") String tuitionId,
                                                                HttpServletRequest request) throws IOException {
+        return addStudentToTuition(studentId, tuitionId, request.getHeader(AUTH_HEADER));
+    }
+
+    /**
+     * This method adds a student to the tuition without holding the servlet thread
+     *
+     * @param studentId student id
+     * @param tuitionId tuition id
+     * @return success/ error response
+     */
+    @PostMapping(path = "/async/add/student/{studentId}/tuition/{tuitionId}",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public CompletableFuture<ResponseEntity<ResponseWrapper>> addStudentToTuitionAsync(
+            @PathVariable(name = "studentId") String studentId, @PathVariable(name = "tuitionId") String tuitionId,
+            HttpServletRequest request) {
         String token = request.getHeader(AUTH_HEADER);
+        return withTimeout(findTuitionAsync(tuitionId)
+                .thenCombine(reactiveStudentService.findById(studentId, token).toFuture(),
+                        (tuition, student) -> tuitionService.addStudentToTuitionAsync(student, tuition))
+                .thenCompose(Function.identity())
+                .thenApply(responseDto -> {
+                    log.debug("Successfully added student of id: {} to the tuition", studentId);
+                    return getSuccessResponse(SuccessResponseStatusType.ADD_TUITION_STUDENT, responseDto);
+                }));
+    }
+
+    /**
+     * This method adds a student to the tuition
+     *
+     * @param studentId student id
+     * @param tuitionId tuition id
+     * @param token     access token
+     * @return success/ error response
+     * @throws IOException if the student response cannot be read
+     */
+    private ResponseEntity<ResponseWrapper> addStudentToTuition(String studentId, String tuitionId, String token)
+            throws IOException {
         StudentResponseDto studentResponseDto = studentService.findById(studentId, token);
-        if (studentResponseDto.getTuitionId() != null) {
-            log.error("Student already enrolled in a tuition");
-            return getBadRequestResponse(ErrorResponseStatusType.STUDENT_ALREADY_ENROLLED_IN_A_TUITION);
-        }
         Tuition tuition = tuitionService.findById(tuitionId);
-        StudentResponseDto responseDto = tuitionService.addStudentToTuition(studentResponseDto, tuition, token);
+        StudentResponseDto responseDto = tuitionService.addStudentToTuition(studentResponseDto, tuition);
         log.debug("Successfully added student of id: {} to the tuition", studentId);
         return getSuccessResponse(SuccessResponseStatusType.ADD_TUITION_STUDENT, responseDto);
     }
 
+    /**
+     * This method adds a list of students to the tuition in one request
+     *
+     * @param tuitionId  tuition id
+     * @param requestDto student id list request dto
+     * @return success(per student results)/ error response
+     */
+    @PostMapping(path = "/add/students/tuition/{tuitionId}", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ResponseWrapper> addStudentsToTuition(@PathVariable(name = "tuitionId") String tuitionId,
+                                                                @RequestBody StudentIdListRequestDto requestDto,
+                                                                HttpServletRequest request) {
+        if (!requestDto.isRequiredAvailable()) {
+            log.error("Required fields missing in student id list request DTO for adding students to tuition");
+            return getBadRequestResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS);
+        }
+        if (requestDto.getStudentIds().size() > maxBulkSize) {
+            log.error("Adding {} students to tuition exceeds the limit: {}", requestDto.getStudentIds().size(),
+                    maxBulkSize);
+            return getBadRequestResponse(ErrorResponseStatusType.TOO_MANY_ITEMS);
+        }
+        Tuition tuition = tuitionService.findById(tuitionId);
+        List<TuitionStudentBulkResultDto> results = tuitionEnrollmentService.addStudents(tuition,
+                requestDto.getStudentIds(), request.getHeader(AUTH_HEADER));
+        TuitionStudentBulkResponseDto responseDto = new TuitionStudentBulkResponseDto(tuition.getId(), results,
+                BulkItemStatusType.ENROLLED);
+        log.debug("Added {} of {} students to the tuition of id: {}", responseDto.getSucceededCount(),
+                results.size(), tuitionId);
+        return getSuccessResponse(SuccessResponseStatusType.BULK_ADD_TUITION_STUDENTS, responseDto);
+    }
+
     /**
      * This method removes a student from the tuition
      *
@@ -133,15 +469,100 @@ public class TuitionController extends Controller {
     public ResponseEntity<ResponseWrapper> removeStudentFromTuition(@PathVariable(name = "studentId") String studentId,
                                                                     @PathVariable(name = "tuitionId") String tuitionId,
                                                                     HttpServletRequest request) throws IOException {
+        return removeStudentFromTuition(studentId, tuitionId, request.getHeader(AUTH_HEADER));
+    }
+
+    /**
+     * This method removes a student from the tuition without holding the servlet thread
+     *
+     * @param studentId student id
+     * @param tuitionId tuition id
+     * @return success/ error response
+     */
+    @PostMapping(path = "/async/remove/student/{studentId}/tuition/{tuitionId}",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public CompletableFuture<ResponseEntity<ResponseWrapper>> removeStudentFromTuitionAsync(
+            @PathVariable(name = "studentId") String studentId, @PathVariable(name = "tuitionId") String tuitionId,
+            HttpServletRequest request) {
         String token = request.getHeader(AUTH_HEADER);
+        return withTimeout(findTuitionAsync(tuitionId)
+                .thenCombine(reactiveStudentService.findById(studentId, token).toFuture(),
+                        (tuition, student) -> tuitionService.removeStudentFromTuitionAsync(student, tuition))
+                .thenCompose(Function.identity())
+                .thenApply(responseDto -> {
+                    log.debug("Successfully removed student of id: {} from the tuition", studentId);
+                    return getSuccessResponse(SuccessResponseStatusType.REMOVE_TUITION_STUDENT, responseDto);
+                }));
+    }
+
+    /**
+     * This method removes a student from the tuition
+     *
+     * @param studentId student id
+     * @param tuitionId tuition id
+     * @param token     access token
+     * @return success/ error response
+     * @throws IOException if the student response cannot be read
+     */
+    private ResponseEntity<ResponseWrapper> removeStudentFromTuition(String studentId, String tuitionId,
+                                                                     String token) throws IOException {
         StudentResponseDto studentResponseDto = studentService.findById(studentId, token);
         Tuition tuition = tuitionService.findById(tuitionId);
-        if (studentResponseDto.getTuitionId() == null || !studentResponseDto.getTuitionId().equals(tuition.getId())) {
-            log.error("Student is not enrolled in tuition id: " + tuition.getId());
-            return getBadRequestResponse(ErrorResponseStatusType.STUDENT_NOT_ENROLLED_IN_TUITION);
-        }
-        StudentResponseDto responseDto = tuitionService.removeStudentFromTuition(studentResponseDto, tuition, token);
+        StudentResponseDto responseDto = tuitionService.removeStudentFromTuition(studentResponseDto, tuition);
         log.debug("Successfully removed student of id: {} from the tuition", studentId);
         return getSuccessResponse(SuccessResponseStatusType.REMOVE_TUITION_STUDENT, responseDto);
     }
+
+    /**
+     * This method removes a list of students from the tuition in one request
+     *
+     * @param tuitionId  tuition id
+     * @param requestDto student id list request dto
+     * @return success(per student results)/ error response
+     */
+    @PostMapping(path = "/remove/students/tuition/{tuitionId}", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ResponseWrapper> removeStudentsFromTuition(
+            @PathVariable(name = "tuitionId") String tuitionId, @RequestBody StudentIdListRequestDto requestDto) {
+        if (!requestDto.isRequiredAvailable()) {
+            log.error("Required fields missing in student id list request DTO for removing students from tuition");
+            return getBadRequestResponse(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS);
+        }
+        if (requestDto.getStudentIds().size() > maxBulkSize) {
+            log.error("Removing {} students from tuition exceeds the limit: {}", requestDto.getStudentIds().size(),
+                    maxBulkSize);
+            return getBadRequestResponse(ErrorResponseStatusType.TOO_MANY_ITEMS);
+        }
+        Tuition tuition = tuitionService.findById(tuitionId);
+        List<TuitionStudentBulkResultDto> results = tuitionEnrollmentService.removeStudents(tuition,
+                requestDto.getStudentIds());
+        TuitionStudentBulkResponseDto responseDto = new TuitionStudentBulkResponseDto(tuition.getId(), results,
+                BulkItemStatusType.REMOVED);
+        log.debug("Removed {} of {} students from the tuition of id: {}", responseDto.getSucceededCount(),
+                results.size(), tuitionId);
+        return getSuccessResponse(SuccessResponseStatusType.BULK_REMOVE_TUITION_STUDENTS, responseDto);
+    }
+
+    /**
+     * This method reads a tuition on the tuition request executor. The future fails with a
+     * RejectedExecutionException when the executor is saturated.
+     *
+     * @param tuitionId tuition id
+     * @return future tuition
+     */
+    private CompletableFuture<Tuition> findTuitionAsync(String tuitionId) {
+        return CompletableFuture.supplyAsync(() -> tuitionService.findById(tuitionId), requestExecutor);
+    }
+
+    /**
+     * This method limits an async flow to the async timeout. The future fails with a TimeoutException if the
+     * flow does not finish in time.
+     *
+     * @param flow future response of the flow
+     * @return future response
+     */
+    private CompletableFuture<ResponseEntity<ResponseWrapper>> withTimeout(
+            CompletableFuture<ResponseEntity<ResponseWrapper>> flow) {
+        return flow.orTimeout(asyncTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
 }
@@ -0,0 +1,32 @@
+package com.swivel.ignite.tuition.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO for requests on a list of students
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentIdListRequestDto extends RequestDto {
+
+    private List<String> studentIds;
+
+    @Override
+    public String toLogJson() {
+        return toJson();
+    }
+
+    @Override
+    @JsonIgnore
+    public boolean isRequiredAvailable() {
+        return studentIds != null && !studentIds.isEmpty() && studentIds.stream().allMatch(this::isNonEmpty);
+    }
+}
@@ -0,0 +1,32 @@
+package com.swivel.ignite.tuition.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO for requests on a list of tuition
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TuitionIdListRequestDto extends RequestDto {
+
+    private List<String> tuitionIds;
+
+    @Override
+    public String toLogJson() {
+        return toJson();
+    }
+
+    @Override
+    @JsonIgnore
+    public boolean isRequiredAvailable() {
+        return tuitionIds != null && !tuitionIds.isEmpty() && tuitionIds.stream().allMatch(this::isNonEmpty);
+    }
+}
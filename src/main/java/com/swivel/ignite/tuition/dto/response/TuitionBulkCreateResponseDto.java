@@ -0,0 +1,23 @@
+package com.swivel.ignite.tuition.dto.response;
+
+import com.swivel.ignite.tuition.enums.BulkItemStatusType;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Bulk tuition creation DTO for response
+ */
+@Getter
+public class TuitionBulkCreateResponseDto extends ResponseDto {
+
+    private final int createdCount;
+    private final int failedCount;
+    private final List<TuitionBulkCreateResultDto> results;
+
+    public TuitionBulkCreateResponseDto(List<TuitionBulkCreateResultDto> results) {
+        this.results = results;
+        this.createdCount = (int) results.stream().filter(r -> r.getStatus() == BulkItemStatusType.CREATED).count();
+        this.failedCount = results.size() - createdCount;
+    }
+}
@@ -0,0 +1,18 @@
+package com.swivel.ignite.tuition.dto.response;
+
+import com.swivel.ignite.tuition.enums.BulkItemStatusType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Bulk tuition creation result of a single request item
+ */
+@Getter
+@AllArgsConstructor
+public class TuitionBulkCreateResultDto extends ResponseDto {
+
+    private final int index;
+    private final String name;
+    private final String tuitionId;
+    private final BulkItemStatusType status;
+}
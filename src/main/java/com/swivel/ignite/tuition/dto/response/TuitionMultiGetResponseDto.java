@@ -0,0 +1,24 @@
+package com.swivel.ignite.tuition.dto.response;
+
+import com.swivel.ignite.tuition.entity.Tuition;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tuition multi-get DTO for response
+ */
+@Getter
+public class TuitionMultiGetResponseDto extends ResponseDto {
+
+    private final List<TuitionResponseDto> tuitionList = new ArrayList<>();
+    private final List<String> missingIds;
+
+    public TuitionMultiGetResponseDto(List<Tuition> tuitionList, List<String> missingIds) {
+        for (Tuition t : tuitionList) {
+            this.tuitionList.add(new TuitionResponseDto(t));
+        }
+        this.missingIds = missingIds;
+    }
+}
@@ -0,0 +1,24 @@
+package com.swivel.ignite.tuition.dto.response;
+
+import com.swivel.ignite.tuition.entity.Tuition;
+import com.swivel.ignite.tuition.util.PageCursor;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * Tuition page DTO for response
+ */
+@Getter
+public class TuitionPageResponseDto extends TuitionListResponseDto {
+
+    private final String nextCursor;
+
+    public TuitionPageResponseDto(Slice<Tuition> tuitionSlice) {
+        super(tuitionSlice.getContent());
+        List<Tuition> content = tuitionSlice.getContent();
+        this.nextCursor = tuitionSlice.hasNext() && !content.isEmpty()
+                ? PageCursor.encode(content.get(content.size() - 1).getId()) : null;
+    }
+}
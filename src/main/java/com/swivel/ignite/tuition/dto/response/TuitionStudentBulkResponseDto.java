@@ -0,0 +1,26 @@
+package com.swivel.ignite.tuition.dto.response;
+
+import com.swivel.ignite.tuition.enums.BulkItemStatusType;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Bulk tuition student change DTO for response
+ */
+@Getter
+public class TuitionStudentBulkResponseDto extends ResponseDto {
+
+    private final String tuitionId;
+    private final int succeededCount;
+    private final int failedCount;
+    private final List<TuitionStudentBulkResultDto> results;
+
+    public TuitionStudentBulkResponseDto(String tuitionId, List<TuitionStudentBulkResultDto> results,
+                                         BulkItemStatusType successStatus) {
+        this.tuitionId = tuitionId;
+        this.results = results;
+        this.succeededCount = (int) results.stream().filter(r -> r.getStatus() == successStatus).count();
+        this.failedCount = results.size() - succeededCount;
+    }
+}
@@ -0,0 +1,17 @@
+package com.swivel.ignite.tuition.dto.response;
+
+import com.swivel.ignite.tuition.enums.BulkItemStatusType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Bulk tuition student change result of a single requested student
+ */
+@Getter
+@AllArgsConstructor
+public class TuitionStudentBulkResultDto extends ResponseDto {
+
+    private final int index;
+    private final String studentId;
+    private final BulkItemStatusType status;
+}
@@ -0,0 +1,28 @@
+package com.swivel.ignite.tuition.dto.response;
+
+import com.swivel.ignite.tuition.repository.TuitionSummary;
+import com.swivel.ignite.tuition.util.PageCursor;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tuition summary page DTO for response
+ */
+@Getter
+public class TuitionSummaryPageResponseDto extends ResponseDto {
+
+    private final List<TuitionSummaryResponseDto> tuitionList = new ArrayList<>();
+    private final String nextCursor;
+
+    public TuitionSummaryPageResponseDto(Slice<TuitionSummary> summarySlice) {
+        List<TuitionSummary> content = summarySlice.getContent();
+        for (TuitionSummary s : content) {
+            this.tuitionList.add(new TuitionSummaryResponseDto(s));
+        }
+        this.nextCursor = summarySlice.hasNext() && !content.isEmpty()
+                ? PageCursor.encode(content.get(content.size() - 1).getId()) : null;
+    }
+}
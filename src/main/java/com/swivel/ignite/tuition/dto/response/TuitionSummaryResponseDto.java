@@ -0,0 +1,23 @@
+package com.swivel.ignite.tuition.dto.response;
+
+import com.swivel.ignite.tuition.repository.TuitionSummary;
+import lombok.Getter;
+
+/**
+ * Tuition summary DTO for response
+ */
+@Getter
+public class TuitionSummaryResponseDto extends ResponseDto {
+
+    private final String tuitionId;
+    private final String name;
+    private final String location;
+    private final long enrollmentCount;
+
+    public TuitionSummaryResponseDto(TuitionSummary tuitionSummary) {
+        this.tuitionId = tuitionSummary.getId();
+        this.name = tuitionSummary.getName();
+        this.location = tuitionSummary.getLocation();
+        this.enrollmentCount = tuitionSummary.getEnrollmentCount();
+    }
+}
@@ -0,0 +1,50 @@
+package com.swivel.ignite.tuition.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+
+/**
+ * Enrollment entity - one row per student enrolled in a tuition.
+ * <p>
+ * It shares the tuition_enrollment table with {@link Tuition#getStudentIds()}, which is only used to read the
+ * enrollments. All writes go through this entity so that enrolling or removing a student is a single row
+ * insert/ delete instead of a rewrite of the whole collection. A student is enrolled in at most one tuition, which
+ * is enforced by the unique index on the student id.
+ */
+@Entity
+@Table(name = "tuition_enrollment", uniqueConstraints = @UniqueConstraint(name = Enrollment.STUDENT_ID_CONSTRAINT,
+        columnNames = "student_id"))
+@NoArgsConstructor
+public class Enrollment implements Persistable<EnrollmentId> {
+
+    public static final String STUDENT_ID_CONSTRAINT = "uk_tuition_enrollment_student_id";
+
+    @EmbeddedId
+    @Getter
+    private EnrollmentId id;
+    @Transient
+    private boolean persisted;
+
+    public Enrollment(String tuitionId, String studentId) {
+        this.id = new EnrollmentId(tuitionId, studentId);
+    }
+
+    /**
+     * A new enrollment is always inserted (persist) instead of merged, which would select the row first
+     *
+     * @return true if the enrollment is not yet persisted
+     */
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
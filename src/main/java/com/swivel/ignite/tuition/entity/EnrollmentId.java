@@ -0,0 +1,28 @@
+package com.swivel.ignite.tuition.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Type;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.io.Serializable;
+
+/**
+ * Enrollment composite key
+ */
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@EqualsAndHashCode
+public class EnrollmentId implements Serializable {
+
+    @Column(name = "tuition_id", nullable = false, columnDefinition = TuitionIdType.COLUMN_DEFINITION)
+    @Type(type = TuitionIdType.TYPE)
+    private String tuitionId;
+    @Column(name = "student_id", nullable = false)
+    private String studentId;
+}
@@ -0,0 +1,96 @@
+package com.swivel.ignite.tuition.entity;
+
+import com.swivel.ignite.tuition.enums.OutboxEventStatusType;
+import com.swivel.ignite.tuition.enums.OutboxEventType;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outbox event - one downstream call (student/ payment microservice) that has to follow a committed tuition
+ * change. It is written in the same transaction as the change and deleted once the call succeeded.
+ * <p>
+ * Events of the same aggregate key (the student for student microservice events, the tuition for payment
+ * microservice events) are delivered in insertion order.
+ */
+@Entity
+@Table(name = "tuition_outbox", indexes = {
+        @Index(name = "idx_tuition_outbox_due", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_tuition_outbox_aggregate", columnList = "aggregate_key, id"),
+        @Index(name = "idx_tuition_outbox_claimed_by", columnList = "claimed_by"),
+        @Index(name = "idx_tuition_outbox_tuition", columnList = "tuition_id, status")})
+@NoArgsConstructor
+@Getter
+@Setter
+public class OutboxEvent {
+
+    private static final String ID_SEPARATOR = ",";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private OutboxEventType type;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxEventStatusType status;
+    @Column(name = "aggregate_key", nullable = false, length = 64)
+    private String aggregateKey;
+    @Column(name = "tuition_id", nullable = false, length = 64)
+    private String tuitionId;
+    /**
+     * Comma separated student ids (empty for payment events)
+     */
+    @Column(name = "student_ids", columnDefinition = "TEXT")
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String studentIds;
+    @Column(nullable = false)
+    private int attempts;
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+    @Column(name = "claimed_by", length = 36)
+    private String claimedBy;
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    public OutboxEvent(OutboxEventType type, String aggregateKey, String tuitionId, Collection<String> studentIds) {
+        this.type = type;
+        this.status = OutboxEventStatusType.PENDING;
+        this.aggregateKey = aggregateKey;
+        this.tuitionId = tuitionId;
+        setStudentIds(studentIds);
+        this.createdAt = Instant.now();
+        this.nextAttemptAt = createdAt;
+    }
+
+    /**
+     * This method returns the student ids of the event
+     *
+     * @return student ids (empty for payment events)
+     */
+    public List<String> getStudentIds() {
+        return studentIds == null || studentIds.isEmpty() ? Collections.emptyList()
+                : Arrays.asList(studentIds.split(ID_SEPARATOR));
+    }
+
+    /**
+     * This method sets the student ids of the event
+     *
+     * @param studentIds student ids
+     */
+    public void setStudentIds(Collection<String> studentIds) {
+        this.studentIds = studentIds == null || studentIds.isEmpty() ? null : String.join(ID_SEPARATOR, studentIds);
+    }
+}
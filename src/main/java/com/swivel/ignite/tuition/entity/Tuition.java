@@ -1,48 +1,101 @@
 package com.swivel.ignite.tuition.entity;
 
 import com.swivel.ignite.tuition.dto.request.TuitionCreateRequestDto;
+import com.swivel.ignite.tuition.util.TuitionId;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
 
 import javax.persistence.*;
 import java.io.Serializable;
+import java.util.Locale;
 import java.util.Set;
-import java.util.UUID;
 
 /**
  * Tuition entity
  */
 @Entity
-@Table(name = "tuition")
+@Table(name = "tuition", uniqueConstraints = @UniqueConstraint(name = Tuition.NAME_KEY_CONSTRAINT,
+        columnNames = "name_key"))
 @NoArgsConstructor
 @Getter
 @Setter
-public class Tuition implements Serializable {
+public class Tuition implements Serializable, Persistable<String> {
 
-    @Transient
-    private static final String TUITION_ID_PREFIX = "tid-";
+    public static final String NAME_KEY_CONSTRAINT = "uk_tuition_name_key";
 
     @Id
+    @Type(type = TuitionIdType.TYPE)
+    @Column(columnDefinition = TuitionIdType.COLUMN_DEFINITION)
     private String id;
     @Column(nullable = false)
     private String name;
+    @Column(name = "name_key", nullable = false)
+    @Setter(AccessLevel.NONE)
+    private String nameKey;
     @Column(nullable = false)
     private String location;
+    /**
+     * Read-only view of the tuition enrollments. Enrollments are written through {@link Enrollment}. Batch
+     * fetched per page of tuition (see {@link com.swivel.ignite.tuition.config.JpaConfig}).
+     */
     @ElementCollection
+    @CollectionTable(name = "tuition_enrollment", joinColumns = @JoinColumn(name = "tuition_id",
+            columnDefinition = TuitionIdType.COLUMN_DEFINITION))
+    @Column(name = "student_id", nullable = false)
     private Set<String> studentIds;
+    /**
+     * Optimistic lock version, incremented by every change of the tuition or its enrollments
+     */
+    @Version
+    private Long version;
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean persisted;
 
     public Tuition(TuitionCreateRequestDto requestDto) {
-        this.id = TUITION_ID_PREFIX + UUID.randomUUID();
-        this.name = requestDto.getName();
+        this.id = TuitionId.generate();
+        setName(requestDto.getName());
         this.location = requestDto.getLocation();
     }
 
-    public void addStudentId(String studentId) {
-        this.studentIds.add(studentId);
+    /**
+     * This method sets the tuition name and its normalized unique key
+     *
+     * @param name tuition name
+     */
+    public void setName(String name) {
+        this.name = name;
+        this.nameKey = normalizeName(name);
+    }
+
+    /**
+     * This method normalizes a tuition name so that names differing only by case or spacing are equal
+     *
+     * @param name tuition name
+     * @return normalized name/ null
+     */
+    public static String normalizeName(String name) {
+        return name == null ? null : name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A new tuition is always inserted (persist) instead of merged, which would select the row first
+     *
+     * @return true if the tuition is not yet persisted
+     */
+    @Override
+    public boolean isNew() {
+        return !persisted;
     }
 
-    public void removeStudentId(String studentId) {
-        this.studentIds.remove(studentId);
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
     }
 }
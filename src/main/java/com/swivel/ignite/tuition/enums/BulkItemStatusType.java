@@ -0,0 +1,18 @@
+package com.swivel.ignite.tuition.enums;
+
+/**
+ * Enum values for the per item outcome of bulk operations
+ */
+public enum BulkItemStatusType {
+
+    CREATED,
+    MISSING_REQUIRED_FIELDS,
+    DUPLICATE_IN_REQUEST,
+    ALREADY_EXISTS,
+    ENROLLED,
+    STUDENT_NOT_FOUND,
+    ALREADY_ENROLLED,
+    REMOVED,
+    NOT_ENROLLED,
+    FAILED
+}
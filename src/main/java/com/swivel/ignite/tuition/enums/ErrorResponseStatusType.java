@@ -11,11 +11,15 @@ public enum ErrorResponseStatusType {
     MISSING_REQUIRED_FIELDS(400, "Missing required fields"),
     TUITION_ALREADY_EXISTS(400, "Tuition with given name already exists"),
     TUITION_NOT_FOUND(404, "Tuition not found"),
+    INVALID_PAGE_CURSOR(400, "Invalid page cursor"),
+    TOO_MANY_ITEMS(400, "Too many items in request"),
     STUDENT_NOT_ENROLLED_IN_TUITION(400, "Student not enrolled in tuition"),
     STUDENT_ALREADY_ENROLLED_IN_A_TUITION(400, "Student already enrolled in a tuition"),
     INTERNAL_SERVER_ERROR(500, "Internal Server Error"),
     STUDENT_INTERNAL_SERVER_ERROR(500, "Student Service - Internal Server Error"),
-    PAYMENT_INTERNAL_SERVER_ERROR(500, "Payment Service - Internal Server Error");
+    PAYMENT_INTERNAL_SERVER_ERROR(500, "Payment Service - Internal Server Error"),
+    REQUEST_TIMEOUT(503, "Request timed out"),
+    TOO_MANY_REQUESTS(503, "Too many concurrent requests");
 
     private final int code;
     private final String message;
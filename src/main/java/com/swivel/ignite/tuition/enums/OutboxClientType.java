@@ -0,0 +1,10 @@
+package com.swivel.ignite.tuition.enums;
+
+/**
+ * Enum values for the student and payment microservice clients that deliver the outbox events
+ */
+public enum OutboxClientType {
+
+    REACTIVE,
+    BLOCKING
+}
@@ -0,0 +1,10 @@
+package com.swivel.ignite.tuition.enums;
+
+/**
+ * Enum values for the status of an outbox event. Delivered events are deleted.
+ */
+public enum OutboxEventStatusType {
+
+    PENDING,
+    DEAD
+}
@@ -0,0 +1,11 @@
+package com.swivel.ignite.tuition.enums;
+
+/**
+ * Enum values for the downstream calls recorded in the outbox
+ */
+public enum OutboxEventType {
+
+    ADD_TUITION_TO_STUDENT,
+    REMOVE_TUITION_FROM_STUDENTS,
+    DELETE_PAYMENTS_BY_TUITION_ID
+}
@@ -9,11 +9,16 @@ import lombok.Getter;
 public enum SuccessResponseStatusType {
 
     CREATE_TUITION(201, "Successfully created the tuition"),
+    BULK_CREATE_TUITION(200, "Successfully processed the tuition list"),
     ADD_TUITION_STUDENT(200, "Successfully added student to tuition"),
+    BULK_ADD_TUITION_STUDENTS(200, "Successfully processed the student list for adding to tuition"),
     READ_TUITION(200, "Successfully read the tuition"),
+    READ_TUITION_LIST(200, "Successfully read the tuition list"),
     DELETE_TUITION(202, "Successfully deleted the tuition"),
     REMOVE_TUITION_STUDENT(200, "Successfully removed student from tuition"),
-    RETURNED_ALL_TUITION(200, "Successfully returned tuition list");
+    BULK_REMOVE_TUITION_STUDENTS(200, "Successfully processed the student list for removing from tuition"),
+    RETURNED_ALL_TUITION(200, "Successfully returned tuition list"),
+    RETURNED_ALL_TUITION_SUMMARY(200, "Successfully returned tuition summary list");
 
     private final int code;
     private final String message;
@@ -12,6 +12,9 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
 @ControllerAdvice
 @Slf4j
 public class CustomizedExceptionHandling extends ResponseEntityExceptionHandler {
@@ -63,6 +66,37 @@ public class CustomizedExceptionHandling extends ResponseEntityExceptionHandler
         return new ResponseEntity<>(responseWrapper, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * This method returns an error response for students that are already enrolled in a tuition
+     *
+     * @param exception exception
+     * @return error response
+     */
+    @ExceptionHandler(StudentAlreadyEnrolledException.class)
+    public ResponseEntity<ResponseWrapper> handleStudentAlreadyEnrolledException(
+            StudentAlreadyEnrolledException exception) {
+        ResponseWrapper responseWrapper = new ErrorResponseWrapper(ResponseStatusType.ERROR, ErrorResponseStatusType
+                .STUDENT_ALREADY_ENROLLED_IN_A_TUITION.getMessage(), null, ERROR_MESSAGE, ErrorResponseStatusType
+                .STUDENT_ALREADY_ENROLLED_IN_A_TUITION.getCode());
+        log.error(exception.getMessage());
+        return new ResponseEntity<>(responseWrapper, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * This method returns an error response for students that are not enrolled in the tuition
+     *
+     * @param exception exception
+     * @return error response
+     */
+    @ExceptionHandler(StudentNotEnrolledException.class)
+    public ResponseEntity<ResponseWrapper> handleStudentNotEnrolledException(StudentNotEnrolledException exception) {
+        ResponseWrapper responseWrapper = new ErrorResponseWrapper(ResponseStatusType.ERROR, ErrorResponseStatusType
+                .STUDENT_NOT_ENROLLED_IN_TUITION.getMessage(), null, ERROR_MESSAGE, ErrorResponseStatusType
+                .STUDENT_NOT_ENROLLED_IN_TUITION.getCode());
+        log.error(exception.getMessage());
+        return new ResponseEntity<>(responseWrapper, HttpStatus.BAD_REQUEST);
+    }
+
     /**
      * This method returns an error response for student microservice call exceptions
      *
@@ -94,4 +128,66 @@ public class CustomizedExceptionHandling extends ResponseEntityExceptionHandler
         log.error(exception.getMessage());
         return new ResponseEntity<>(responseWrapper, HttpStatus.INTERNAL_SERVER_ERROR);
     }
+
+    /**
+     * This method returns an error response for student microservice calls rejected without being sent
+     *
+     * @param exception exception
+     * @return error response
+     */
+    @ExceptionHandler(StudentServiceUnavailableException.class)
+    public ResponseEntity<ResponseWrapper> handleStudentServiceUnavailableException(
+            StudentServiceUnavailableException exception) {
+        ResponseWrapper responseWrapper = new ErrorResponseWrapper(ResponseStatusType.ERROR, ErrorResponseStatusType
+                .STUDENT_INTERNAL_SERVER_ERROR.getMessage(), null, ERROR_MESSAGE, ErrorResponseStatusType
+                .STUDENT_INTERNAL_SERVER_ERROR.getCode());
+        log.error(exception.getMessage());
+        return new ResponseEntity<>(responseWrapper, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * This method returns an error response for payment microservice calls rejected without being sent
+     *
+     * @param exception exception
+     * @return error response
+     */
+    @ExceptionHandler(PaymentServiceUnavailableException.class)
+    public ResponseEntity<ResponseWrapper> handlePaymentServiceUnavailableException(
+            PaymentServiceUnavailableException exception) {
+        ResponseWrapper responseWrapper = new ErrorResponseWrapper(ResponseStatusType.ERROR, ErrorResponseStatusType
+                .PAYMENT_INTERNAL_SERVER_ERROR.getMessage(), null, ERROR_MESSAGE, ErrorResponseStatusType
+                .PAYMENT_INTERNAL_SERVER_ERROR.getCode());
+        log.error(exception.getMessage());
+        return new ResponseEntity<>(responseWrapper, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * This method returns an error response for async requests that did not finish in time
+     *
+     * @param exception exception
+     * @return error response
+     */
+    @ExceptionHandler(TimeoutException.class)
+    public ResponseEntity<ResponseWrapper> handleTimeoutException(TimeoutException exception) {
+        ResponseWrapper responseWrapper = new ErrorResponseWrapper(ResponseStatusType.ERROR, ErrorResponseStatusType
+                .REQUEST_TIMEOUT.getMessage(), null, ERROR_MESSAGE, ErrorResponseStatusType.REQUEST_TIMEOUT
+                .getCode());
+        log.error("Async request timed out", exception);
+        return new ResponseEntity<>(responseWrapper, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * This method returns an error response for async requests rejected by a saturated executor
+     *
+     * @param exception exception
+     * @return error response
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ResponseWrapper> handleRejectedExecutionException(RejectedExecutionException exception) {
+        ResponseWrapper responseWrapper = new ErrorResponseWrapper(ResponseStatusType.ERROR, ErrorResponseStatusType
+                .TOO_MANY_REQUESTS.getMessage(), null, ERROR_MESSAGE, ErrorResponseStatusType.TOO_MANY_REQUESTS
+                .getCode());
+        log.error(exception.getMessage());
+        return new ResponseEntity<>(responseWrapper, HttpStatus.SERVICE_UNAVAILABLE);
+    }
 }
@@ -0,0 +1,19 @@
+package com.swivel.ignite.tuition.exception;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Payment Microservice unavailable exception (call rejected by the circuit breaker or bulkhead without being sent)
+ */
+public class PaymentServiceUnavailableException extends RestClientException {
+
+    /**
+     * PaymentServiceUnavailableException with error message and the rejection
+     *
+     * @param errorMessage error message
+     * @param error        rejection
+     */
+    public PaymentServiceUnavailableException(String errorMessage, Throwable error) {
+        super(errorMessage, error);
+    }
+}
@@ -0,0 +1,26 @@
+package com.swivel.ignite.tuition.exception;
+
+/**
+ * Student Already Enrolled Exception
+ */
+public class StudentAlreadyEnrolledException extends RuntimeException {
+
+    /**
+     * Student Already Enrolled Exception with error message.
+     *
+     * @param errorMessage error message
+     */
+    public StudentAlreadyEnrolledException(String errorMessage) {
+        super(errorMessage);
+    }
+
+    /**
+     * Student Already Enrolled Exception with error message and throwable error
+     *
+     * @param errorMessage error message
+     * @param error        error
+     */
+    public StudentAlreadyEnrolledException(String errorMessage, Throwable error) {
+        super(errorMessage, error);
+    }
+}
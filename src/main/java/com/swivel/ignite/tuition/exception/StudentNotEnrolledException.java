@@ -0,0 +1,26 @@
+package com.swivel.ignite.tuition.exception;
+
+/**
+ * Student Not Enrolled Exception
+ */
+public class StudentNotEnrolledException extends RuntimeException {
+
+    /**
+     * Student Not Enrolled Exception with error message.
+     *
+     * @param errorMessage error message
+     */
+    public StudentNotEnrolledException(String errorMessage) {
+        super(errorMessage);
+    }
+
+    /**
+     * Student Not Enrolled Exception with error message and throwable error
+     *
+     * @param errorMessage error message
+     * @param error        error
+     */
+    public StudentNotEnrolledException(String errorMessage, Throwable error) {
+        super(errorMessage, error);
+    }
+}
@@ -0,0 +1,19 @@
+package com.swivel.ignite.tuition.exception;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Student Microservice unavailable exception (call rejected by the circuit breaker or bulkhead without being sent)
+ */
+public class StudentServiceUnavailableException extends RestClientException {
+
+    /**
+     * StudentServiceUnavailableException with error message and the rejection
+     *
+     * @param errorMessage error message
+     * @param error        rejection
+     */
+    public StudentServiceUnavailableException(String errorMessage, Throwable error) {
+        super(errorMessage, error);
+    }
+}
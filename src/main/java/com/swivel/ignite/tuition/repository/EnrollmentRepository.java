@@ -0,0 +1,61 @@
+package com.swivel.ignite.tuition.repository;
+
+import com.swivel.ignite.tuition.entity.Enrollment;
+import com.swivel.ignite.tuition.entity.EnrollmentId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Enrollment Repository
+ */
+@Repository
+public interface EnrollmentRepository extends JpaRepository<Enrollment, EnrollmentId> {
+
+    /**
+     * This method checks if a student is enrolled in any tuition
+     *
+     * @param studentId student id
+     * @return true/false
+     */
+    boolean existsByIdStudentId(String studentId);
+
+    /**
+     * This method finds which of the given students are enrolled in any tuition with one query
+     *
+     * @param studentIds student ids
+     * @return ids of the enrolled students
+     */
+    @Query("select e.id.studentId from Enrollment e where e.id.studentId in :studentIds")
+    Set<String> findEnrolledStudentIds(@Param("studentIds") Collection<String> studentIds);
+
+    /**
+     * This method deletes a single enrollment by its key without loading it first
+     *
+     * @param tuitionId tuition id
+     * @param studentId student id
+     * @return number of deleted enrollments
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from Enrollment e where e.id.tuitionId = :tuitionId and e.id.studentId = :studentId")
+    int deleteEnrollment(@Param("tuitionId") String tuitionId, @Param("studentId") String studentId);
+
+    /**
+     * This method deletes the enrollments of the given students in a tuition with one statement
+     *
+     * @param tuitionId  tuition id
+     * @param studentIds student ids
+     * @return number of deleted enrollments
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from Enrollment e where e.id.tuitionId = :tuitionId and e.id.studentId in :studentIds")
+    int deleteEnrollments(@Param("tuitionId") String tuitionId, @Param("studentIds") Collection<String> studentIds);
+}
@@ -0,0 +1,92 @@
+package com.swivel.ignite.tuition.repository;
+
+import com.swivel.ignite.tuition.entity.OutboxEvent;
+import com.swivel.ignite.tuition.enums.OutboxEventStatusType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Outbox Event Repository
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * This method returns the ids of the pending events that are due. An event is only due once every earlier
+     * pending event of its aggregate key is delivered, so the events of a key are delivered in order.
+     *
+     * @param status   pending status
+     * @param now      current time
+     * @param pageable page request (batch size)
+     * @return event ids ordered by id
+     */
+    @Query("select e.id from OutboxEvent e where e.status = :status and e.nextAttemptAt <= :now "
+            + "and not exists (select p.id from OutboxEvent p where p.aggregateKey = e.aggregateKey "
+            + "and p.status = :status and p.id < e.id) order by e.id")
+    List<Long> findDueIds(@Param("status") OutboxEventStatusType status, @Param("now") Instant now,
+                          Pageable pageable);
+
+    /**
+     * This method returns the ids of the pending events of a tuition that are due, with the same ordering rule
+     * as {@link #findDueIds(OutboxEventStatusType, Instant, Pageable)}
+     *
+     * @param status    pending status
+     * @param tuitionId tuition id
+     * @param now       current time
+     * @param pageable  page request (batch size)
+     * @return event ids ordered by id
+     */
+    @Query("select e.id from OutboxEvent e where e.status = :status and e.tuitionId = :tuitionId "
+            + "and e.nextAttemptAt <= :now and not exists (select p.id from OutboxEvent p "
+            + "where p.aggregateKey = e.aggregateKey and p.status = :status and p.id < e.id) order by e.id")
+    List<Long> findDueIdsByTuitionId(@Param("status") OutboxEventStatusType status,
+                                     @Param("tuitionId") String tuitionId, @Param("now") Instant now,
+                                     Pageable pageable);
+
+    /**
+     * This method claims the given events for one dispatch run if they are still due. A claimed event is not
+     * due again before the lease ends, so a crashed dispatcher only delays its events.
+     *
+     * @param ids        event ids
+     * @param status     pending status
+     * @param claimedBy  dispatch run id
+     * @param now        current time
+     * @param leaseUntil end of the lease
+     * @return number of claimed events
+     */
+    @Modifying
+    @Transactional
+    @Query("update OutboxEvent e set e.claimedBy = :claimedBy, e.nextAttemptAt = :leaseUntil "
+            + "where e.id in :ids and e.status = :status and e.nextAttemptAt <= :now")
+    int claim(@Param("ids") Collection<Long> ids, @Param("status") OutboxEventStatusType status,
+              @Param("claimedBy") String claimedBy, @Param("now") Instant now,
+              @Param("leaseUntil") Instant leaseUntil);
+
+    /**
+     * This method returns the events claimed by a dispatch run
+     *
+     * @param claimedBy dispatch run id
+     * @return events ordered by id
+     */
+    List<OutboxEvent> findByClaimedByOrderById(String claimedBy);
+
+    /**
+     * This method deletes the given events without loading them first
+     *
+     * @param ids event ids
+     * @return number of deleted events
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from OutboxEvent e where e.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
@@ -1,22 +1,119 @@
 package com.swivel.ignite.tuition.repository;
 
+import com.swivel.ignite.tuition.config.JpaConfig;
 import com.swivel.ignite.tuition.entity.Tuition;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Tuition Repository
+ * <p>
+ * Single tuition, multi-get and unbounded reads fetch the student ids with a join (entity graph). Paged reads cannot
+ * join fetch a collection without Hibernate paginating in memory, so they rely on the batch fetching of
+ * {@link Tuition#getStudentIds()} (sized to the maximum page size, see {@link JpaConfig}) which loads the student
+ * ids of a whole page in one extra statement.
  */
 @Repository
-public interface TuitionRepository extends JpaRepository<Tuition, String> {
+public interface TuitionRepository extends JpaRepository<Tuition, String>, TuitionRepositoryCustom {
+
+    String STUDENT_IDS = "studentIds";
 
     /**
-     * This method finds a Tuition by name
+     * This method finds a Tuition by id together with its student ids
      *
-     * @param name tuition name
+     * @param id tuition id
      * @return Tuition/ null
      */
-    Optional<Tuition> findByName(String name);
+    @Override
+    @EntityGraph(attributePaths = STUDENT_IDS)
+    Optional<Tuition> findById(String id);
+
+    /**
+     * This method finds the tuition of the given ids together with their student ids in one statement
+     *
+     * @param ids tuition ids
+     * @return list of existing tuition
+     */
+    @Override
+    @EntityGraph(attributePaths = STUDENT_IDS)
+    List<Tuition> findAllById(Iterable<String> ids);
+
+    /**
+     * This method returns all tuition together with their student ids
+     *
+     * @return list of tuition
+     */
+    @Override
+    @EntityGraph(attributePaths = STUDENT_IDS)
+    List<Tuition> findAll();
+
+    /**
+     * This method returns the first slice of tuition without running a count query
+     *
+     * @param pageable page request (sorted by id)
+     * @return tuition slice
+     */
+    Slice<Tuition> findAllBy(Pageable pageable);
+
+    /**
+     * This method returns the slice of tuition that comes after the given id (keyset pagination)
+     *
+     * @param id       id of the last tuition of the previous slice
+     * @param pageable page request (sorted by id)
+     * @return tuition slice
+     */
+    Slice<Tuition> findByIdGreaterThan(String id, Pageable pageable);
+
+    /**
+     * This method returns the slice of tuition summaries that comes after the given id (keyset pagination).
+     * Only scalar columns are selected and the enrollments are counted in the DB, so no student id is loaded.
+     *
+     * @param id       id of the last tuition of the previous slice (minimum id for the first slice)
+     * @param pageable page request (sorted by id)
+     * @return tuition summary slice
+     */
+    @Query("select t.id as id, t.name as name, t.location as location, count(e.id.studentId) as enrollmentCount "
+            + "from Tuition t left join Enrollment e on e.id.tuitionId = t.id "
+            + "where t.id > :id group by t.id, t.name, t.location")
+    Slice<TuitionSummary> findSummariesByIdGreaterThan(@Param("id") String id, Pageable pageable);
+
+    /**
+     * This method returns the current version of a tuition
+     *
+     * @param id tuition id
+     * @return version/ empty
+     */
+    @Query("select t.version from Tuition t where t.id = :id")
+    Optional<Long> findVersionById(@Param("id") String id);
+
+    /**
+     * This method increments the version of a tuition if it still has the given version (compare and set)
+     *
+     * @param id      tuition id
+     * @param version expected version
+     * @return number of updated tuition (0 if the tuition was changed concurrently or deleted)
+     */
+    @Modifying
+    @Query("update Tuition t set t.version = t.version + 1 where t.id = :id and t.version = :version")
+    int incrementVersion(@Param("id") String id, @Param("version") Long version);
+
+    /**
+     * This method returns which of the given normalized names are already used by a tuition
+     *
+     * @param nameKeys normalized tuition names
+     * @return existing normalized names
+     */
+    @Query("select t.nameKey from Tuition t where t.nameKey in :nameKeys")
+    Set<String> findExistingNameKeys(@Param("nameKeys") Collection<String> nameKeys);
 }
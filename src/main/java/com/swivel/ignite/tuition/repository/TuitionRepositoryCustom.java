@@ -0,0 +1,21 @@
+package com.swivel.ignite.tuition.repository;
+
+import com.swivel.ignite.tuition.entity.Tuition;
+
+import java.util.stream.Stream;
+
+/**
+ * Tuition Repository operations that are not derived by Spring Data
+ */
+public interface TuitionRepositoryCustom {
+
+    /**
+     * This method streams all tuition ordered by id with their student ids, reading the rows with a forward
+     * only cursor. Every tuition is detached before it is handed out, so the persistence context does not grow
+     * with the number of rows. The stream must be consumed and closed inside a transaction.
+     *
+     * @param fetchSize JDBC fetch size (Integer.MIN_VALUE streams row by row on MySQL)
+     * @return tuition stream
+     */
+    Stream<Tuition> streamAll(int fetchSize);
+}
@@ -0,0 +1,38 @@
+package com.swivel.ignite.tuition.repository;
+
+import com.swivel.ignite.tuition.entity.Tuition;
+import org.hibernate.annotations.QueryHints;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.stream.Stream;
+
+/**
+ * Tuition Repository custom operations
+ */
+public class TuitionRepositoryCustomImpl implements TuitionRepositoryCustom {
+
+    private static final String STREAM_ALL_QUERY = "select t from Tuition t left join fetch t.studentIds order by t.id";
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<Tuition> streamAll(int fetchSize) {
+        return entityManager.createQuery(STREAM_ALL_QUERY, Tuition.class)
+                .setHint(QueryHints.FETCH_SIZE, fetchSize)
+                .setHint(QueryHints.READ_ONLY, true)
+                .getResultStream()
+                .map(this::detach);
+    }
+
+    /**
+     * This method detaches a fully loaded tuition from the persistence context
+     *
+     * @param tuition tuition
+     * @return detached tuition
+     */
+    private Tuition detach(Tuition tuition) {
+        entityManager.detach(tuition);
+        return tuition;
+    }
+}
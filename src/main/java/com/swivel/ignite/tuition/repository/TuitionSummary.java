@@ -0,0 +1,15 @@
+package com.swivel.ignite.tuition.repository;
+
+/**
+ * Tuition summary projection (scalar columns and the number of enrolled students)
+ */
+public interface TuitionSummary {
+
+    String getId();
+
+    String getName();
+
+    String getLocation();
+
+    long getEnrollmentCount();
+}
@@ -0,0 +1,307 @@
+package com.swivel.ignite.tuition.service;
+
+import com.swivel.ignite.tuition.config.ServiceTokenProvider;
+import com.swivel.ignite.tuition.entity.OutboxEvent;
+import com.swivel.ignite.tuition.enums.OutboxClientType;
+import com.swivel.ignite.tuition.enums.OutboxEventType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.common.exceptions.OAuth2Exception;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Delivers the outbox events to the student and payment microservices in the background
+ * <p>
+ * Every poll claims batches of due events until none is left. The events of a batch have distinct aggregate
+ * keys, so they are sent concurrently (up to the configured concurrency) on the non-blocking clients, and the
+ * delivered events of the batch are deleted together. The removals of a batch that belong to the same tuition
+ * are merged into one chunked unlink call, so removing many students from a tuition does not take one student
+ * microservice call per student.
+ * <p>
+ * The events are sent on the non-blocking clients by default. With tuition.outbox.client set to BLOCKING they are
+ * sent on the blocking {@link StudentService} and {@link PaymentService} instead, each call on a worker thread,
+ * so that both client paths can be compared under load.
+ * <p>
+ * Events are delivered long after the request that recorded them, so the calls are authorized with the access
+ * token of this service (see {@link ServiceTokenProvider}) instead of the token of that request. A call rejected
+ * with 401 drops the service token and is retried with a new one.
+ */
+@Slf4j
+@Service
+public class OutboxDispatcher {
+
+    private final OutboxService outboxService;
+    private final ReactiveStudentService reactiveStudentService;
+    private final ReactivePaymentService reactivePaymentService;
+    private final StudentService studentService;
+    private final PaymentService paymentService;
+    private final StudentUnlinkService studentUnlinkService;
+    private final ServiceTokenProvider serviceTokenProvider;
+    private final int concurrency;
+    private final OutboxClientType clientType;
+
+    @Autowired
+    public OutboxDispatcher(OutboxService outboxService, ReactiveStudentService reactiveStudentService,
+                            ReactivePaymentService reactivePaymentService, StudentService studentService,
+                            PaymentService paymentService, StudentUnlinkService studentUnlinkService,
+                            ServiceTokenProvider serviceTokenProvider,
+                            @Value("${tuition.outbox.concurrency}") int concurrency,
+                            @Value("${tuition.outbox.client}") OutboxClientType clientType) {
+        this.outboxService = outboxService;
+        this.reactiveStudentService = reactiveStudentService;
+        this.reactivePaymentService = reactivePaymentService;
+        this.studentService = studentService;
+        this.paymentService = paymentService;
+        this.studentUnlinkService = studentUnlinkService;
+        this.serviceTokenProvider = serviceTokenProvider;
+        this.concurrency = concurrency;
+        this.clientType = clientType;
+    }
+
+    /**
+     * This method delivers the due outbox events batch by batch
+     */
+    @Scheduled(fixedDelayString = "${tuition.outbox.pollIntervalMillis}")
+    public void dispatch() {
+        try {
+            List<OutboxEvent> events = outboxService.claimBatch();
+            while (!events.isEmpty()) {
+                deliver(events).block();
+                events = outboxService.claimBatch();
+            }
+        } catch (DataAccessException e) {
+            log.error("Failed to dispatch outbox events", e);
+        }
+    }
+
+    /**
+     * This method delivers the due events of a tuition without waiting for the next poll, e.g. right after the
+     * change that recorded them. Events that cannot be delivered now stay in the outbox for the poll.
+     *
+     * @param tuitionId tuition id
+     * @return completion (never an error)
+     */
+    public Mono<Void> dispatchTuition(String tuitionId) {
+        return Mono.fromCallable(() -> outboxService.claimTuition(tuitionId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(this::deliver)
+                .onErrorResume(DataAccessException.class, e -> {
+                    log.error("Failed to dispatch outbox events of tuition id: {}", tuitionId, e);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * This method sends a batch of claimed events with the service token and records the outcome of each. If no
+     * service token can be obtained, every event of the batch is retried later.
+     *
+     * @param events claimed events
+     * @return completion once the outcome of every event is recorded
+     */
+    private Mono<Void> deliver(List<OutboxEvent> events) {
+        if (events.isEmpty())
+            return Mono.empty();
+        List<OutboxEvent> delivered = Collections.synchronizedList(new ArrayList<>());
+        Map<OutboxEvent, Throwable> failures = Collections.synchronizedMap(new LinkedHashMap<>());
+        return Mono.fromCallable(serviceTokenProvider::getToken)
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> e instanceof OAuth2Exception || e instanceof RestClientException, e -> {
+                    log.error("Failed to obtain the service access token for {} outbox events", events.size(), e);
+                    events.forEach(event -> outboxService.markFailed(event, e, true));
+                    return Mono.empty();
+                })
+                .flatMap(token -> Flux.fromIterable(groupEvents(events))
+                        .flatMap(group -> Mono.defer(() -> send(group, token))
+                                .onErrorResume(e -> {
+                                    Map<OutboxEvent, Throwable> groupFailures = new HashMap<>();
+                                    group.forEach(event -> groupFailures.put(event, e));
+                                    return Mono.just(groupFailures);
+                                })
+                                .doOnNext(groupFailures -> group.forEach(event -> {
+                                    Throwable error = groupFailures.get(event);
+                                    if (error == null)
+                                        delivered.add(event);
+                                    else
+                                        failures.put(event, error);
+                                })), concurrency)
+                        .then(Mono.<Void>fromRunnable(() -> recordOutcome(events, delivered, failures))
+                                .subscribeOn(Schedulers.boundedElastic())));
+    }
+
+    /**
+     * This method records the outcome of a delivered batch. A failure caused by a rejected service token drops
+     * the token, so the retry gets a new one.
+     *
+     * @param events    claimed events
+     * @param delivered delivered events
+     * @param failures  failures by event
+     */
+    private void recordOutcome(List<OutboxEvent> events, List<OutboxEvent> delivered,
+                               Map<OutboxEvent, Throwable> failures) {
+        outboxService.markDelivered(delivered);
+        if (failures.values().stream().anyMatch(this::isUnauthorized))
+            serviceTokenProvider.invalidate();
+        failures.forEach((event, error) -> outboxService.markFailed(event, error, isRetryable(error)));
+        log.debug("Delivered {} of {} outbox events", delivered.size(), events.size());
+    }
+
+    /**
+     * This method groups the removals of the same tuition. Every other event is a group of its own.
+     *
+     * @param events claimed events
+     * @return event groups in claim order
+     */
+    private Collection<List<OutboxEvent>> groupEvents(List<OutboxEvent> events) {
+        Map<Object, List<OutboxEvent>> groups = new LinkedHashMap<>();
+        for (OutboxEvent event : events) {
+            Object key = event.getType() == OutboxEventType.REMOVE_TUITION_FROM_STUDENTS
+                    ? event.getTuitionId() : event;
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(event);
+        }
+        return groups.values();
+    }
+
+    /**
+     * This method sends the downstream call(s) of an event group
+     *
+     * @param group event group
+     * @param token service access token
+     * @return failures by event (empty if every event was delivered)
+     */
+    private Mono<Map<OutboxEvent, Throwable>> send(List<OutboxEvent> group, String token) {
+        OutboxEvent event = group.get(0);
+        if (event.getType() == OutboxEventType.REMOVE_TUITION_FROM_STUDENTS)
+            return removeTuitionFromStudents(group, token);
+        return send(event, token).then(Mono.just(Collections.emptyMap()));
+    }
+
+    /**
+     * This method removes a tuition from the students of a group of removal events with one chunked unlink call.
+     * When the tuition could be removed from some students only, each failed event keeps its remaining students
+     * for the next attempt.
+     *
+     * @param group removal events of one tuition
+     * @param token service access token
+     * @return failures by event (empty if every event was delivered)
+     */
+    private Mono<Map<OutboxEvent, Throwable>> removeTuitionFromStudents(List<OutboxEvent> group, String token) {
+        OutboxEvent first = group.get(0);
+        List<String> studentIds = group.stream()
+                .flatMap(event -> event.getStudentIds().stream())
+                .distinct()
+                .collect(Collectors.toList());
+        return removeTuition(first.getTuitionId(), studentIds, token)
+                .map(studentFailures -> {
+                    Map<OutboxEvent, Throwable> failures = new HashMap<>();
+                    for (OutboxEvent event : group) {
+                        List<String> failedStudentIds = event.getStudentIds().stream()
+                                .filter(studentFailures::containsKey)
+                                .collect(Collectors.toList());
+                        if (failedStudentIds.isEmpty())
+                            continue;
+                        event.setStudentIds(failedStudentIds);
+                        failures.put(event, studentFailures.get(failedStudentIds.get(0)));
+                    }
+                    return failures;
+                });
+    }
+
+    /**
+     * This method removes a tuition from students on the configured client
+     *
+     * @param tuitionId  tuition id
+     * @param studentIds student ids
+     * @param token      service access token
+     * @return failures by student id (empty if every student was updated)
+     */
+    private Mono<Map<String, Throwable>> removeTuition(String tuitionId, List<String> studentIds, String token) {
+        if (clientType == OutboxClientType.BLOCKING)
+            return Mono.fromCallable(() -> studentUnlinkService.removeTuition(tuitionId, studentIds, token))
+                    .subscribeOn(Schedulers.boundedElastic());
+        return studentUnlinkService.removeTuitionAsync(tuitionId, studentIds, token);
+    }
+
+    /**
+     * This method sends the downstream call of an event other than a removal
+     *
+     * @param event outbox event
+     * @param token service access token
+     * @return completion/ error
+     */
+    private Mono<Void> send(OutboxEvent event, String token) {
+        String tuitionId = event.getTuitionId();
+        boolean blocking = clientType == OutboxClientType.BLOCKING;
+        switch (event.getType()) {
+            case ADD_TUITION_TO_STUDENT:
+                String studentId = event.getStudentIds().get(0);
+                return blocking ? runBlocking(() -> studentService.addTuition(studentId, tuitionId, token))
+                        : reactiveStudentService.addTuition(studentId, tuitionId, token);
+            case DELETE_PAYMENTS_BY_TUITION_ID:
+                return blocking ? runBlocking(() -> paymentService.deleteByTuitionId(tuitionId, token))
+                        : reactivePaymentService.deleteByTuitionId(tuitionId, token);
+            default:
+                return Mono.error(new IllegalStateException("Unknown outbox event type: " + event.getType()));
+        }
+    }
+
+    /**
+     * This method runs a blocking client call on a worker thread
+     *
+     * @param call blocking client call
+     * @return completion/ error
+     */
+    private Mono<Void> runBlocking(BlockingCall call) {
+        return Mono.<Void>fromCallable(() -> {
+            call.run();
+            return null;
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * This method checks if a failed call may succeed when retried. Client errors are final, except for
+     * a rejected service token, request timeouts and rate limiting.
+     *
+     * @param error delivery error
+     * @return true/false
+     */
+    private boolean isRetryable(Throwable error) {
+        if (!(error instanceof HttpClientErrorException))
+            return true;
+        HttpStatus status = ((HttpClientErrorException) error).getStatusCode();
+        return status == HttpStatus.UNAUTHORIZED || status == HttpStatus.REQUEST_TIMEOUT
+                || status == HttpStatus.TOO_MANY_REQUESTS;
+    }
+
+    /**
+     * This method checks if a failed call was rejected because of the access token
+     *
+     * @param error delivery error
+     * @return true/false
+     */
+    private boolean isUnauthorized(Throwable error) {
+        return error instanceof HttpClientErrorException
+                && ((HttpClientErrorException) error).getStatusCode() == HttpStatus.UNAUTHORIZED;
+    }
+
+    /**
+     * Call of a blocking student or payment microservice client
+     */
+    @FunctionalInterface
+    private interface BlockingCall {
+
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,234 @@
+package com.swivel.ignite.tuition.service;
+
+import com.swivel.ignite.tuition.entity.OutboxEvent;
+import com.swivel.ignite.tuition.enums.OutboxEventStatusType;
+import com.swivel.ignite.tuition.enums.OutboxEventType;
+import com.swivel.ignite.tuition.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Transactional outbox of the student and payment microservice calls
+ * <p>
+ * Tuition changes record their downstream calls as outbox events in the same local transaction, so a call is
+ * recorded if and only if the change is committed. The {@link OutboxDispatcher} claims due events in batches,
+ * deletes the delivered ones and reschedules failed ones with exponential back off until the max attempts are
+ * reached (at least once delivery). Outcomes are counted by tuition.outbox.events (tagged by type, outcome).
+ */
+@Slf4j
+@Service
+public class OutboxService {
+
+    private static final String EVENTS_METRIC = "tuition.outbox.events";
+    private static final String TYPE_TAG = "type";
+    private static final String OUTCOME_TAG = "outcome";
+    private static final String ENQUEUED = "enqueued";
+    private static final String DELIVERED = "delivered";
+    private static final String RETRIED = "retried";
+    private static final String DEAD = "dead";
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final int MAX_BACK_OFF_SHIFT = 30;
+    private final OutboxEventRepository outboxEventRepository;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final long leaseSeconds;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    @Autowired
+    public OutboxService(OutboxEventRepository outboxEventRepository, MeterRegistry meterRegistry,
+                         @Value("${tuition.outbox.batchSize}") int batchSize,
+                         @Value("${tuition.outbox.leaseSeconds}") long leaseSeconds,
+                         @Value("${tuition.outbox.maxAttempts}") int maxAttempts,
+                         @Value("${tuition.outbox.initialBackoffMillis}") long initialBackoffMillis,
+                         @Value("${tuition.outbox.maxBackoffMillis}") long maxBackoffMillis) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.leaseSeconds = leaseSeconds;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    /**
+     * This method records that the tuition has to be added to the student in student microservice.
+     * It must be called inside the transaction that enrolls the student.
+     *
+     * @param tuitionId tuition id
+     * @param studentId student id
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueAddTuitionToStudent(String tuitionId, String studentId) {
+        enqueue(new OutboxEvent(OutboxEventType.ADD_TUITION_TO_STUDENT, studentId, tuitionId,
+                Collections.singletonList(studentId)));
+    }
+
+    /**
+     * This method records that the tuition has to be removed from the student in student microservice.
+     * It must be called inside the transaction that removes the enrollment.
+     *
+     * @param tuitionId tuition id
+     * @param studentId student id
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueRemoveTuitionFromStudent(String tuitionId, String studentId) {
+        enqueue(new OutboxEvent(OutboxEventType.REMOVE_TUITION_FROM_STUDENTS, studentId, tuitionId,
+                Collections.singletonList(studentId)));
+    }
+
+    /**
+     * This method records that a deleted tuition has to be removed from its students in student microservice.
+     * It must be called inside the transaction that deletes the tuition. One event is recorded per student and
+     * keyed by the student, so a removal is never delivered before an earlier enrollment event of its student.
+     * The dispatcher merges the removals of the tuition into chunked calls again.
+     *
+     * @param tuitionId  tuition id
+     * @param studentIds student ids
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueRemoveTuitionFromStudents(String tuitionId, Collection<String> studentIds) {
+        studentIds.forEach(studentId -> enqueueRemoveTuitionFromStudent(tuitionId, studentId));
+    }
+
+    /**
+     * This method records that the payments of a deleted tuition have to be deleted in payment microservice.
+     * It must be called inside the transaction that deletes the tuition.
+     *
+     * @param tuitionId tuition id
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueDeletePaymentsByTuitionId(String tuitionId) {
+        enqueue(new OutboxEvent(OutboxEventType.DELETE_PAYMENTS_BY_TUITION_ID, tuitionId, tuitionId, null));
+    }
+
+    /**
+     * This method saves a new outbox event
+     *
+     * @param event outbox event
+     */
+    private void enqueue(OutboxEvent event) {
+        outboxEventRepository.save(event);
+        count(event, ENQUEUED);
+    }
+
+    /**
+     * This method claims the next batch of due events for one dispatch run. The events stay claimed until they
+     * are marked delivered/ failed or the lease ends.
+     *
+     * @return claimed events ordered by id (empty if no event is due)
+     */
+    public List<OutboxEvent> claimBatch() {
+        Instant now = Instant.now();
+        return claim(outboxEventRepository.findDueIds(OutboxEventStatusType.PENDING, now,
+                PageRequest.of(0, batchSize)), now);
+    }
+
+    /**
+     * This method claims the due events of one tuition, so that they can be delivered right after the change
+     * that recorded them instead of on the next poll
+     *
+     * @param tuitionId tuition id
+     * @return claimed events ordered by id (empty if no event of the tuition is due)
+     */
+    public List<OutboxEvent> claimTuition(String tuitionId) {
+        Instant now = Instant.now();
+        return claim(outboxEventRepository.findDueIdsByTuitionId(OutboxEventStatusType.PENDING, tuitionId, now,
+                PageRequest.of(0, batchSize)), now);
+    }
+
+    /**
+     * This method claims the given due events until they are marked delivered/ failed or the lease ends. Events
+     * that were claimed by someone else in the meantime are left out.
+     *
+     * @param ids event ids
+     * @param now current time
+     * @return claimed events ordered by id
+     */
+    private List<OutboxEvent> claim(List<Long> ids, Instant now) {
+        if (ids.isEmpty())
+            return Collections.emptyList();
+        String claimedBy = UUID.randomUUID().toString();
+        if (outboxEventRepository.claim(ids, OutboxEventStatusType.PENDING, claimedBy, now,
+                now.plusSeconds(leaseSeconds)) == 0)
+            return Collections.emptyList();
+        return outboxEventRepository.findByClaimedByOrderById(claimedBy);
+    }
+
+    /**
+     * This method deletes the delivered events with one statement
+     *
+     * @param events delivered events
+     */
+    public void markDelivered(Collection<OutboxEvent> events) {
+        if (events.isEmpty())
+            return;
+        outboxEventRepository.deleteByIds(events.stream().map(OutboxEvent::getId).collect(Collectors.toList()));
+        events.forEach(event -> count(event, DELIVERED));
+    }
+
+    /**
+     * This method records a failed delivery. A retryable failure reschedules the event with exponential back
+     * off, and the event is given up (dead) once it is not retryable or the max attempts are reached. Dead
+     * events are kept for inspection and no longer block the later events of their aggregate key.
+     *
+     * @param event     claimed event
+     * @param error     delivery error
+     * @param retryable true if the call may succeed when retried
+     */
+    public void markFailed(OutboxEvent event, Throwable error, boolean retryable) {
+        int attempts = event.getAttempts() + 1;
+        event.setAttempts(attempts);
+        event.setClaimedBy(null);
+        String lastError = String.valueOf(error);
+        event.setLastError(lastError.length() > MAX_ERROR_LENGTH ? lastError.substring(0, MAX_ERROR_LENGTH)
+                : lastError);
+        if (!retryable || attempts >= maxAttempts) {
+            event.setStatus(OutboxEventStatusType.DEAD);
+            log.error("Giving up outbox event id: {} of type: {} for tuition id: {} after {} attempts",
+                    event.getId(), event.getType(), event.getTuitionId(), attempts, error);
+            count(event, DEAD);
+        } else {
+            long backOffMillis = getBackOffMillis(attempts);
+            event.setNextAttemptAt(Instant.now().plusMillis(backOffMillis));
+            log.warn("Failed to deliver outbox event id: {} of type: {} for tuition id: {}, retrying in {}ms",
+                    event.getId(), event.getType(), event.getTuitionId(), backOffMillis, error);
+            count(event, RETRIED);
+        }
+        outboxEventRepository.save(event);
+    }
+
+    /**
+     * This method returns the wait before the next delivery attempt (exponential back off with jitter)
+     *
+     * @param attempt number of the failed attempt
+     * @return back off in millis
+     */
+    private long getBackOffMillis(int attempt) {
+        long backOffMillis = Math.min(maxBackoffMillis,
+                initialBackoffMillis << Math.min(attempt - 1, MAX_BACK_OFF_SHIFT));
+        return backOffMillis + ThreadLocalRandom.current().nextLong(backOffMillis / 2 + 1);
+    }
+
+    /**
+     * This method counts an outbox event outcome
+     *
+     * @param event   outbox event
+     * @param outcome outcome
+     */
+    private void count(OutboxEvent event, String outcome) {
+        meterRegistry.counter(EVENTS_METRIC, TYPE_TAG, event.getType().name(), OUTCOME_TAG, outcome).increment();
+    }
+}
@@ -1,7 +1,15 @@
 package com.swivel.ignite.tuition.service;
 
+import com.swivel.ignite.tuition.config.BaseConfig;
+import com.swivel.ignite.tuition.config.ResilienceConfig;
 import com.swivel.ignite.tuition.exception.PaymentServiceHttpClientErrorException;
+import com.swivel.ignite.tuition.exception.PaymentServiceUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -16,9 +24,12 @@ import org.springframework.web.util.UriComponentsBuilder;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Payment Microservice
+ * <p>
+ * Every call goes through the payment circuit breaker and bulkhead (see {@link ResilienceConfig}).
  */
 @Slf4j
 @Service
@@ -26,14 +37,21 @@ public class PaymentService {
 
     private static final String AUTH_HEADER = "Authorization";
     private static final String FAILED_TO_DELETE_PAYMENT_BY_TUITION_ID = "Failed to delete payments by tuitionId";
+    private static final String PAYMENT_SERVICE_UNAVAILABLE = "Payment service unavailable, call rejected by ";
     private final RestTemplate restTemplate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
     private final String getDeleteByTuitionIdUrl;
 
     public PaymentService(@Value("${payment.baseUrl}") String baseUrl,
                           @Value("${payment.deleteByTuitionIdUrl}") String deleteByTuitionIdUrl,
-                          RestTemplate restTemplate) {
+                          @Qualifier(BaseConfig.PAYMENT_REST_TEMPLATE) RestTemplate restTemplate,
+                          @Qualifier(ResilienceConfig.PAYMENT_CIRCUIT_BREAKER) CircuitBreaker circuitBreaker,
+                          @Qualifier(ResilienceConfig.PAYMENT_BULKHEAD) Bulkhead bulkhead) {
         this.getDeleteByTuitionIdUrl = baseUrl + deleteByTuitionIdUrl;
         this.restTemplate = restTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
     }
 
     /**
@@ -51,12 +69,31 @@ public class PaymentService {
         HttpEntity<String> entity = new HttpEntity<>(null, headers);
         try {
             log.debug("Calling payment service to delete all payments by tuitionId. url: {}", getDeleteByTuitionIdUrl);
-            ResponseEntity<String> result = restTemplate.exchange(builder.toUriString(), HttpMethod.DELETE, entity,
-                    String.class, uriParam);
+            ResponseEntity<String> result = call(() -> restTemplate.exchange(builder.toUriString(),
+                    HttpMethod.DELETE, entity, String.class, uriParam));
             log.debug("Deleting all payments by tuition id was successful. statusCode: {}", result.getStatusCode());
         } catch (HttpClientErrorException e) {
             throw new PaymentServiceHttpClientErrorException(e.getStatusCode(), FAILED_TO_DELETE_PAYMENT_BY_TUITION_ID,
                     e.getResponseBodyAsString(), e);
         }
     }
+
+    /**
+     * This method sends a call to payment microservice through its circuit breaker and bulkhead
+     *
+     * @param call payment microservice call
+     * @return call result
+     * @throws PaymentServiceUnavailableException if the circuit is open or too many calls are in flight
+     */
+    private <T> T call(Supplier<T> call) {
+        try {
+            return circuitBreaker.executeSupplier(() -> bulkhead.executeSupplier(call));
+        } catch (CallNotPermittedException e) {
+            throw new PaymentServiceUnavailableException(PAYMENT_SERVICE_UNAVAILABLE + circuitBreaker.getName()
+                    + " circuit breaker", e);
+        } catch (BulkheadFullException e) {
+            throw new PaymentServiceUnavailableException(PAYMENT_SERVICE_UNAVAILABLE + bulkhead.getName()
+                    + " bulkhead", e);
+        }
+    }
 }
@@ -0,0 +1,99 @@
+package com.swivel.ignite.tuition.service;
+
+import com.swivel.ignite.tuition.config.ResilienceConfig;
+import com.swivel.ignite.tuition.config.WebClientConfig;
+import com.swivel.ignite.tuition.exception.PaymentServiceHttpClientErrorException;
+import com.swivel.ignite.tuition.exception.PaymentServiceUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Payment Microservice (non-blocking client)
+ * <p>
+ * Same calls as {@link PaymentService} on a non-blocking web client. Calls share the payment circuit breaker
+ * and bulkhead with the blocking client.
+ */
+@Slf4j
+@Service
+public class ReactivePaymentService {
+
+    private static final String AUTH_HEADER = "Authorization";
+    private static final String FAILED_TO_DELETE_PAYMENT_BY_TUITION_ID = "Failed to delete payments by tuitionId";
+    private static final String PAYMENT_SERVICE_UNAVAILABLE = "Payment service unavailable, call rejected by ";
+    private final WebClient webClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final String deleteByTuitionIdUrl;
+    private final Duration readTimeout;
+
+    public ReactivePaymentService(@Value("${payment.deleteByTuitionIdUrl}") String deleteByTuitionIdUrl,
+                                  @Value("${payment.http.readTimeoutMillis}") long readTimeoutMillis,
+                                  @Qualifier(WebClientConfig.PAYMENT_WEB_CLIENT) WebClient webClient,
+                                  @Qualifier(ResilienceConfig.PAYMENT_CIRCUIT_BREAKER) CircuitBreaker circuitBreaker,
+                                  @Qualifier(ResilienceConfig.PAYMENT_BULKHEAD) Bulkhead bulkhead) {
+        this.deleteByTuitionIdUrl = deleteByTuitionIdUrl;
+        this.readTimeout = Duration.ofMillis(readTimeoutMillis);
+        this.webClient = webClient;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+    }
+
+    /**
+     * This method deletes a payment by tuition id in payment microservice
+     *
+     * @param tuitionId tuition id
+     * @return completion/ error
+     */
+    public Mono<Void> deleteByTuitionId(String tuitionId, String token) {
+        Map<String, String> uriParam = new HashMap<>();
+        uriParam.put("tuitionId", tuitionId);
+        log.debug("Calling payment service to delete all payments by tuitionId. url: {}", deleteByTuitionIdUrl);
+        return webClient.delete()
+                .uri(deleteByTuitionIdUrl, uriParam)
+                .header(AUTH_HEADER, token)
+                .retrieve()
+                .toBodilessEntity()
+                .then()
+                .timeout(readTimeout)
+                .onErrorMap(WebClientResponseException.class, this::toClientErrorException)
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .onErrorMap(CallNotPermittedException.class, e -> new PaymentServiceUnavailableException(
+                        PAYMENT_SERVICE_UNAVAILABLE + circuitBreaker.getName() + " circuit breaker", e))
+                .onErrorMap(BulkheadFullException.class, e -> new PaymentServiceUnavailableException(
+                        PAYMENT_SERVICE_UNAVAILABLE + bulkhead.getName() + " bulkhead", e));
+    }
+
+    /**
+     * This method maps a 4xx response to a payment service client error exception. Other responses are kept.
+     *
+     * @param exception web client response exception
+     * @return mapped exception
+     */
+    private Throwable toClientErrorException(WebClientResponseException exception) {
+        if (!exception.getStatusCode().is4xxClientError())
+            return exception;
+        try {
+            return new PaymentServiceHttpClientErrorException(exception.getStatusCode(),
+                    FAILED_TO_DELETE_PAYMENT_BY_TUITION_ID, exception.getResponseBodyAsString(), exception);
+        } catch (IOException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.swivel.ignite.tuition.service;
+
+import com.swivel.ignite.tuition.cache.StudentCache;
+import com.swivel.ignite.tuition.config.ResilienceConfig;
+import com.swivel.ignite.tuition.config.WebClientConfig;
+import com.swivel.ignite.tuition.dto.request.StudentIdListRequestDto;
+import com.swivel.ignite.tuition.dto.response.StudentResponseDto;
+import com.swivel.ignite.tuition.exception.StudentServiceHttpClientErrorException;
+import com.swivel.ignite.tuition.exception.StudentServiceUnavailableException;
+import com.swivel.ignite.tuition.wrapper.StudentResponseWrapper;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Student Microservice (non-blocking client)
+ * <p>
+ * Same calls as {@link StudentService} on a non-blocking web client, so no thread waits for the student
+ * microservice. Calls share the student circuit breaker and bulkhead with the blocking client, and a student
+ * is evicted from the {@link StudentCache} whenever this client changes its tuition.
+ */
+@Slf4j
+@Service
+public class ReactiveStudentService {
+
+    private static final String AUTH_HEADER = "Authorization";
+    private static final String FAILED_TO_GET_STUDENT_BY_ID = "Failed to get student by studentId";
+    private static final String FAILED_TO_ADD_TUITION_TO_STUDENT = "Failed to add tuition to student";
+    private static final String FAILED_TO_REMOVE_TUITION_FROM_STUDENT = "Failed to remove tuition from student";
+    private static final String FAILED_TO_REMOVE_TUITION_FROM_STUDENTS = "Failed to remove tuition from students";
+    private static final String STUDENT_SERVICE_UNAVAILABLE = "Student service unavailable, call rejected by ";
+    private static final String STUDENT_ID = "studentId";
+    private static final String TUITION_ID = "tuitionId";
+    private final WebClient webClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final StudentCache studentCache;
+    private final String findByIdUrl;
+    private final String addTuitionToStudentUrl;
+    private final String removeTuitionFromStudentUrl;
+    private final String removeTuitionFromStudentsUrl;
+    private final Duration readTimeout;
+
+    public ReactiveStudentService(@Value("${student.findByIdUrl}") String findByIdUrl,
+                                  @Value("${student.addTuitionToStudentUrl}") String addTuitionToStudentUrl,
+                                  @Value("${student.removeTuitionFromStudentUrl}") String removeTuitionFromStudentUrl,
+                                  @Value("${student.removeTuitionFromStudentsUrl}") String removeTuitionFromStudentsUrl,
+                                  @Value("${student.http.readTimeoutMillis}") long readTimeoutMillis,
+                                  @Qualifier(WebClientConfig.STUDENT_WEB_CLIENT) WebClient webClient,
+                                  @Qualifier(ResilienceConfig.STUDENT_CIRCUIT_BREAKER) CircuitBreaker circuitBreaker,
+                                  @Qualifier(ResilienceConfig.STUDENT_BULKHEAD) Bulkhead bulkhead,
+                                  StudentCache studentCache) {
+        this.findByIdUrl = findByIdUrl;
+        this.addTuitionToStudentUrl = addTuitionToStudentUrl;
+        this.removeTuitionFromStudentUrl = removeTuitionFromStudentUrl;
+        this.removeTuitionFromStudentsUrl = removeTuitionFromStudentsUrl;
+        this.readTimeout = Duration.ofMillis(readTimeoutMillis);
+        this.webClient = webClient;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.studentCache = studentCache;
+    }
+
+    /**
+     * This method is used to find a student by id in student microservice
+     *
+     * @param studentId student id
+     * @return student/ error
+     */
+    public Mono<StudentResponseDto> findById(String studentId, String token) {
+        Map<String, String> uriParam = new HashMap<>();
+        uriParam.put(STUDENT_ID, studentId);
+        log.debug("Calling student microservice to get the student by studentId. url: {}", findByIdUrl);
+        return call(webClient.get()
+                .uri(findByIdUrl, uriParam)
+                .header(AUTH_HEADER, token)
+                .retrieve()
+                .bodyToMono(StudentResponseWrapper.class)
+                .map(StudentResponseWrapper::getData), FAILED_TO_GET_STUDENT_BY_ID);
+    }
+
+    /**
+     * This method is used to add a tuition to student in student microservice
+     *
+     * @param studentId student id
+     * @param tuitionId tuition id
+     * @return completion/ error
+     */
+    public Mono<Void> addTuition(String studentId, String tuitionId, String token) {
+        Map<String, String> uriParam = new HashMap<>();
+        uriParam.put(STUDENT_ID, studentId);
+        uriParam.put(TUITION_ID, tuitionId);
+        log.debug("Calling student service to add the tuition to student. url: {}", addTuitionToStudentUrl);
+        return call(webClient.post()
+                .uri(addTuitionToStudentUrl, uriParam)
+                .header(AUTH_HEADER, token)
+                .retrieve()
+                .toBodilessEntity()
+                .then(), FAILED_TO_ADD_TUITION_TO_STUDENT)
+                .doFinally(signal -> studentCache.evict(studentId));
+    }
+
+    /**
+     * This method is used to remove a tuition from student in student microservice
+     *
+     * @param studentId student id
+     * @param tuitionId tuition id
+     * @return completion/ error
+     */
+    public Mono<Void> removeTuition(String studentId, String tuitionId, String token) {
+        Map<String, String> uriParam = new HashMap<>();
+        uriParam.put(STUDENT_ID, studentId);
+        uriParam.put(TUITION_ID, tuitionId);
+        log.debug("Calling student service to remove the tuition from student. url: {}",
+                removeTuitionFromStudentUrl);
+        return call(webClient.post()
+                .uri(removeTuitionFromStudentUrl, uriParam)
+                .header(AUTH_HEADER, token)
+                .retrieve()
+                .toBodilessEntity()
+                .then(), FAILED_TO_REMOVE_TUITION_FROM_STUDENT)
+                .doFinally(signal -> studentCache.evict(studentId));
+    }
+
+    /**
+     * This method is used to remove a tuition from a batch of students in student microservice with one request
+     *
+     * @param studentIds student ids
+     * @param tuitionId  tuition id
+     * @return completion/ error
+     */
+    public Mono<Void> removeTuitionFromStudents(List<String> studentIds, String tuitionId, String token) {
+        Map<String, String> uriParam = new HashMap<>();
+        uriParam.put(TUITION_ID, tuitionId);
+        log.debug("Calling student service to remove the tuition from {} students. url: {}", studentIds.size(),
+                removeTuitionFromStudentsUrl);
+        return call(webClient.post()
+                .uri(removeTuitionFromStudentsUrl, uriParam)
+                .header(AUTH_HEADER, token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new StudentIdListRequestDto(studentIds))
+                .retrieve()
+                .toBodilessEntity()
+                .then(), FAILED_TO_REMOVE_TUITION_FROM_STUDENTS)
+                .doFinally(signal -> studentIds.forEach(studentCache::evict));
+    }
+
+    /**
+     * This method sends a call to student microservice through its circuit breaker and bulkhead. Client errors
+     * are mapped like in the blocking client before the circuit breaker sees them, so they are not failures.
+     *
+     * @param call           student microservice call
+     * @param failureMessage message of the client error exception
+     * @return call result/ error
+     */
+    private <T> Mono<T> call(Mono<T> call, String failureMessage) {
+        return call.timeout(readTimeout)
+                .onErrorMap(WebClientResponseException.class, e -> toClientErrorException(e, failureMessage))
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .onErrorMap(CallNotPermittedException.class, e -> new StudentServiceUnavailableException(
+                        STUDENT_SERVICE_UNAVAILABLE + circuitBreaker.getName() + " circuit breaker", e))
+                .onErrorMap(BulkheadFullException.class, e -> new StudentServiceUnavailableException(
+                        STUDENT_SERVICE_UNAVAILABLE + bulkhead.getName() + " bulkhead", e));
+    }
+
+    /**
+     * This method maps a 4xx response to a student service client error exception. Other responses are kept.
+     *
+     * @param exception      web client response exception
+     * @param failureMessage message of the client error exception
+     * @return mapped exception
+     */
+    private Throwable toClientErrorException(WebClientResponseException exception, String failureMessage) {
+        if (!exception.getStatusCode().is4xxClientError())
+            return exception;
+        try {
+            return new StudentServiceHttpClientErrorException(exception.getStatusCode(), failureMessage,
+                    exception.getResponseBodyAsString(), exception);
+        } catch (IOException e) {
+            return e;
+        }
+    }
+}
@@ -1,13 +1,24 @@
 package com.swivel.ignite.tuition.service;
 
+import com.swivel.ignite.tuition.cache.StudentCache;
+import com.swivel.ignite.tuition.config.BaseConfig;
+import com.swivel.ignite.tuition.config.ResilienceConfig;
+import com.swivel.ignite.tuition.dto.request.StudentIdListRequestDto;
 import com.swivel.ignite.tuition.dto.response.StudentResponseDto;
 import com.swivel.ignite.tuition.exception.StudentServiceHttpClientErrorException;
+import com.swivel.ignite.tuition.exception.StudentServiceUnavailableException;
 import com.swivel.ignite.tuition.wrapper.StudentResponseWrapper;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
@@ -17,11 +28,17 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Student Microservice
+ * <p>
+ * Students are read through a short lived {@link StudentCache}. A student is evicted whenever this service
+ * changes its tuition, whether the call succeeds or not, since a failed call may still have been applied.
+ * Every call goes through the student circuit breaker and bulkhead (see {@link ResilienceConfig}).
  */
 @Slf4j
 @Service
@@ -31,22 +48,36 @@ public class StudentService {
     private static final String FAILED_TO_GET_STUDENT_BY_ID = "Failed to get student by studentId";
     private static final String FAILED_TO_ADD_TUITION_TO_STUDENT = "Failed to add tuition to student";
     private static final String FAILED_TO_REMOVE_TUITION_FROM_STUDENT = "Failed to remove tuition from student";
+    private static final String FAILED_TO_REMOVE_TUITION_FROM_STUDENTS = "Failed to remove tuition from students";
     private static final String STUDENT_ID = "studentId";
     private static final String TUITION_ID = "tuitionId";
+    private static final String STUDENT_SERVICE_UNAVAILABLE = "Student service unavailable, call rejected by ";
     private final RestTemplate restTemplate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final StudentCache studentCache;
     private final String getFindByIdUrl;
     private final String getAddTuitionToStudentUrl;
     private final String getRemoveTuitionFromStudentUrl;
+    private final String getRemoveTuitionFromStudentsUrl;
 
     public StudentService(@Value("${student.baseUrl}") String baseUrl,
                           @Value("${student.findByIdUrl}") String findByIdUrl,
                           @Value("${student.addTuitionToStudentUrl}") String addTuitionToStudentUrl,
                           @Value("${student.removeTuitionFromStudentUrl}") String removeTuitionFromStudentUrl,
-                          RestTemplate restTemplate) {
+                          @Value("${student.removeTuitionFromStudentsUrl}") String removeTuitionFromStudentsUrl,
+                          @Qualifier(BaseConfig.STUDENT_REST_TEMPLATE) RestTemplate restTemplate,
+                          @Qualifier(ResilienceConfig.STUDENT_CIRCUIT_BREAKER) CircuitBreaker circuitBreaker,
+                          @Qualifier(ResilienceConfig.STUDENT_BULKHEAD) Bulkhead bulkhead,
+                          StudentCache studentCache) {
         this.getFindByIdUrl = baseUrl + findByIdUrl;
         this.getAddTuitionToStudentUrl = baseUrl + addTuitionToStudentUrl;
         this.getRemoveTuitionFromStudentUrl = baseUrl + removeTuitionFromStudentUrl;
+        this.getRemoveTuitionFromStudentsUrl = baseUrl + removeTuitionFromStudentsUrl;
         this.restTemplate = restTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.studentCache = studentCache;
     }
 
     /**
@@ -57,6 +88,17 @@ public class StudentService {
      * @throws IOException
      */
     public StudentResponseDto findById(String studentId, String token) throws IOException {
+        return studentCache.get(studentId, token, () -> getById(studentId, token));
+    }
+
+    /**
+     * This method is used to get a student by id from student microservice (bypassing the cache)
+     *
+     * @param studentId student id
+     * @return success(student)/error response
+     * @throws IOException
+     */
+    private StudentResponseDto getById(String studentId, String token) throws IOException {
         Map<String, String> uriParam = new HashMap<>();
         uriParam.put(STUDENT_ID, studentId);
         UriComponents builder = UriComponentsBuilder.fromHttpUrl(getFindByIdUrl).build();
@@ -65,8 +107,8 @@ public class StudentService {
         HttpEntity<String> entity = new HttpEntity<>(null, headers);
         try {
             log.debug("Calling student microservice to get the student by studentId. url: {}", getFindByIdUrl);
-            ResponseEntity<StudentResponseWrapper> result = restTemplate.exchange(builder.toUriString(), HttpMethod.GET,
-                    entity, StudentResponseWrapper.class, uriParam);
+            ResponseEntity<StudentResponseWrapper> result = call(() -> restTemplate.exchange(
+                    builder.toUriString(), HttpMethod.GET, entity, StudentResponseWrapper.class, uriParam));
             String responseBody = Objects.requireNonNull(result.getBody()).getData().toLogJson();
             log.debug("Getting the student by studentId was successful. statusCode: {}, response: {}",
                     result.getStatusCode(), responseBody);
@@ -95,12 +137,14 @@ public class StudentService {
         HttpEntity<String> entity = new HttpEntity<>(null, headers);
         try {
             log.debug("Calling student service to add the tuition to student. url: {}", getAddTuitionToStudentUrl);
-            ResponseEntity<String> result = restTemplate.exchange(builder.toUriString(), HttpMethod.POST, entity,
-                    String.class, uriParam);
+            ResponseEntity<String> result = call(() -> restTemplate.exchange(builder.toUriString(),
+                    HttpMethod.POST, entity, String.class, uriParam));
             log.debug("Adding tuition to student was successful. statusCode: {}", result.getStatusCode());
         } catch (HttpClientErrorException e) {
             throw new StudentServiceHttpClientErrorException(e.getStatusCode(), FAILED_TO_ADD_TUITION_TO_STUDENT,
                     e.getResponseBodyAsString(), e);
+        } finally {
+            studentCache.evict(studentId);
         }
     }
 
@@ -122,12 +166,62 @@ public class StudentService {
         HttpEntity<String> entity = new HttpEntity<>(null, headers);
         try {
             log.debug("Calling student service to remove the tuition from student. url: {}", getRemoveTuitionFromStudentUrl);
-            ResponseEntity<String> result = restTemplate.exchange(builder.toUriString(), HttpMethod.POST, entity,
-                    String.class, uriParam);
+            ResponseEntity<String> result = call(() -> restTemplate.exchange(builder.toUriString(),
+                    HttpMethod.POST, entity, String.class, uriParam));
             log.debug("Removing tuition from student was successful. statusCode: {}", result.getStatusCode());
         } catch (HttpClientErrorException e) {
             throw new StudentServiceHttpClientErrorException(e.getStatusCode(), FAILED_TO_REMOVE_TUITION_FROM_STUDENT,
                     e.getResponseBodyAsString(), e);
+        } finally {
+            studentCache.evict(studentId);
+        }
+    }
+
+    /**
+     * This method is used to remove a tuition from a batch of students in student microservice with one request
+     *
+     * @param studentIds student ids
+     * @param tuitionId  tuition id
+     * @throws IOException
+     */
+    public void removeTuitionFromStudents(List<String> studentIds, String tuitionId, String token) throws IOException {
+        Map<String, String> uriParam = new HashMap<>();
+        uriParam.put(TUITION_ID, tuitionId);
+        UriComponents builder = UriComponentsBuilder.fromHttpUrl(getRemoveTuitionFromStudentsUrl).build();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(AUTH_HEADER, token);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<StudentIdListRequestDto> entity = new HttpEntity<>(new StudentIdListRequestDto(studentIds), headers);
+        try {
+            log.debug("Calling student service to remove the tuition from {} students. url: {}", studentIds.size(),
+                    getRemoveTuitionFromStudentsUrl);
+            ResponseEntity<String> result = call(() -> restTemplate.exchange(builder.toUriString(),
+                    HttpMethod.POST, entity, String.class, uriParam));
+            log.debug("Removing tuition from students was successful. statusCode: {}", result.getStatusCode());
+        } catch (HttpClientErrorException e) {
+            throw new StudentServiceHttpClientErrorException(e.getStatusCode(), FAILED_TO_REMOVE_TUITION_FROM_STUDENTS,
+                    e.getResponseBodyAsString(), e);
+        } finally {
+            studentIds.forEach(studentCache::evict);
+        }
+    }
+
+    /**
+     * This method sends a call to student microservice through its circuit breaker and bulkhead
+     *
+     * @param call student microservice call
+     * @return call result
+     * @throws StudentServiceUnavailableException if the circuit is open or too many calls are in flight
+     */
+    private <T> T call(Supplier<T> call) {
+        try {
+            return circuitBreaker.executeSupplier(() -> bulkhead.executeSupplier(call));
+        } catch (CallNotPermittedException e) {
+            throw new StudentServiceUnavailableException(STUDENT_SERVICE_UNAVAILABLE + circuitBreaker.getName()
+                    + " circuit breaker", e);
+        } catch (BulkheadFullException e) {
+            throw new StudentServiceUnavailableException(STUDENT_SERVICE_UNAVAILABLE + bulkhead.getName()
+                    + " bulkhead", e);
         }
     }
 }
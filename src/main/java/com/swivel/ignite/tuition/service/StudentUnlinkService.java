@@ -0,0 +1,249 @@
+package com.swivel.ignite.tuition.service;
+
+import com.swivel.ignite.tuition.config.BaseConfig;
+import com.swivel.ignite.tuition.exception.TuitionServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Removes a tuition from many students in the student microservice. Each batch of students is sent in one
+ * batch request. If the student microservice does not provide the batch endpoint (404), the per student calls
+ * run in parallel on the bounded executor of the bulk lookups, so the time taken is close to the slowest call of
+ * each batch.
+ * The same flow is also available on the non-blocking {@link ReactiveStudentService}, where the parallel calls
+ * are bounded by the same concurrency but hold no thread while waiting.
+ */
+@Slf4j
+@Service
+public class StudentUnlinkService {
+
+    private final StudentService studentService;
+    private final ReactiveStudentService reactiveStudentService;
+    private final Executor executor;
+    private final int concurrency;
+    private final int batchSize;
+    private final long batchTimeoutMillis;
+
+    @Autowired
+    public StudentUnlinkService(StudentService studentService, ReactiveStudentService reactiveStudentService,
+                                @Qualifier(BaseConfig.BULK_LOOKUP_EXECUTOR) Executor executor,
+                                @Value("${tuition.unlink.concurrency}") int concurrency,
+                                @Value("${tuition.unlink.batchSize}") int batchSize,
+                                @Value("${tuition.unlink.batchTimeoutMillis}") long batchTimeoutMillis) {
+        this.studentService = studentService;
+        this.reactiveStudentService = reactiveStudentService;
+        this.executor = executor;
+        this.concurrency = concurrency;
+        this.batchSize = batchSize;
+        this.batchTimeoutMillis = batchTimeoutMillis;
+    }
+
+    /**
+     * This method removes the tuition from the given students. A failed or timed out call does not stop the
+     * other calls; all failures are collected and returned. A failed batch request fails all students of
+     * the batch.
+     *
+     * @param tuitionId  tuition id
+     * @param studentIds student ids
+     * @param token      access token
+     * @return failures by student id (empty if every student was updated)
+     */
+    public Map<String, Throwable> removeTuition(String tuitionId, Collection<String> studentIds, String token) {
+        List<String> ids = new ArrayList<>(studentIds);
+        Map<String, Throwable> failures = new LinkedHashMap<>();
+        boolean batchEndpointAvailable = true;
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<String> batch = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            if (batchEndpointAvailable) {
+                try {
+                    studentService.removeTuitionFromStudents(batch, tuitionId, token);
+                    continue;
+                } catch (HttpClientErrorException e) {
+                    if (e.getStatusCode() != HttpStatus.NOT_FOUND) {
+                        batch.forEach(studentId -> failures.put(studentId, e));
+                        continue;
+                    }
+                    log.warn("Student batch endpoint not found, removing tuition of id: {} student by student",
+                            tuitionId);
+                    batchEndpointAvailable = false;
+                } catch (IOException | RestClientException e) {
+                    batch.forEach(studentId -> failures.put(studentId, e));
+                    continue;
+                }
+            }
+            removeTuitionInParallel(tuitionId, batch, token, failures);
+        }
+        if (!failures.isEmpty())
+            log.error("Failed to remove tuition of id: {} from students: {}", tuitionId, failures.keySet());
+        return failures;
+    }
+
+    /**
+     * This method removes the tuition from the given students without blocking, with the same batching,
+     * fallback and failure collection as {@link #removeTuition(String, Collection, String)}
+     *
+     * @param tuitionId  tuition id
+     * @param studentIds student ids
+     * @param token      access token
+     * @return failures by student id (empty if every student was updated)
+     */
+    public Mono<Map<String, Throwable>> removeTuitionAsync(String tuitionId, Collection<String> studentIds,
+                                                           String token) {
+        List<String> ids = new ArrayList<>(studentIds);
+        Map<String, Throwable> failures = Collections.synchronizedMap(new LinkedHashMap<>());
+        AtomicBoolean batchEndpointAvailable = new AtomicBoolean(true);
+        return Flux.range(0, (ids.size() + batchSize - 1) / batchSize)
+                .map(index -> ids.subList(index * batchSize, Math.min((index + 1) * batchSize, ids.size())))
+                .concatMap(batch -> Mono.defer(() -> removeBatchAsync(tuitionId, batch, token,
+                        batchEndpointAvailable, failures)))
+                .then(Mono.fromCallable(() -> {
+                    if (!failures.isEmpty())
+                        log.error("Failed to remove tuition of id: {} from students: {}", tuitionId,
+                                failures.keySet());
+                    return failures;
+                }));
+    }
+
+    /**
+     * This method removes the tuition from one batch of students without blocking. The batch request is used
+     * until the student microservice answers it with 404, and the per student calls after that.
+     *
+     * @param tuitionId              tuition id
+     * @param studentIds             student ids of the batch
+     * @param token                  access token
+     * @param batchEndpointAvailable false once the batch endpoint was not found
+     * @param failures               failures by student id
+     * @return completion
+     */
+    private Mono<Void> removeBatchAsync(String tuitionId, List<String> studentIds, String token,
+                                        AtomicBoolean batchEndpointAvailable, Map<String, Throwable> failures) {
+        if (!batchEndpointAvailable.get())
+            return removeTuitionInParallelAsync(tuitionId, studentIds, token, failures);
+        return reactiveStudentService.removeTuitionFromStudents(studentIds, tuitionId, token)
+                .onErrorResume(e -> {
+                    if (e instanceof HttpClientErrorException
+                            && ((HttpClientErrorException) e).getStatusCode() == HttpStatus.NOT_FOUND) {
+                        log.warn("Student batch endpoint not found, removing tuition of id: {} student by student",
+                                tuitionId);
+                        batchEndpointAvailable.set(false);
+                        return removeTuitionInParallelAsync(tuitionId, studentIds, token, failures);
+                    }
+                    studentIds.forEach(studentId -> failures.put(studentId, e));
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * This method removes the tuition from one batch of students with one non-blocking call per student, at
+     * most the configured number at a time, and gives up on the calls still running after the batch timeout
+     *
+     * @param tuitionId  tuition id
+     * @param studentIds student ids of the batch
+     * @param token      access token
+     * @param failures   failures by student id
+     * @return completion
+     */
+    private Mono<Void> removeTuitionInParallelAsync(String tuitionId, List<String> studentIds, String token,
+                                                    Map<String, Throwable> failures) {
+        Set<String> pending = ConcurrentHashMap.newKeySet();
+        pending.addAll(studentIds);
+        return Flux.fromIterable(studentIds)
+                .flatMap(studentId -> reactiveStudentService.removeTuition(studentId, tuitionId, token)
+                        .doOnTerminate(() -> pending.remove(studentId))
+                        .doOnError(e -> failures.put(studentId, e))
+                        .onErrorResume(e -> Mono.empty()), concurrency)
+                .then()
+                .timeout(Duration.ofMillis(batchTimeoutMillis))
+                .onErrorResume(TimeoutException.class, e -> {
+                    log.warn("Removing tuition of id: {} from a batch of {} students timed out", tuitionId,
+                            studentIds.size());
+                    pending.forEach(studentId -> failures.put(studentId,
+                            new TimeoutException("Timed out after " + batchTimeoutMillis + "ms")));
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * This method removes the tuition from one batch of students with one call per student and waits for the
+     * batch up to the batch timeout
+     *
+     * @param tuitionId  tuition id
+     * @param studentIds student ids of the batch
+     * @param token      access token
+     * @param failures   failures by student id
+     */
+    private void removeTuitionInParallel(String tuitionId, List<String> studentIds, String token,
+                                         Map<String, Throwable> failures) {
+        Map<String, CompletableFuture<Void>> calls = new LinkedHashMap<>();
+        for (String studentId : studentIds) {
+            calls.put(studentId, CompletableFuture.runAsync(() -> removeTuition(studentId, tuitionId, token),
+                    executor));
+        }
+        try {
+            CompletableFuture.allOf(calls.values().toArray(new CompletableFuture[0]))
+                    .get(batchTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Removing tuition of id: {} from a batch of {} students timed out", tuitionId,
+                    studentIds.size());
+        } catch (ExecutionException e) {
+            // failures are collected per student below
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TuitionServiceException("Interrupted while removing tuition of id: " + tuitionId
+                    + " from students", e);
+        }
+        calls.forEach((studentId, call) -> {
+            if (!call.isDone()) {
+                call.cancel(true);
+                failures.put(studentId, new TimeoutException("Timed out after " + batchTimeoutMillis + "ms"));
+            } else if (call.isCompletedExceptionally()) {
+                failures.put(studentId, getCause(call));
+            }
+        });
+    }
+
+    /**
+     * This method removes the tuition from a single student
+     *
+     * @param studentId student id
+     * @param tuitionId tuition id
+     * @param token     access token
+     */
+    private void removeTuition(String studentId, String tuitionId, String token) {
+        try {
+            studentService.removeTuition(studentId, tuitionId, token);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * This method returns the exception of a failed call
+     *
+     * @param call completed call
+     * @return exception
+     */
+    private Throwable getCause(CompletableFuture<Void> call) {
+        try {
+            call.join();
+            return null;
+        } catch (CompletionException | CancellationException e) {
+            return e.getCause() == null ? e : e.getCause();
+        }
+    }
+}
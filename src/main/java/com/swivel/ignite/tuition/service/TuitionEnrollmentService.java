@@ -0,0 +1,267 @@
+package com.swivel.ignite.tuition.service;
+
+import com.swivel.ignite.tuition.config.BaseConfig;
+import com.swivel.ignite.tuition.dto.response.StudentResponseDto;
+import com.swivel.ignite.tuition.dto.response.TuitionStudentBulkResultDto;
+import com.swivel.ignite.tuition.entity.Tuition;
+import com.swivel.ignite.tuition.enums.BulkItemStatusType;
+import com.swivel.ignite.tuition.exception.StudentAlreadyEnrolledException;
+import com.swivel.ignite.tuition.exception.TuitionServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Changes the enrollments of many students of one tuition in one request
+ * <p>
+ * Students to add are looked up in the student microservice in parallel on the bounded bulk lookup executor
+ * (cached students are not requested again), and the students found are enrolled in one local transaction by
+ * the {@link TuitionService}, which skips the students that are already enrolled in a tuition. Students to
+ * remove are checked against the enrollments of the tuition only and are removed in one local transaction; their
+ * student microservice calls are delivered by the outbox, which merges the due removals of a tuition into chunked
+ * calls (see {@link OutboxDispatcher}). Every requested student gets its own outcome.
+ */
+@Slf4j
+@Service
+public class TuitionEnrollmentService {
+
+    private final TuitionService tuitionService;
+    private final StudentService studentService;
+    private final Executor executor;
+    private final long lookupTimeoutMillis;
+
+    @Autowired
+    public TuitionEnrollmentService(TuitionService tuitionService, StudentService studentService,
+                                    @Qualifier(BaseConfig.BULK_LOOKUP_EXECUTOR) Executor executor,
+                                    @Value("${tuition.enrollment.lookupTimeoutMillis}") long lookupTimeoutMillis) {
+        this.tuitionService = tuitionService;
+        this.studentService = studentService;
+        this.executor = executor;
+        this.lookupTimeoutMillis = lookupTimeoutMillis;
+    }
+
+    /**
+     * This method adds a list of students to the tuition. Students that are repeated in the request, already
+     * enrolled in a tuition or not found are skipped, and the others are enrolled together.
+     *
+     * @param tuition    tuition
+     * @param studentIds student ids
+     * @param token      access token
+     * @return per student results in request order
+     */
+    public List<TuitionStudentBulkResultDto> addStudents(Tuition tuition, List<String> studentIds, String token) {
+        int size = studentIds.size();
+        BulkItemStatusType[] statuses = new BulkItemStatusType[size];
+        Set<String> enrolledStudentIds = tuition.getStudentIds() == null ? Collections.emptySet()
+                : tuition.getStudentIds();
+        Map<String, Integer> pending = new LinkedHashMap<>();
+        Set<String> requested = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            String studentId = studentIds.get(i);
+            if (!requested.add(studentId))
+                statuses[i] = BulkItemStatusType.DUPLICATE_IN_REQUEST;
+            else if (enrolledStudentIds.contains(studentId))
+                statuses[i] = BulkItemStatusType.ALREADY_ENROLLED;
+            else
+                pending.put(studentId, i);
+        }
+        if (!pending.isEmpty())
+            enrollStudents(tuition, pending, statuses, token);
+        return getResults(studentIds, statuses);
+    }
+
+    /**
+     * This method removes a list of students from the tuition. Students that are repeated in the request or not
+     * enrolled in the tuition are skipped, and the others are removed together.
+     *
+     * @param tuition    tuition
+     * @param studentIds student ids
+     * @return per student results in request order
+     */
+    public List<TuitionStudentBulkResultDto> removeStudents(Tuition tuition, List<String> studentIds) {
+        int size = studentIds.size();
+        BulkItemStatusType[] statuses = new BulkItemStatusType[size];
+        Set<String> enrolledStudentIds = tuition.getStudentIds() == null ? Collections.emptySet()
+                : tuition.getStudentIds();
+        Map<String, Integer> pending = new LinkedHashMap<>();
+        Set<String> requested = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            String studentId = studentIds.get(i);
+            if (!requested.add(studentId))
+                statuses[i] = BulkItemStatusType.DUPLICATE_IN_REQUEST;
+            else if (!enrolledStudentIds.contains(studentId))
+                statuses[i] = BulkItemStatusType.NOT_ENROLLED;
+            else
+                pending.put(studentId, i);
+        }
+        tuitionService.removeStudentsFromTuition(pending.keySet(), tuition);
+        pending.values().forEach(i -> statuses[i] = BulkItemStatusType.REMOVED);
+        log.debug("Removed {} of {} students from tuition of id: {}", pending.size(), size, tuition.getId());
+        return getResults(studentIds, statuses);
+    }
+
+    /**
+     * This method looks up the pending students and enrolls the ones that are not enrolled in a tuition yet
+     *
+     * @param tuition  tuition
+     * @param pending  request index by student id of the students to enroll
+     * @param statuses per student statuses
+     * @param token    access token
+     */
+    private void enrollStudents(Tuition tuition, Map<String, Integer> pending, BulkItemStatusType[] statuses,
+                                String token) {
+        Map<String, Throwable> failures = new LinkedHashMap<>();
+        Map<String, StudentResponseDto> students = findStudents(pending.keySet(), token, failures);
+        failures.forEach((studentId, error) -> statuses[pending.get(studentId)] = getLookupFailureStatus(error));
+        Map<String, StudentResponseDto> foundStudents = new LinkedHashMap<>();
+        students.forEach((studentId, student) -> {
+            if (student == null)
+                statuses[pending.get(studentId)] = BulkItemStatusType.STUDENT_NOT_FOUND;
+            else
+                foundStudents.put(studentId, student);
+        });
+        if (foundStudents.isEmpty())
+            return;
+        try {
+            Set<String> enrolledStudentIds = tuitionService.addStudentsToTuition(foundStudents.keySet(), tuition);
+            foundStudents.keySet().forEach(studentId -> statuses[pending.get(studentId)] = enrolledStudentIds
+                    .contains(studentId) ? BulkItemStatusType.ALREADY_ENROLLED : BulkItemStatusType.ENROLLED);
+        } catch (StudentAlreadyEnrolledException e) {
+            log.warn("Batch enrollment of {} students failed, falling back to single enrollments",
+                    foundStudents.size());
+            foundStudents.forEach((studentId, student) -> statuses[pending.get(studentId)] = enrollStudent(tuition,
+                    student));
+        }
+        log.debug("Enrolled {} of {} students in tuition of id: {}", foundStudents.keySet().stream()
+                .filter(studentId -> statuses[pending.get(studentId)] == BulkItemStatusType.ENROLLED).count(),
+                pending.size(), tuition.getId());
+    }
+
+    /**
+     * This method enrolls a single student, after a concurrent enrollment rolled back the batch enrollment
+     *
+     * @param tuition tuition
+     * @param student student
+     * @return enrolled/ already enrolled/ failed
+     */
+    private BulkItemStatusType enrollStudent(Tuition tuition, StudentResponseDto student) {
+        try {
+            tuitionService.addStudentToTuition(student, tuition);
+            return BulkItemStatusType.ENROLLED;
+        } catch (StudentAlreadyEnrolledException e) {
+            return BulkItemStatusType.ALREADY_ENROLLED;
+        } catch (TuitionServiceException e) {
+            log.error("Failed to enroll student of id: {}", student.getStudentId(), e);
+            return BulkItemStatusType.FAILED;
+        }
+    }
+
+    /**
+     * This method finds the given students in student microservice with one call per student and waits for
+     * the calls up to the lookup timeout. A failed or timed out call does not stop the other calls.
+     *
+     * @param studentIds student ids
+     * @param token      access token
+     * @param failures   failures by student id
+     * @return students by student id
+     */
+    private Map<String, StudentResponseDto> findStudents(Collection<String> studentIds, String token,
+                                                         Map<String, Throwable> failures) {
+        Map<String, CompletableFuture<StudentResponseDto>> calls = new LinkedHashMap<>();
+        for (String studentId : studentIds) {
+            calls.put(studentId, CompletableFuture.supplyAsync(() -> findStudent(studentId, token), executor));
+        }
+        try {
+            CompletableFuture.allOf(calls.values().toArray(new CompletableFuture[0]))
+                    .get(lookupTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Looking up {} students timed out", studentIds.size());
+        } catch (ExecutionException e) {
+            // failures are collected per student below
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TuitionServiceException("Interrupted while looking up students", e);
+        }
+        Map<String, StudentResponseDto> students = new LinkedHashMap<>();
+        calls.forEach((studentId, call) -> {
+            if (!call.isDone()) {
+                call.cancel(true);
+                failures.put(studentId, new TimeoutException("Timed out after " + lookupTimeoutMillis + "ms"));
+            } else if (call.isCompletedExceptionally()) {
+                failures.put(studentId, getCause(call));
+            } else {
+                students.put(studentId, call.join());
+            }
+        });
+        if (!failures.isEmpty())
+            log.error("Failed to look up students: {}", failures.keySet());
+        return students;
+    }
+
+    /**
+     * This method finds a single student
+     *
+     * @param studentId student id
+     * @param token     access token
+     * @return student/ null
+     */
+    private StudentResponseDto findStudent(String studentId, String token) {
+        try {
+            return studentService.findById(studentId, token);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * This method returns the outcome of a failed student lookup
+     *
+     * @param error lookup error
+     * @return student not found (404)/ failed
+     */
+    private BulkItemStatusType getLookupFailureStatus(Throwable error) {
+        if (error instanceof HttpClientErrorException
+                && ((HttpClientErrorException) error).getStatusCode() == HttpStatus.NOT_FOUND)
+            return BulkItemStatusType.STUDENT_NOT_FOUND;
+        return BulkItemStatusType.FAILED;
+    }
+
+    /**
+     * This method returns the exception of a failed call
+     *
+     * @param call completed call
+     * @return exception
+     */
+    private Throwable getCause(CompletableFuture<?> call) {
+        try {
+            call.join();
+            return null;
+        } catch (CompletionException | CancellationException e) {
+            return e.getCause() == null ? e : e.getCause();
+        }
+    }
+
+    /**
+     * This method builds the per student results
+     *
+     * @param studentIds requested student ids
+     * @param statuses   per student statuses
+     * @return results in request order
+     */
+    private List<TuitionStudentBulkResultDto> getResults(List<String> studentIds, BulkItemStatusType[] statuses) {
+        List<TuitionStudentBulkResultDto> results = new ArrayList<>(studentIds.size());
+        for (int i = 0; i < studentIds.size(); i++) {
+            results.add(new TuitionStudentBulkResultDto(i, studentIds.get(i), statuses[i]));
+        }
+        return results;
+    }
+}
@@ -1,135 +1,549 @@
 package com.swivel.ignite.tuition.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.swivel.ignite.tuition.cache.TuitionCache;
+import com.swivel.ignite.tuition.cache.TuitionSnapshot;
+import com.swivel.ignite.tuition.cache.TuitionVersions;
+import com.swivel.ignite.tuition.dto.request.TuitionCreateRequestDto;
 import com.swivel.ignite.tuition.dto.response.StudentResponseDto;
+import com.swivel.ignite.tuition.dto.response.TuitionBulkCreateResultDto;
+import com.swivel.ignite.tuition.dto.response.TuitionResponseDto;
+import com.swivel.ignite.tuition.entity.Enrollment;
 import com.swivel.ignite.tuition.entity.Tuition;
+import com.swivel.ignite.tuition.enums.BulkItemStatusType;
+import com.swivel.ignite.tuition.exception.StudentAlreadyEnrolledException;
+import com.swivel.ignite.tuition.exception.StudentNotEnrolledException;
 import com.swivel.ignite.tuition.exception.TuitionAlreadyExistsException;
 import com.swivel.ignite.tuition.exception.TuitionNotFoundException;
 import com.swivel.ignite.tuition.exception.TuitionServiceException;
+import com.swivel.ignite.tuition.repository.EnrollmentRepository;
 import com.swivel.ignite.tuition.repository.TuitionRepository;
+import com.swivel.ignite.tuition.repository.TuitionSummary;
+import com.swivel.ignite.tuition.util.TuitionId;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import javax.persistence.PersistenceException;
 import java.io.IOException;
-import java.util.Date;
-import java.util.List;
-import java.util.Optional;
-import java.util.Set;
+import java.io.OutputStream;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Tuition Service
+ * <p>
+ * The enrollment and delete flows only change the local DB. The student and payment microservice calls that
+ * have to follow a change are recorded in the {@link OutboxService} in the same transaction and delivered in
+ * the background, so a request returns as soon as the local transaction is committed. The async variants run
+ * the local change on a worker thread and then have the {@link OutboxDispatcher} send the recorded calls right
+ * away, completing once they are sent; calls that fail stay in the outbox and are retried in the background.
+ * <p>
+ * A student is enrolled in at most one tuition. This is checked against the local enrollments within the
+ * enrollment transaction and enforced by the unique student index, not by the tuition id held by the student
+ * microservice, which is only updated when the outbox delivers the enrollment.
+ * <p>
+ * Every write records the new tuition version and a catalogue change in {@link TuitionVersions}, which the
+ * controller uses to answer conditional reads without loading the tuition.
  */
+@Slf4j
 @Service
 public class TuitionService {
 
-    private final StudentService studentService;
+    private static final String ID = "id";
+    private static final ObjectWriter EXPORT_WRITER = new ObjectMapper().writerFor(TuitionResponseDto.class);
+    private static final int NEW_LINE = '\n';
+    private static final String ENROLLMENT_CONFLICTS_METRIC = "tuition.enrollment.conflicts";
+    private static final String ENROLLMENT_RETRIES_METRIC = "tuition.enrollment.retries";
+    private static final String ENROLLMENT_RETRIES_EXHAUSTED_METRIC = "tuition.enrollment.retries.exhausted";
+    private static final String OPERATION_TAG = "operation";
+    private static final String ADD_OPERATION = "add";
+    private static final String REMOVE_OPERATION = "remove";
     private final TuitionRepository tuitionRepository;
-    private final PaymentService paymentService;
+    private final EnrollmentRepository enrollmentRepository;
+    private final OutboxService outboxService;
+    private final OutboxDispatcher outboxDispatcher;
+    private final TuitionCache tuitionCache;
+    private final TuitionVersions tuitionVersions;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int exportFetchSize;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int enrollmentMaxAttempts;
+    private final long enrollmentRetryBackoffMillis;
 
     @Autowired
-    public TuitionService(TuitionRepository tuitionRepository, StudentService studentService,
-                          PaymentService paymentService) {
-        this.studentService = studentService;
+    public TuitionService(TuitionRepository tuitionRepository, EnrollmentRepository enrollmentRepository,
+                          OutboxService outboxService, OutboxDispatcher outboxDispatcher, TuitionCache tuitionCache,
+                          TuitionVersions tuitionVersions,
+                          TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+                          @Value("${tuition.page.defaultSize}") int defaultPageSize,
+                          @Value("${tuition.page.maxSize}") int maxPageSize,
+                          @Value("${tuition.export.fetchSize}") int exportFetchSize,
+                          @Value("${tuition.enrollment.maxAttempts}") int enrollmentMaxAttempts,
+                          @Value("${tuition.enrollment.retryBackoffMillis}") long enrollmentRetryBackoffMillis) {
         this.tuitionRepository = tuitionRepository;
-        this.paymentService = paymentService;
+        this.enrollmentRepository = enrollmentRepository;
+        this.outboxService = outboxService;
+        this.outboxDispatcher = outboxDispatcher;
+        this.tuitionCache = tuitionCache;
+        this.tuitionVersions = tuitionVersions;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.exportFetchSize = exportFetchSize;
+        this.enrollmentMaxAttempts = enrollmentMaxAttempts;
+        this.enrollmentRetryBackoffMillis = enrollmentRetryBackoffMillis;
     }
 
     /**
-     * This method creates a Tuition in the database
+     * This method creates a Tuition in the database. Name uniqueness is enforced by the unique index on the
+     * normalized name, so the create is a single insert and concurrent creators cannot both succeed.
      *
      * @param tuition tuition
      */
     public void createTuition(Tuition tuition) {
         try {
-            if (isTuitionExists(tuition.getName()))
-                throw new TuitionAlreadyExistsException("Tuition already exists in DB");
-            tuitionRepository.save(tuition);
+            tuitionRepository.saveAndFlush(tuition);
+            tuitionVersions.update(tuition.getId(), tuition.getVersion());
+            tuitionVersions.catalogueChanged();
+        } catch (DataIntegrityViolationException e) {
+            if (isConstraintViolation(e, Tuition.NAME_KEY_CONSTRAINT))
+                throw new TuitionAlreadyExistsException("Tuition already exists in DB", e);
+            throw new TuitionServiceException("Failed to save tuition to DB for tuition id: {}" + tuition.getId(), e);
         } catch (DataAccessException e) {
             throw new TuitionServiceException("Failed to save tuition to DB for tuition id: {}" + tuition.getId(), e);
         }
     }
 
     /**
-     * This method finds a tuition by id
+     * This method creates a list of tuition. Names are checked against the DB with a single query and the new
+     * tuition are inserted in JDBC batches. If a concurrent creator takes one of the names in the meantime, the
+     * batch is rolled back and the remaining tuition are created one by one to report accurate per item results.
+     *
+     * @param requestDtoList tuition create request list
+     * @return per item results in request order
+     */
+    public List<TuitionBulkCreateResultDto> createTuitions(List<TuitionCreateRequestDto> requestDtoList) {
+        int size = requestDtoList.size();
+        BulkItemStatusType[] statuses = new BulkItemStatusType[size];
+        Tuition[] tuitions = new Tuition[size];
+        Map<String, Integer> pending = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            TuitionCreateRequestDto requestDto = requestDtoList.get(i);
+            if (requestDto == null || !requestDto.isRequiredAvailable()) {
+                statuses[i] = BulkItemStatusType.MISSING_REQUIRED_FIELDS;
+                continue;
+            }
+            tuitions[i] = new Tuition(requestDto);
+            if (pending.putIfAbsent(tuitions[i].getNameKey(), i) != null)
+                statuses[i] = BulkItemStatusType.DUPLICATE_IN_REQUEST;
+        }
+        if (!pending.isEmpty()) {
+            markExistingNames(pending, statuses);
+            insertTuitions(pending.values(), tuitions, statuses);
+        }
+        List<TuitionBulkCreateResultDto> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            TuitionCreateRequestDto requestDto = requestDtoList.get(i);
+            String tuitionId = statuses[i] == BulkItemStatusType.CREATED ? tuitions[i].getId() : null;
+            results.add(new TuitionBulkCreateResultDto(i, requestDto == null ? null : requestDto.getName(),
+                    tuitionId, statuses[i]));
+        }
+        return results;
+    }
+
+    /**
+     * This method marks and removes the pending tuition whose names already exist in the DB
+     *
+     * @param pending  request index by normalized name of the tuition to create
+     * @param statuses per item statuses
+     */
+    private void markExistingNames(Map<String, Integer> pending, BulkItemStatusType[] statuses) {
+        try {
+            Set<String> existingNameKeys = tuitionRepository.findExistingNameKeys(pending.keySet());
+            for (String nameKey : existingNameKeys) {
+                Integer index = pending.remove(nameKey);
+                if (index != null)
+                    statuses[index] = BulkItemStatusType.ALREADY_EXISTS;
+            }
+        } catch (DataAccessException e) {
+            throw new TuitionServiceException("Failed to check for tuition existence in DB for bulk creation", e);
+        }
+    }
+
+    /**
+     * This method inserts the pending tuition in one batched transaction, falling back to one insert per tuition
+     *
+     * @param indexes  request indexes of the tuition to insert
+     * @param tuitions tuition by request index
+     * @param statuses per item statuses
+     */
+    private void insertTuitions(Collection<Integer> indexes, Tuition[] tuitions, BulkItemStatusType[] statuses) {
+        List<Tuition> batch = new ArrayList<>(indexes.size());
+        indexes.forEach(i -> batch.add(tuitions[i]));
+        try {
+            tuitionRepository.saveAll(batch);
+            indexes.forEach(i -> statuses[i] = BulkItemStatusType.CREATED);
+            batch.forEach(tuition -> tuitionVersions.update(tuition.getId(), tuition.getVersion()));
+            tuitionVersions.catalogueChanged();
+            return;
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Batch insert of {} tuition failed, falling back to single inserts", batch.size());
+        } catch (DataAccessException e) {
+            throw new TuitionServiceException("Failed to save tuition list to DB", e);
+        }
+        for (Integer i : indexes) {
+            try {
+                createTuition(tuitions[i]);
+                statuses[i] = BulkItemStatusType.CREATED;
+            } catch (TuitionAlreadyExistsException e) {
+                statuses[i] = BulkItemStatusType.ALREADY_EXISTS;
+            } catch (TuitionServiceException e) {
+                log.error("Failed to create tuition of name: {}", tuitions[i].getName(), e);
+                statuses[i] = BulkItemStatusType.FAILED;
+            }
+        }
+    }
+
+    /**
+     * This method finds a tuition by id. Reads are served from the tuition cache, which holds immutable
+     * snapshots, so every caller gets its own detached copy.
      *
      * @param id tuition id
      * @return Tuition/ null
      */
     public Tuition findById(String id) {
+        if (!TuitionId.isValid(id))
+            throw new TuitionNotFoundException("Tuition not found for id: " + id);
         try {
-            Optional<Tuition> optionalTuition = tuitionRepository.findById(id);
-            if (!optionalTuition.isPresent())
+            TuitionSnapshot snapshot = tuitionCache.get(id, this::loadSnapshot);
+            if (snapshot == null)
                 throw new TuitionNotFoundException("Tuition not found for id: " + id);
-            return optionalTuition.get();
+            tuitionVersions.update(id, snapshot.getVersion());
+            return snapshot.toTuition();
         } catch (DataAccessException e) {
             throw new TuitionServiceException("Failed to get tuition from DB for tuition id: " + id, e);
         }
     }
 
     /**
-     * This method deletes a tuition
+     * This method finds many tuition by id in one call. Cached tuition are served from the tuition cache and
+     * the others are loaded together, so a call takes at most one DB statement. Malformed and unknown ids are
+     * left out of the result.
      *
-     * @param tuition tuition
+     * @param ids tuition ids
+     * @return tuition by id, in request order
      */
-    @Transactional
-    public void deleteTuition(Tuition tuition, String token) {
+    public Map<String, Tuition> findAllById(Collection<String> ids) {
+        Set<String> validIds = ids.stream().filter(TuitionId::isValid).collect(Collectors.toCollection(
+                LinkedHashSet::new));
+        Map<String, Tuition> tuitionMap = new LinkedHashMap<>();
+        if (validIds.isEmpty())
+            return tuitionMap;
         try {
-            Set<String> studentIds = tuition.getStudentIds();
-            for (String s : studentIds) {
-                studentService.removeTuition(s, tuition.getId(), token);
+            Map<String, TuitionSnapshot> snapshots = tuitionCache.getAll(validIds, this::loadSnapshots);
+            for (String id : validIds) {
+                TuitionSnapshot snapshot = snapshots.get(id);
+                if (snapshot == null)
+                    continue;
+                tuitionVersions.update(id, snapshot.getVersion());
+                tuitionMap.put(id, snapshot.toTuition());
             }
-            paymentService.deleteByTuitionId(tuition.getId(), token);
-            tuitionRepository.delete(tuition);
-        } catch (DataAccessException | IOException e) {
+            return tuitionMap;
+        } catch (DataAccessException e) {
+            throw new TuitionServiceException("Failed to get tuition list from DB for tuition ids: " + validIds, e);
+        }
+    }
+
+    /**
+     * This method returns the ETag of a tuition if its version is known in memory
+     *
+     * @param id tuition id
+     * @return ETag/ null
+     */
+    public String getETag(String id) {
+        return tuitionVersions.getETag(id);
+    }
+
+    /**
+     * This method returns the ETag of the current catalogue (all tuition). It must be read before the data
+     * that is returned with it.
+     *
+     * @return ETag
+     */
+    public String getCatalogueETag() {
+        return tuitionVersions.getCatalogueETag();
+    }
+
+    /**
+     * This method loads a tuition snapshot from the DB
+     *
+     * @param id tuition id
+     * @return snapshot/ null
+     */
+    private TuitionSnapshot loadSnapshot(String id) {
+        return tuitionRepository.findById(id).map(TuitionSnapshot::new).orElse(null);
+    }
+
+    /**
+     * This method loads the snapshots of many tuition from the DB
+     *
+     * @param ids tuition ids
+     * @return snapshots by tuition id
+     */
+    private Map<String, TuitionSnapshot> loadSnapshots(Set<String> ids) {
+        return tuitionRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Tuition::getId, TuitionSnapshot::new));
+    }
+
+    /**
+     * This method deletes a tuition together with its enrollments. Removing the tuition from its students and
+     * deleting its payments are recorded in the outbox in the same transaction, for the students enrolled at
+     * the time of the delete.
+     *
+     * @param tuition tuition
+     */
+    public void deleteTuition(Tuition tuition) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Tuition current = tuitionRepository.findById(tuition.getId()).orElseThrow(() ->
+                        new TuitionNotFoundException("Tuition not found for id: " + tuition.getId()));
+                List<String> studentIds = new ArrayList<>(current.getStudentIds());
+                tuitionRepository.delete(current);
+                if (!studentIds.isEmpty())
+                    outboxService.enqueueRemoveTuitionFromStudents(tuition.getId(), studentIds);
+                outboxService.enqueueDeletePaymentsByTuitionId(tuition.getId());
+            });
+            tuitionVersions.markDeleted(tuition.getId());
+        } catch (DataAccessException e) {
             throw new TuitionServiceException("Failed to delete tuition of id: " + tuition.getId(), e);
+        } finally {
+            tuitionCache.evict(tuition.getId());
+            tuitionVersions.catalogueChanged();
         }
     }
 
     /**
-     * This method checks if tuition already exists in the DB
+     * This method deletes a tuition without blocking the caller. The tuition is deleted on a worker thread, then
+     * the student and payment microservice calls recorded by the delete are sent on the outbox clients.
+     *
+     * @param tuition tuition
+     * @return completion/ error of the local delete
+     */
+    public CompletableFuture<Void> deleteTuitionAsync(Tuition tuition) {
+        return Mono.<Void>fromRunnable(() -> deleteTuition(tuition))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then(Mono.defer(() -> outboxDispatcher.dispatchTuition(tuition.getId())))
+                .toFuture();
+    }
+
+    /**
+     * This method checks if the given exception is a violation of the given unique index
      *
-     * @param name tuition name
+     * @param exception      data integrity violation exception
+     * @param constraintName name of the unique index
      * @return true/false
      */
-    private boolean isTuitionExists(String name) {
+    private boolean isConstraintViolation(DataIntegrityViolationException exception, String constraintName) {
+        if (!(exception.getCause() instanceof ConstraintViolationException))
+            return false;
+        String violatedName = ((ConstraintViolationException) exception.getCause()).getConstraintName();
+        return violatedName != null && violatedName.toLowerCase(Locale.ROOT).contains(constraintName);
+    }
+
+    /**
+     * This method returns a slice of tuition ordered by id, starting after the given tuition id.
+     * The page size is capped at the configured maximum so that no call can read the whole table.
+     *
+     * @param afterId id of the last tuition of the previous slice (null for the first slice)
+     * @param size    requested page size (null/ non positive for the default page size)
+     * @return slice of tuition with student ids loaded
+     */
+    @Transactional(readOnly = true)
+    public Slice<Tuition> getPage(String afterId, Integer size) {
+        Pageable pageable = getPageable(size);
         try {
-            return tuitionRepository.findByName(name).isPresent();
+            Slice<Tuition> tuitionSlice = afterId == null ? tuitionRepository.findAllBy(pageable)
+                    : tuitionRepository.findByIdGreaterThan(afterId, pageable);
+            // initializing the first collection batch loads the student ids of the whole page
+            tuitionSlice.forEach(t -> Hibernate.initialize(t.getStudentIds()));
+            return tuitionSlice;
         } catch (DataAccessException e) {
-            throw new TuitionServiceException("Failed to check for tuition existence in DB for name: " + name, e);
+            throw new TuitionServiceException("Failed to get tuition page after id: " + afterId, e);
         }
     }
 
     /**
-     * This method returns all tuition
+     * This method returns a slice of tuition summaries (id, name, location and enrollment count) ordered by id,
+     * starting after the given tuition id. The student ids are not read.
      *
-     * @return list of tuition
+     * @param afterId id of the last tuition of the previous slice (null for the first slice)
+     * @param size    requested page size (null/ non positive for the default page size)
+     * @return slice of tuition summaries
      */
-    public List<Tuition> getAll() {
+    @Transactional(readOnly = true)
+    public Slice<TuitionSummary> getSummaryPage(String afterId, Integer size) {
         try {
-            return tuitionRepository.findAll();
+            // every tuition id is greater than the minimum id, so the first slice uses the same query
+            return tuitionRepository.findSummariesByIdGreaterThan(afterId == null ? TuitionId.MIN_VALUE : afterId,
+                    getPageable(size));
         } catch (DataAccessException e) {
-            throw new TuitionServiceException("Failed to to get all tuition", e);
+            throw new TuitionServiceException("Failed to get tuition summary page after id: " + afterId, e);
         }
     }
 
+    /**
+     * This method returns the first page request ordered by id for the given size. The page size is capped
+     * at the configured maximum so that no call can read the whole table.
+     *
+     * @param size requested page size (null/ non positive for the default page size)
+     * @return page request
+     */
+    private Pageable getPageable(Integer size) {
+        int pageSize = (size == null || size <= 0) ? defaultPageSize : Math.min(size, maxPageSize);
+        return PageRequest.of(0, pageSize, Sort.by(ID));
+    }
+
+    /**
+     * This method writes all tuition ordered by id to the given output stream as newline delimited JSON.
+     * Rows are read with a forward only cursor and every tuition is detached once read, so memory use does
+     * not depend on the number of tuition.
+     *
+     * @param outputStream output stream
+     * @return number of exported tuition
+     * @throws IOException if writing to the output stream fails
+     */
+    @Transactional(readOnly = true)
+    public long exportAll(OutputStream outputStream) throws IOException {
+        long count = 0;
+        try (Stream<Tuition> tuitionStream = tuitionRepository.streamAll(exportFetchSize)) {
+            Iterator<Tuition> iterator = tuitionStream.iterator();
+            while (iterator.hasNext()) {
+                outputStream.write(EXPORT_WRITER.writeValueAsBytes(new TuitionResponseDto(iterator.next())));
+                outputStream.write(NEW_LINE);
+                count++;
+            }
+        } catch (DataAccessException | PersistenceException e) {
+            throw new TuitionServiceException("Failed to export tuition from DB after " + count + " tuition", e);
+        }
+        outputStream.flush();
+        return count;
+    }
+
     /**
      * This method is used to add a student to the tuition
      *
      * @param studentResponseDto student details
      * @param tuition            tuition
      * @return student response/ null
+     * @throws StudentAlreadyEnrolledException if the student is already enrolled in a tuition
      */
-    public StudentResponseDto addStudentToTuition(StudentResponseDto studentResponseDto, Tuition tuition, String token) {
+    public StudentResponseDto addStudentToTuition(StudentResponseDto studentResponseDto, Tuition tuition) {
+        String studentId = studentResponseDto.getStudentId();
         try {
-            studentService.addTuition(studentResponseDto.getStudentId(), tuition.getId(), token);
+            long version = updateEnrollment(ADD_OPERATION, tuition, () -> {
+                if (enrollmentRepository.existsByIdStudentId(studentId))
+                    throw new StudentAlreadyEnrolledException("Student already enrolled in a tuition. student id: "
+                            + studentId);
+                enrollmentRepository.saveAndFlush(new Enrollment(tuition.getId(), studentId));
+                outboxService.enqueueAddTuitionToStudent(tuition.getId(), studentId);
+            });
+            tuitionVersions.update(tuition.getId(), version);
             studentResponseDto.setTuitionId(tuition.getId());
             studentResponseDto.setTuitionJoinedOn(new Date());
-            tuition.addStudentId(studentResponseDto.getStudentId());
-            tuitionRepository.save(tuition);
             return studentResponseDto;
-        } catch (DataAccessException | IOException e) {
+        } catch (DataIntegrityViolationException e) {
+            if (isConstraintViolation(e, Enrollment.STUDENT_ID_CONSTRAINT))
+                throw new StudentAlreadyEnrolledException("Student already enrolled in a tuition. student id: "
+                        + studentId, e);
+            throw new TuitionServiceException("Failed to add student to tuition of id: " + tuition.getId(), e);
+        } catch (DataAccessException e) {
             throw new TuitionServiceException("Failed to add student to tuition of id: " + tuition.getId(), e);
+        } finally {
+            tuitionCache.evict(tuition.getId());
+            tuitionVersions.catalogueChanged();
+        }
+    }
+
+    /**
+     * This method is used to add a student to the tuition without blocking the caller. The student is enrolled
+     * on a worker thread, then the tuition is added to the student on the outbox clients.
+     *
+     * @param studentResponseDto student details
+     * @param tuition            tuition
+     * @return student response/ error of the local enrollment
+     */
+    public CompletableFuture<StudentResponseDto> addStudentToTuitionAsync(StudentResponseDto studentResponseDto,
+                                                                          Tuition tuition) {
+        return Mono.fromCallable(() -> addStudentToTuition(studentResponseDto, tuition))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(responseDto -> outboxDispatcher.dispatchTuition(tuition.getId()).thenReturn(responseDto))
+                .toFuture();
+    }
+
+    /**
+     * This method is used to add a list of students to the tuition. Students that are already enrolled in a
+     * tuition are found with one query and skipped, and the others are inserted in JDBC batches within one
+     * transaction (one version check of the tuition), together with one outbox event per student, so either
+     * all of them are added or none.
+     *
+     * @param studentIds ids of the students to add (validated by the caller)
+     * @param tuition    tuition
+     * @return ids of the students that were skipped because they are already enrolled in a tuition
+     * @throws StudentAlreadyEnrolledException if one of the students was enrolled concurrently
+     */
+    public Set<String> addStudentsToTuition(Collection<String> studentIds, Tuition tuition) {
+        if (studentIds.isEmpty())
+            return Collections.emptySet();
+        Set<String> enrolledStudentIds = new HashSet<>();
+        try {
+            long version = updateEnrollment(ADD_OPERATION, tuition, () -> {
+                enrolledStudentIds.clear();
+                enrolledStudentIds.addAll(enrollmentRepository.findEnrolledStudentIds(studentIds));
+                List<Enrollment> enrollments = studentIds.stream()
+                        .filter(studentId -> !enrolledStudentIds.contains(studentId))
+                        .map(studentId -> new Enrollment(tuition.getId(), studentId))
+                        .collect(Collectors.toList());
+                enrollmentRepository.saveAll(enrollments);
+                enrollmentRepository.flush();
+                enrollments.forEach(enrollment -> outboxService.enqueueAddTuitionToStudent(tuition.getId(),
+                        enrollment.getId().getStudentId()));
+            });
+            tuitionVersions.update(tuition.getId(), version);
+            return enrolledStudentIds;
+        } catch (DataIntegrityViolationException e) {
+            if (isConstraintViolation(e, Enrollment.STUDENT_ID_CONSTRAINT))
+                throw new StudentAlreadyEnrolledException("Students enrolled concurrently in tuition of id: "
+                        + tuition.getId(), e);
+            throw new TuitionServiceException("Failed to add students to tuition of id: " + tuition.getId(), e);
+        } catch (DataAccessException e) {
+            throw new TuitionServiceException("Failed to add students to tuition of id: " + tuition.getId(), e);
+        } finally {
+            tuitionCache.evict(tuition.getId());
+            tuitionVersions.catalogueChanged();
         }
     }
 
@@ -139,17 +553,127 @@ public class TuitionService {
      * @param studentResponseDto student details
      * @param tuition            tuition
      * @return student response/ null
+     * @throws StudentNotEnrolledException if the student is not enrolled in the tuition
      */
-    public StudentResponseDto removeStudentFromTuition(StudentResponseDto studentResponseDto, Tuition tuition, String token) {
+    public StudentResponseDto removeStudentFromTuition(StudentResponseDto studentResponseDto, Tuition tuition) {
+        String studentId = studentResponseDto.getStudentId();
         try {
-            studentService.removeTuition(studentResponseDto.getStudentId(), tuition.getId(), token);
+            long version = updateEnrollment(REMOVE_OPERATION, tuition, () -> {
+                if (enrollmentRepository.deleteEnrollment(tuition.getId(), studentId) == 0)
+                    throw new StudentNotEnrolledException("Student is not enrolled in tuition id: " + tuition.getId());
+                outboxService.enqueueRemoveTuitionFromStudent(tuition.getId(), studentId);
+            });
+            tuitionVersions.update(tuition.getId(), version);
             studentResponseDto.setTuitionId(null);
             studentResponseDto.setTuitionJoinedOn(null);
-            tuition.removeStudentId(studentResponseDto.getStudentId());
-            tuitionRepository.save(tuition);
             return studentResponseDto;
-        } catch (DataAccessException | IOException e) {
+        } catch (DataAccessException e) {
             throw new TuitionServiceException("Failed to remove student to tuition of id: " + tuition.getId(), e);
+        } finally {
+            tuitionCache.evict(tuition.getId());
+            tuitionVersions.catalogueChanged();
+        }
+    }
+
+    /**
+     * This method is used to remove a student from tuition without blocking the caller. The enrollment is
+     * removed on a worker thread, then the tuition is removed from the student on the outbox clients.
+     *
+     * @param studentResponseDto student details
+     * @param tuition            tuition
+     * @return student response/ error of the local removal
+     */
+    public CompletableFuture<StudentResponseDto> removeStudentFromTuitionAsync(StudentResponseDto studentResponseDto,
+                                                                               Tuition tuition) {
+        return Mono.fromCallable(() -> removeStudentFromTuition(studentResponseDto, tuition))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(responseDto -> outboxDispatcher.dispatchTuition(tuition.getId()).thenReturn(responseDto))
+                .toFuture();
+    }
+
+    /**
+     * This method is used to remove a list of students from the tuition. All enrollments are deleted with one
+     * statement within one transaction (one version check of the tuition), together with one outbox event per
+     * student, so either all students are removed or none.
+     *
+     * @param studentIds ids of the enrolled students to remove (validated by the caller)
+     * @param tuition    tuition
+     */
+    public void removeStudentsFromTuition(Collection<String> studentIds, Tuition tuition) {
+        if (studentIds.isEmpty())
+            return;
+        try {
+            long version = updateEnrollment(REMOVE_OPERATION, tuition, () -> {
+                enrollmentRepository.deleteEnrollments(tuition.getId(), studentIds);
+                studentIds.forEach(studentId -> outboxService.enqueueRemoveTuitionFromStudent(tuition.getId(),
+                        studentId));
+            });
+            tuitionVersions.update(tuition.getId(), version);
+        } catch (DataAccessException e) {
+            throw new TuitionServiceException("Failed to remove students from tuition of id: " + tuition.getId(),
+                    e);
+        } finally {
+            tuitionCache.evict(tuition.getId());
+            tuitionVersions.catalogueChanged();
+        }
+    }
+
+    /**
+     * This method applies an enrollment change together with an optimistic version check of the tuition.
+     * Each attempt runs in its own short transaction that applies the change first and then increments the
+     * tuition version only if it is still the version that was read, so the tuition row is only locked from the
+     * version check until the commit. If another writer changed the tuition in the meantime (or the attempt lost
+     * a lock conflict with one), the transaction is rolled back, the current version is read again and the change
+     * is retried up to the configured number of attempts.
+     *
+     * @param operation        enrollment operation (metric tag)
+     * @param tuition          tuition as read by the caller
+     * @param enrollmentChange enrollment insert/ delete
+     * @return new version of the tuition
+     * @throws ConcurrencyFailureException if every attempt conflicted
+     * @throws TuitionNotFoundException    if the tuition was deleted
+     */
+    private long updateEnrollment(String operation, Tuition tuition, Runnable enrollmentChange) {
+        Long version = tuition.getVersion();
+        for (int attempt = 1; ; attempt++) {
+            Long expectedVersion = version;
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    enrollmentChange.run();
+                    if (tuitionRepository.incrementVersion(tuition.getId(), expectedVersion) == 0)
+                        throw new ObjectOptimisticLockingFailureException(Tuition.class, tuition.getId());
+                });
+                return expectedVersion == null ? 1 : expectedVersion + 1;
+            } catch (ConcurrencyFailureException e) {
+                meterRegistry.counter(ENROLLMENT_CONFLICTS_METRIC, OPERATION_TAG, operation).increment();
+                if (attempt >= enrollmentMaxAttempts) {
+                    meterRegistry.counter(ENROLLMENT_RETRIES_EXHAUSTED_METRIC, OPERATION_TAG, operation).increment();
+                    log.warn("Giving up {} enrollment of tuition id: {} after {} conflicts", operation,
+                            tuition.getId(), attempt);
+                    throw e;
+                }
+                meterRegistry.counter(ENROLLMENT_RETRIES_METRIC, OPERATION_TAG, operation).increment();
+                backOff(attempt);
+                version = tuitionRepository.findVersionById(tuition.getId()).orElseThrow(() ->
+                        new TuitionNotFoundException("Tuition not found for id: " + tuition.getId()));
+            }
+        }
+    }
+
+    /**
+     * This method waits before the next enrollment attempt (linear back off with jitter)
+     *
+     * @param attempt number of the failed attempt
+     */
+    private void backOff(int attempt) {
+        long backOffMillis = enrollmentRetryBackoffMillis * attempt;
+        if (backOffMillis <= 0)
+            return;
+        try {
+            Thread.sleep(backOffMillis + ThreadLocalRandom.current().nextLong(backOffMillis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TuitionServiceException("Interrupted while retrying enrollment update", e);
         }
     }
 }
@@ -0,0 +1,38 @@
+package com.swivel.ignite.tuition.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset pagination cursor. The cursor wraps the id of the last returned row so that clients
+ * do not depend on the key format.
+ */
+public final class PageCursor {
+
+    private PageCursor() {
+    }
+
+    /**
+     * This method encodes the given id to an opaque cursor
+     *
+     * @param id id of the last row of a page
+     * @return cursor
+     */
+    public static String encode(String id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * This method decodes the given cursor back to the id of the last row of a page
+     *
+     * @param cursor cursor
+     * @return id
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static String decode(String cursor) {
+        String id = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        if (id.trim().isEmpty())
+            throw new IllegalArgumentException("Empty page cursor");
+        return id;
+    }
+}
@@ -0,0 +1,33 @@
+package com.swivel.ignite.tuition.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Digest of an access token, used instead of the token itself wherever a token has to be kept in memory
+ * (cache keys, auth scopes)
+ */
+public final class TokenDigest {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private TokenDigest() {
+    }
+
+    /**
+     * This method returns the Base64 encoded SHA-256 digest of the given token
+     *
+     * @param token access token
+     * @return digest
+     */
+    public static String of(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance(DIGEST_ALGORITHM).digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", e);
+        }
+    }
+}
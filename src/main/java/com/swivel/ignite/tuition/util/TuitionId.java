@@ -0,0 +1,90 @@
+package com.swivel.ignite.tuition.util;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Tuition id. Externally a tuition id is the string "tid-" followed by a UUID, while it is stored as the
+ * 16 bytes of the UUID. New ids are time ordered (UUID version 7 layout: 48 bit unix millis timestamp followed
+ * by random bits), so new rows are appended to the end of the clustered index instead of being scattered.
+ */
+public final class TuitionId {
+
+    public static final String PREFIX = "tid-";
+    public static final int BINARY_LENGTH = 16;
+    public static final String MIN_VALUE = PREFIX + new UUID(0, 0);
+    private static final Pattern ID_PATTERN = Pattern.compile(
+            "^tid-[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$");
+    private static final long VERSION_7 = 0x7000L;
+    private static final long RAND_A_MASK = 0x0FFFL;
+    private static final long RAND_B_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long IETF_VARIANT = 0x8000000000000000L;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private TuitionId() {
+    }
+
+    /**
+     * This method generates a new time ordered tuition id
+     *
+     * @return tuition id
+     */
+    public static String generate() {
+        return PREFIX + timeOrderedUuid(System.currentTimeMillis());
+    }
+
+    /**
+     * This method creates a UUID version 7 for the given time
+     *
+     * @param epochMillis unix time in milliseconds
+     * @return time ordered UUID
+     */
+    static UUID timeOrderedUuid(long epochMillis) {
+        long mostSigBits = (epochMillis << 16) | VERSION_7 | (RANDOM.nextInt() & RAND_A_MASK);
+        long leastSigBits = (RANDOM.nextLong() & RAND_B_MASK) | IETF_VARIANT;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * This method checks if the given string is a well formed tuition id
+     *
+     * @param id tuition id
+     * @return true/false
+     */
+    public static boolean isValid(String id) {
+        return id != null && ID_PATTERN.matcher(id).matches();
+    }
+
+    /**
+     * This method converts a tuition id to its binary representation
+     *
+     * @param id tuition id
+     * @return 16 bytes of the UUID
+     * @throws IllegalArgumentException if the id is malformed
+     */
+    public static byte[] toBytes(String id) {
+        if (!isValid(id))
+            throw new IllegalArgumentException("Invalid tuition id: " + id);
+        UUID uuid = UUID.fromString(id.substring(PREFIX.length()));
+        return ByteBuffer.allocate(BINARY_LENGTH)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    /**
+     * This method converts the binary representation of a tuition id back to the tuition id
+     *
+     * @param bytes 16 bytes of the UUID
+     * @return tuition id
+     * @throws IllegalArgumentException if the length is not 16 bytes
+     */
+    public static String fromBytes(byte[] bytes) {
+        if (bytes.length != BINARY_LENGTH)
+            throw new IllegalArgumentException("Invalid tuition id length: " + bytes.length);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return PREFIX + new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -10,6 +10,7 @@ import lombok.Getter;
 @Getter
 public class SuccessResponseWrapper extends ResponseWrapper {
 
+    public static final String DISPLAY_MESSAGE = "Successfully returned the data.";
     private final ResponseDto data;
     private final int statusCode;
 
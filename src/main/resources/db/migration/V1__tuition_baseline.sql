@@ -0,0 +1,18 @@
+-- Schema of the releases before the migrations (created by Hibernate at the time).
+-- An existing database without Flyway history is baselined at this version, so this script only runs against
+-- an empty database.
+
+CREATE TABLE IF NOT EXISTS tuition
+(
+    id       VARCHAR(255) NOT NULL,
+    location VARCHAR(255) NOT NULL,
+    name     VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS tuition_student_ids
+(
+    tuition_id  VARCHAR(255) NOT NULL,
+    student_ids VARCHAR(255) NULL,
+    CONSTRAINT fk_tuition_student_ids_tuition FOREIGN KEY (tuition_id) REFERENCES tuition (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,16 @@
+-- Moves enrollments from the legacy element collection table (tuition_student_ids) to tuition_enrollment,
+-- which is keyed by (tuition_id, student_id) so that one enrollment is one indexed row write.
+
+CREATE TABLE IF NOT EXISTS tuition_enrollment
+(
+    tuition_id VARCHAR(255) NOT NULL,
+    student_id VARCHAR(255) NOT NULL,
+    PRIMARY KEY (tuition_id, student_id),
+    CONSTRAINT fk_tuition_enrollment_tuition FOREIGN KEY (tuition_id) REFERENCES tuition (id)
+);
+
+INSERT IGNORE INTO tuition_enrollment (tuition_id, student_id)
+SELECT tuition_id, student_ids
+FROM tuition_student_ids;
+
+DROP TABLE tuition_student_ids;
@@ -0,0 +1,13 @@
+-- Adds the normalized tuition name (trimmed, single spaced, lower case) with a unique index so that name
+-- uniqueness is enforced by the database instead of a find-by-name query before every insert.
+-- Resolve existing duplicate names before upgrading, otherwise creating the index fails.
+
+ALTER TABLE tuition
+    ADD COLUMN name_key VARCHAR(255) NULL;
+
+UPDATE tuition
+SET name_key = LOWER(TRIM(REGEXP_REPLACE(name, '[[:space:]]+', ' ')));
+
+ALTER TABLE tuition
+    MODIFY name_key VARCHAR(255) NOT NULL,
+    ADD CONSTRAINT uk_tuition_name_key UNIQUE (name_key);
@@ -0,0 +1,38 @@
+-- Stores tuition ids as BINARY(16) (the bytes of the UUID after the "tid-" prefix) instead of VARCHAR(255).
+-- The API keeps the "tid-" string format, so ids stored by other services do not change.
+-- Check that every existing id matches 'tid-' followed by a lower case UUID before upgrading.
+-- Releases before this script cannot read the new ids, so stop every instance of them before the first instance
+-- of this release starts (and runs this script). Do not roll the upgrade instance by instance.
+
+ALTER TABLE tuition
+    ADD COLUMN id_bin BINARY(16) NULL;
+
+UPDATE tuition
+SET id_bin = UNHEX(REPLACE(SUBSTRING(id, 5), '-', ''));
+
+ALTER TABLE tuition_enrollment
+    ADD COLUMN tuition_id_bin BINARY(16) NULL;
+
+UPDATE tuition_enrollment e
+    JOIN tuition t ON t.id = e.tuition_id
+SET e.tuition_id_bin = t.id_bin;
+
+ALTER TABLE tuition_enrollment
+    DROP FOREIGN KEY fk_tuition_enrollment_tuition,
+    DROP PRIMARY KEY,
+    DROP COLUMN tuition_id;
+
+ALTER TABLE tuition_enrollment
+    CHANGE tuition_id_bin tuition_id BINARY(16) NOT NULL FIRST,
+    ADD PRIMARY KEY (tuition_id, student_id);
+
+ALTER TABLE tuition
+    DROP PRIMARY KEY,
+    DROP COLUMN id;
+
+ALTER TABLE tuition
+    CHANGE id_bin id BINARY(16) NOT NULL FIRST,
+    ADD PRIMARY KEY (id);
+
+ALTER TABLE tuition_enrollment
+    ADD CONSTRAINT fk_tuition_enrollment_tuition FOREIGN KEY (tuition_id) REFERENCES tuition (id);
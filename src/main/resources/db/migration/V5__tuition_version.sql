@@ -0,0 +1,5 @@
+-- Adds the optimistic lock version of the tuition, which every enrollment change increments.
+-- Existing rows start at version 0.
+
+ALTER TABLE tuition
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,21 @@
+-- Adds the outbox of the student and payment microservice calls that follow a tuition change.
+-- Events are written in the same transaction as the change and deleted once delivered; dead events are kept.
+
+CREATE TABLE IF NOT EXISTS tuition_outbox
+(
+    id              BIGINT        NOT NULL AUTO_INCREMENT,
+    type            VARCHAR(40)   NOT NULL,
+    status          VARCHAR(20)   NOT NULL,
+    aggregate_key   VARCHAR(64)   NOT NULL,
+    tuition_id      VARCHAR(64)   NOT NULL,
+    student_ids     TEXT          NULL,
+    attempts        INT           NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6)   NOT NULL,
+    claimed_by      VARCHAR(36)   NULL,
+    last_error      VARCHAR(1000) NULL,
+    created_at      DATETIME(6)   NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_tuition_outbox_due (status, next_attempt_at),
+    INDEX idx_tuition_outbox_aggregate (aggregate_key, id),
+    INDEX idx_tuition_outbox_claimed_by (claimed_by)
+);
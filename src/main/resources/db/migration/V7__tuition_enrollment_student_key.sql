@@ -0,0 +1,7 @@
+-- Adds a unique index on the student of an enrollment so that a student is enrolled in at most one tuition.
+-- This is enforced locally instead of trusting the tuition id of the student microservice, which is only updated
+-- when the outbox delivers the enrollment.
+-- Resolve students enrolled in more than one tuition before upgrading, otherwise creating the index fails.
+
+ALTER TABLE tuition_enrollment
+    ADD CONSTRAINT uk_tuition_enrollment_student_id UNIQUE (student_id);
@@ -0,0 +1,5 @@
+-- Adds an index on the tuition of the outbox events, used to deliver the events of one tuition right after the
+-- change that recorded them.
+
+ALTER TABLE tuition_outbox
+    ADD INDEX idx_tuition_outbox_tuition (tuition_id, status);
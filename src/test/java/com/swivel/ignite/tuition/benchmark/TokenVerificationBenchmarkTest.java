@@ -0,0 +1,169 @@
+package com.swivel.ignite.tuition.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swivel.ignite.tuition.config.CachingResourceServerTokenServices;
+import com.swivel.ignite.tuition.config.LocalJwtTokenServices;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.jwt.JwtHelper;
+import org.springframework.security.jwt.crypto.sign.RsaSigner;
+import org.springframework.security.oauth2.provider.token.RemoteTokenServices;
+import org.springframework.security.oauth2.provider.token.ResourceServerTokenServices;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * This class benchmarks the per request authentication overhead of remote token introspection (check_token of a
+ * local stand-in auth server, uncached and cached) against local JWT signature verification.
+ * Run with: mvn test -Pbenchmark (optionally -Dbenchmark.requests=20000)
+ */
+@Slf4j
+@Tag("benchmark")
+class TokenVerificationBenchmarkTest {
+
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 5_000);
+    private static final int WARM_UP_REQUESTS = REQUESTS / 10;
+    private static final String CHECK_TOKEN_PATH = "/oauth/check_token";
+    private static final String CLIENT_ID = "ignite_client";
+    private static final String CLIENT_SECRET = "secret";
+    private static final String USERNAME = "admin@ignite.lk";
+    private static final String AUTHORITIES_CLAIM = "authorities";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private ExecutorService executor;
+    private HttpServer authServer;
+    private KeyPair keyPair;
+    private Map<String, Object> claims;
+
+    @BeforeEach
+    void setUp() throws IOException, NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        keyPair = generator.generateKeyPair();
+        claims = new HashMap<>();
+        claims.put("user_name", USERNAME);
+        claims.put("client_id", CLIENT_ID);
+        claims.put("scope", Collections.singletonList("read"));
+        claims.put("exp", TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 3600);
+        claims.put(AUTHORITIES_CLAIM, Collections.singletonList("ADMIN"));
+        startAuthServer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        authServer.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void Should_ReportAuthenticationOverhead_When_IntrospectingRemotelyAndVerifyingLocally() throws Exception {
+        String opaqueToken = "opaque-123456789";
+        String jwt = JwtHelper.encode(OBJECT_MAPPER.writeValueAsString(claims),
+                new RsaSigner((RSAPrivateKey) keyPair.getPrivate())).getEncoded();
+        ResourceServerTokenServices remoteTokenServices = createRemoteTokenServices();
+        ResourceServerTokenServices cachedTokenServices = new CachingResourceServerTokenServices(
+                createRemoteTokenServices(), 1000, 60, new SimpleMeterRegistry());
+        ResourceServerTokenServices localTokenServices = new LocalJwtTokenServices(getPublicKeyPem(), "",
+                AUTHORITIES_CLAIM);
+
+        authenticate(remoteTokenServices, opaqueToken, WARM_UP_REQUESTS);
+        authenticate(cachedTokenServices, opaqueToken, WARM_UP_REQUESTS);
+        authenticate(localTokenServices, jwt, WARM_UP_REQUESTS);
+
+        long remoteNanos = authenticate(remoteTokenServices, opaqueToken, REQUESTS);
+        long cachedNanos = authenticate(cachedTokenServices, opaqueToken, REQUESTS);
+        long localNanos = authenticate(localTokenServices, jwt, REQUESTS);
+
+        log.info("Remote introspection: {} us/request", microsPerRequest(remoteNanos));
+        log.info("Cached remote introspection: {} us/request", microsPerRequest(cachedNanos));
+        log.info("Local JWT verification: {} us/request", microsPerRequest(localNanos));
+        assertEquals(USERNAME, localTokenServices.loadAuthentication(jwt).getName());
+        assertEquals(USERNAME, remoteTokenServices.loadAuthentication(opaqueToken).getName());
+    }
+
+    /**
+     * This method authenticates the given number of requests one after another
+     *
+     * @param tokenServices token services
+     * @param token         access token
+     * @param requests      number of requests
+     * @return elapsed nanos
+     */
+    private long authenticate(ResourceServerTokenServices tokenServices, String token, int requests) {
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            tokenServices.loadAuthentication(token);
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * This method starts a local stand-in auth server whose check_token endpoint accepts every token
+     *
+     * @throws IOException io exception
+     */
+    private void startAuthServer() throws IOException {
+        byte[] checkTokenResponse = OBJECT_MAPPER.writeValueAsBytes(withActive(claims));
+        executor = Executors.newFixedThreadPool(4);
+        authServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        authServer.setExecutor(executor);
+        authServer.createContext(CHECK_TOKEN_PATH, exchange -> {
+            try (InputStream request = exchange.getRequestBody()) {
+                request.readAllBytes();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, checkTokenResponse.length);
+            try (OutputStream response = exchange.getResponseBody()) {
+                response.write(checkTokenResponse);
+            }
+        });
+        authServer.start();
+    }
+
+    private RemoteTokenServices createRemoteTokenServices() {
+        RemoteTokenServices tokenServices = new RemoteTokenServices();
+        tokenServices.setCheckTokenEndpointUrl("http://localhost:" + authServer.getAddress().getPort()
+                + CHECK_TOKEN_PATH);
+        tokenServices.setClientId(CLIENT_ID);
+        tokenServices.setClientSecret(CLIENT_SECRET);
+        tokenServices.setAccessTokenConverter(new CachingResourceServerTokenServices.ExpiryAccessTokenConverter());
+        return tokenServices;
+    }
+
+    private Map<String, Object> withActive(Map<String, Object> tokenClaims) {
+        Map<String, Object> response = new HashMap<>(tokenClaims);
+        response.put("active", true);
+        return response;
+    }
+
+    private String getPublicKeyPem() {
+        return "-----BEGIN PUBLIC KEY-----\n"
+                + Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded())
+                + "\n-----END PUBLIC KEY-----";
+    }
+
+    private String microsPerRequest(long nanos) {
+        return String.format("%.1f", nanos / 1000.0 / REQUESTS);
+    }
+}
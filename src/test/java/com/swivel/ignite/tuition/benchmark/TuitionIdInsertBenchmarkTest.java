@@ -0,0 +1,161 @@
+package com.swivel.ignite.tuition.benchmark;
+
+import com.swivel.ignite.tuition.util.TuitionId;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * This class benchmarks the insert throughput of random string tuition ids against time ordered binary ids.
+ * Run with: mvn test -Pbenchmark (optionally -Dbenchmark.jdbc.url=jdbc:mysql://... for a real InnoDB table)
+ */
+@Slf4j
+@Tag("benchmark")
+class TuitionIdInsertBenchmarkTest {
+
+    private static final String JDBC_URL = System.getProperty("benchmark.jdbc.url",
+            "jdbc:h2:mem:tuition_benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1");
+    private static final String JDBC_USERNAME = System.getProperty("benchmark.jdbc.username", "sa");
+    private static final String JDBC_PASSWORD = System.getProperty("benchmark.jdbc.password", "");
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 200_000);
+    private static final int WARM_UP_ROWS = ROWS / 10;
+    private static final int BATCH_SIZE = 500;
+    private static final String STRING_ID_TABLE = "benchmark_tuition_string_id";
+    private static final String BINARY_ID_TABLE = "benchmark_tuition_binary_id";
+    private static final String LOCATION = "Nittambuwa";
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection(JDBC_URL, JDBC_USERNAME, JDBC_PASSWORD);
+        connection.setAutoCommit(false);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        dropTable(STRING_ID_TABLE);
+        dropTable(BINARY_ID_TABLE);
+        connection.close();
+    }
+
+    @Test
+    void Should_ReportInsertThroughput_When_InsertingRandomStringAndTimeOrderedBinaryIds() throws SQLException {
+        createTable(STRING_ID_TABLE, "VARCHAR(255)");
+        createTable(BINARY_ID_TABLE, "BINARY(16)");
+        insertRandomStringIds(WARM_UP_ROWS);
+        insertTimeOrderedBinaryIds(WARM_UP_ROWS);
+
+        long stringIdNanos = insertRandomStringIds(ROWS);
+        long binaryIdNanos = insertTimeOrderedBinaryIds(ROWS);
+
+        log.info("Inserted {} rows with random VARCHAR ids: {} rows/s", ROWS, rowsPerSecond(stringIdNanos));
+        log.info("Inserted {} rows with time ordered BINARY(16) ids: {} rows/s", ROWS, rowsPerSecond(binaryIdNanos));
+        assertEquals(ROWS + WARM_UP_ROWS, countRows(STRING_ID_TABLE));
+        assertEquals(ROWS + WARM_UP_ROWS, countRows(BINARY_ID_TABLE));
+    }
+
+    /**
+     * This method inserts rows with the previous id scheme ("tid-" + random UUID as a string)
+     *
+     * @param rows number of rows
+     * @return elapsed nanos
+     * @throws SQLException sql exception
+     */
+    private long insertRandomStringIds(int rows) throws SQLException {
+        long start = System.nanoTime();
+        try (PreparedStatement statement = connection.prepareStatement(insertSql(STRING_ID_TABLE))) {
+            for (int i = 0; i < rows; i++) {
+                String id = TuitionId.PREFIX + UUID.randomUUID();
+                statement.setString(1, id);
+                addRow(statement, id, i);
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * This method inserts rows with the current id scheme (time ordered UUID stored as 16 bytes)
+     *
+     * @param rows number of rows
+     * @return elapsed nanos
+     * @throws SQLException sql exception
+     */
+    private long insertTimeOrderedBinaryIds(int rows) throws SQLException {
+        long start = System.nanoTime();
+        try (PreparedStatement statement = connection.prepareStatement(insertSql(BINARY_ID_TABLE))) {
+            for (int i = 0; i < rows; i++) {
+                String id = TuitionId.generate();
+                statement.setBytes(1, TuitionId.toBytes(id));
+                addRow(statement, id, i);
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * This method adds the non key columns of a row to the batch and executes full batches
+     *
+     * @param statement insert statement
+     * @param id        tuition id (used as a unique name)
+     * @param index     row index
+     * @throws SQLException sql exception
+     */
+    private void addRow(PreparedStatement statement, String id, int index) throws SQLException {
+        statement.setString(2, id);
+        statement.setString(3, LOCATION);
+        statement.addBatch();
+        if ((index + 1) % BATCH_SIZE == 0) {
+            statement.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private String insertSql(String table) {
+        return "INSERT INTO " + table + " (id, name_key, location) VALUES (?, ?, ?)";
+    }
+
+    private void createTable(String table, String idColumnDefinition) throws SQLException {
+        dropTable(table);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE " + table + " (id " + idColumnDefinition + " NOT NULL, "
+                    + "name_key VARCHAR(255) NOT NULL, location VARCHAR(255) NOT NULL, PRIMARY KEY (id), "
+                    + "UNIQUE (name_key))");
+        }
+        connection.commit();
+    }
+
+    private void dropTable(String table) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+        }
+        connection.commit();
+    }
+
+    private long countRows(String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private long rowsPerSecond(long nanos) {
+        return ROWS * 1_000_000_000L / Math.max(nanos, 1);
+    }
+}
@@ -0,0 +1,140 @@
+package com.swivel.ignite.tuition.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swivel.ignite.tuition.cache.TuitionCatalogueCache.CataloguePage;
+import com.swivel.ignite.tuition.entity.Tuition;
+import com.swivel.ignite.tuition.exception.TuitionServiceException;
+import com.swivel.ignite.tuition.service.TuitionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+/**
+ * This class tests {@link TuitionCatalogueCache} class
+ */
+class TuitionCatalogueCacheTest {
+
+    private static final String TUITION_ID = "tid-0183f1a2-6c3d-7e4f-8a9b-0c1d2e3f4a5b";
+    private static final String CATALOGUE_ETAG = "\"c1-1-1\"";
+    private static final String CHANGED_CATALOGUE_ETAG = "\"c1-2-1\"";
+    private static final String REBUILD_METRIC = "tuition.catalogue.rebuild";
+    private static final long MAX_PAGES = 10;
+    private static final long TTL_SECONDS = 300;
+    private TuitionCatalogueCache tuitionCatalogueCache;
+    private TuitionVersions tuitionVersions;
+    private SimpleMeterRegistry meterRegistry;
+    @Mock
+    private TuitionService tuitionService;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        tuitionVersions = new TuitionVersions(MAX_PAGES, TTL_SECONDS);
+        meterRegistry = new SimpleMeterRegistry();
+        tuitionCatalogueCache = new TuitionCatalogueCache(tuitionService, tuitionVersions, new ObjectMapper(),
+                meterRegistry, Runnable::run, MAX_PAGES, TTL_SECONDS);
+        when(tuitionService.getCatalogueETag()).thenReturn(CATALOGUE_ETAG);
+        when(tuitionService.getPage(isNull(), isNull())).thenReturn(getSampleTuitionSlice());
+    }
+
+    /**
+     * Start of tests for get
+     */
+    @Test
+    void Should_ReturnSerializedPageWithGzipEncoding_When_Getting() throws Exception {
+        CataloguePage page = tuitionCatalogueCache.get(null, null);
+
+        assertEquals(CATALOGUE_ETAG, page.getETag());
+        assertEquals(1, page.getNumberOfElements());
+        assertTrue(new String(page.getJson(), StandardCharsets.UTF_8).contains(TUITION_ID));
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(page.getGzip()))) {
+            assertArrayEquals(page.getJson(), gzip.readAllBytes());
+        }
+    }
+
+    @Test
+    void Should_ReturnCachedPage_When_GettingForUnchangedCatalogue() {
+        CataloguePage page = tuitionCatalogueCache.get(null, null);
+
+        assertSame(page, tuitionCatalogueCache.get(null, null));
+        verify(tuitionService, times(1)).getPage(isNull(), isNull());
+        assertEquals(1, meterRegistry.timer(REBUILD_METRIC, "trigger", "request").count());
+    }
+
+    @Test
+    void Should_RebuildPageOnRead_When_GettingForChangedCatalogueWithoutNotification() {
+        tuitionCatalogueCache.get(null, null);
+        when(tuitionService.getCatalogueETag()).thenReturn(CHANGED_CATALOGUE_ETAG);
+
+        assertEquals(CHANGED_CATALOGUE_ETAG, tuitionCatalogueCache.get(null, null).getETag());
+        verify(tuitionService, times(2)).getPage(isNull(), isNull());
+    }
+
+    @Test
+    void Should_ThrowTuitionServiceException_When_GettingIsFailed() {
+        when(tuitionService.getPage(isNull(), isNull())).thenThrow(new TuitionServiceException("ERROR"));
+
+        assertThrows(TuitionServiceException.class, () -> tuitionCatalogueCache.get(null, null));
+    }
+
+    /**
+     * Start of tests for background rebuild
+     */
+    @Test
+    void Should_RebuildCachedPagesInBackground_When_CatalogueChanged() {
+        tuitionCatalogueCache.get(null, null);
+        when(tuitionService.getCatalogueETag()).thenReturn(CHANGED_CATALOGUE_ETAG);
+
+        tuitionVersions.catalogueChanged();
+
+        assertEquals(1, meterRegistry.timer(REBUILD_METRIC, "trigger", "background").count());
+        assertEquals(CHANGED_CATALOGUE_ETAG, tuitionCatalogueCache.get(null, null).getETag());
+        verify(tuitionService, times(2)).getPage(isNull(), isNull());
+    }
+
+    @Test
+    void Should_NotRebuild_When_CatalogueChangedWithoutCachedPages() {
+        tuitionVersions.catalogueChanged();
+
+        verify(tuitionService, never()).getPage(any(), any());
+    }
+
+    @Test
+    void Should_EvictPage_When_BackgroundRebuildIsFailed() {
+        tuitionCatalogueCache.get(null, null);
+        when(tuitionService.getCatalogueETag()).thenReturn(CHANGED_CATALOGUE_ETAG);
+        when(tuitionService.getPage(isNull(), isNull())).thenThrow(new TuitionServiceException("ERROR"))
+                .thenReturn(getSampleTuitionSlice());
+
+        tuitionVersions.catalogueChanged();
+
+        assertEquals(CHANGED_CATALOGUE_ETAG, tuitionCatalogueCache.get(null, null).getETag());
+        verify(tuitionService, times(3)).getPage(isNull(), isNull());
+    }
+
+    /**
+     * This method returns a sample tuition slice of one tuition
+     *
+     * @return tuition slice
+     */
+    private SliceImpl<Tuition> getSampleTuitionSlice() {
+        Tuition tuition = new Tuition();
+        tuition.setId(TUITION_ID);
+        tuition.setName("Perera Tuition");
+        tuition.setLocation("Nittambuwa");
+        return new SliceImpl<>(Collections.singletonList(tuition), PageRequest.of(0, 10), false);
+    }
+}
@@ -0,0 +1,141 @@
+package com.swivel.ignite.tuition.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.security.oauth2.common.exceptions.InvalidTokenException;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.token.AccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.ResourceServerTokenServices;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+/**
+ * This class tests {@link CachingResourceServerTokenServices} class
+ */
+class CachingResourceServerTokenServicesTest {
+
+    private static final String TOKEN = "123456789";
+    private static final String OTHER_TOKEN = "987654321";
+    private static final String CLIENT_ID = "ignite_client";
+    private static final long MAX_SIZE = 100;
+    private static final long MAX_TTL_SECONDS = 60;
+    private CachingResourceServerTokenServices tokenServices;
+    private SimpleMeterRegistry meterRegistry;
+    @Mock
+    private ResourceServerTokenServices delegate;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        tokenServices = new CachingResourceServerTokenServices(delegate, MAX_SIZE, MAX_TTL_SECONDS, meterRegistry);
+    }
+
+    /**
+     * Start of tests for loadAuthentication method
+     */
+    @Test
+    void Should_IntrospectTokenOnce_When_LoadingAuthenticationOfSameTokenAgain() {
+        OAuth2Authentication authentication = getSampleAuthentication(getEpochSecondsIn(3600));
+        when(delegate.loadAuthentication(TOKEN)).thenReturn(authentication);
+
+        OAuth2Authentication first = tokenServices.loadAuthentication(TOKEN);
+        OAuth2Authentication second = tokenServices.loadAuthentication(TOKEN);
+
+        verify(delegate, times(1)).loadAuthentication(TOKEN);
+        assertEquals(CLIENT_ID, first.getOAuth2Request().getClientId());
+        assertEquals(CLIENT_ID, second.getOAuth2Request().getClientId());
+        assertNotSame(first, second);
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "token").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "token").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    void Should_IntrospectEachToken_When_LoadingAuthenticationOfDifferentTokens() {
+        when(delegate.loadAuthentication(anyString())).thenReturn(getSampleAuthentication(getEpochSecondsIn(3600)));
+
+        tokenServices.loadAuthentication(TOKEN);
+        tokenServices.loadAuthentication(OTHER_TOKEN);
+
+        verify(delegate, times(1)).loadAuthentication(TOKEN);
+        verify(delegate, times(1)).loadAuthentication(OTHER_TOKEN);
+    }
+
+    @Test
+    void Should_NotCacheRejection_When_TokenIsInvalid() {
+        when(delegate.loadAuthentication(TOKEN)).thenThrow(new InvalidTokenException(TOKEN));
+
+        assertThrows(InvalidTokenException.class, () -> tokenServices.loadAuthentication(TOKEN));
+        assertThrows(InvalidTokenException.class, () -> tokenServices.loadAuthentication(TOKEN));
+        verify(delegate, times(2)).loadAuthentication(TOKEN);
+    }
+
+    @Test
+    void Should_IntrospectTokenAgain_When_TokenHasExpired() {
+        when(delegate.loadAuthentication(TOKEN)).thenReturn(getSampleAuthentication(getEpochSecondsIn(-1)));
+
+        tokenServices.loadAuthentication(TOKEN);
+        tokenServices.loadAuthentication(TOKEN);
+
+        verify(delegate, times(2)).loadAuthentication(TOKEN);
+    }
+
+    @Test
+    void Should_IntrospectTokenAgain_When_MaxTtlIsOver() {
+        tokenServices = new CachingResourceServerTokenServices(delegate, MAX_SIZE, 0, meterRegistry);
+        when(delegate.loadAuthentication(TOKEN)).thenReturn(getSampleAuthentication(getEpochSecondsIn(3600)));
+
+        tokenServices.loadAuthentication(TOKEN);
+        tokenServices.loadAuthentication(TOKEN);
+
+        verify(delegate, times(2)).loadAuthentication(TOKEN);
+    }
+
+    /**
+     * Start of tests for ExpiryAccessTokenConverter
+     */
+    @Test
+    void Should_KeepTokenExpiry_When_ExtractingAuthentication() {
+        long expiresAt = getEpochSecondsIn(3600);
+        OAuth2Authentication authentication = getSampleAuthentication(expiresAt);
+
+        assertEquals(CLIENT_ID, authentication.getOAuth2Request().getClientId());
+        assertEquals(expiresAt, authentication.getOAuth2Request().getExtensions().get(AccessTokenConverter.EXP));
+    }
+
+    /**
+     * This method returns an authentication extracted from a sample check_token response
+     *
+     * @param expiresAt token expiry in epoch seconds
+     * @return OAuth2Authentication
+     */
+    private OAuth2Authentication getSampleAuthentication(long expiresAt) {
+        Map<String, Object> checkTokenResponse = new HashMap<>();
+        checkTokenResponse.put(AccessTokenConverter.CLIENT_ID, CLIENT_ID);
+        checkTokenResponse.put(AccessTokenConverter.SCOPE, Collections.singletonList("read"));
+        checkTokenResponse.put(AccessTokenConverter.EXP, (int) expiresAt);
+        return new CachingResourceServerTokenServices.ExpiryAccessTokenConverter()
+                .extractAuthentication(checkTokenResponse);
+    }
+
+    /**
+     * This method returns the epoch seconds of a time relative to now
+     *
+     * @param seconds seconds from now
+     * @return epoch seconds
+     */
+    private long getEpochSecondsIn(long seconds) {
+        return TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + seconds;
+    }
+}
@@ -0,0 +1,116 @@
+package com.swivel.ignite.tuition.config;
+
+import com.swivel.ignite.tuition.dto.request.TuitionCreateRequestDto;
+import com.swivel.ignite.tuition.entity.Tuition;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class tests {@link JpaConfig} class by counting the statements that load a tuition page on an
+ * in-memory H2 database
+ */
+class JpaConfigTest {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int PARTIAL_PAGE_SIZE = 37;
+    private static final int STUDENTS_PER_TUITION = 3;
+    private static final String LOCATION = "Nittambuwa";
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, Object> hibernateProperties = new HashMap<>();
+        new JpaConfig(MAX_PAGE_SIZE).customize(hibernateProperties);
+        Configuration configuration = new Configuration()
+                .addAnnotatedClass(Tuition.class)
+                .setProperty(AvailableSettings.DRIVER, "org.h2.Driver")
+                .setProperty(AvailableSettings.DIALECT, H2Dialect.class.getName())
+                .setProperty(AvailableSettings.URL, "jdbc:h2:mem:tuition_jpa_config;MODE=MySQL;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.USER, "sa")
+                .setProperty(AvailableSettings.PASS, "")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.GENERATE_STATISTICS, "true");
+        hibernateProperties.forEach(configuration.getProperties()::put);
+        sessionFactory = configuration.buildSessionFactory();
+        insertTuitions(MAX_PAGE_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+    }
+
+    /**
+     * Start of tests for customize method
+     */
+    @Test
+    void Should_LoadStudentIdsOfFullPageInOneStatement_When_LoadingPageOfMaxPageSize() {
+        assertEquals(2, countPageStatements(MAX_PAGE_SIZE));
+    }
+
+    @Test
+    void Should_LoadStudentIdsOfPartialPageInOneStatement_When_LoadingPageSmallerThanMaxPageSize() {
+        assertEquals(2, countPageStatements(PARTIAL_PAGE_SIZE));
+    }
+
+    /**
+     * This method inserts tuition with students
+     *
+     * @param count number of tuition
+     */
+    private void insertTuitions(int count) {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            for (int i = 0; i < count; i++) {
+                TuitionCreateRequestDto requestDto = new TuitionCreateRequestDto();
+                requestDto.setName("Tuition " + i);
+                requestDto.setLocation(LOCATION);
+                Tuition tuition = new Tuition(requestDto);
+                Set<String> studentIds = new HashSet<>();
+                for (int j = 0; j < STUDENTS_PER_TUITION; j++)
+                    studentIds.add("sid-" + i + "-" + j);
+                tuition.setStudentIds(studentIds);
+                session.persist(tuition);
+            }
+            transaction.commit();
+        }
+    }
+
+    /**
+     * This method loads a page of tuition with their student ids and counts the statements it took
+     *
+     * @param pageSize page size
+     * @return number of prepared statements
+     */
+    private long countPageStatements(int pageSize) {
+        Statistics statistics = sessionFactory.getStatistics();
+        try (Session session = sessionFactory.openSession()) {
+            statistics.clear();
+            List<Tuition> page = session.createQuery("from Tuition t order by t.id", Tuition.class)
+                    .setMaxResults(pageSize)
+                    .getResultList();
+            page.forEach(tuition -> Hibernate.initialize(tuition.getStudentIds()));
+            assertEquals(pageSize, page.size());
+            assertTrue(page.stream().allMatch(tuition -> tuition.getStudentIds().size() == STUDENTS_PER_TUITION));
+            return statistics.getPrepareStatementCount();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.swivel.ignite.tuition.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.jwt.JwtHelper;
+import org.springframework.security.jwt.crypto.sign.RsaSigner;
+import org.springframework.security.oauth2.common.exceptions.InvalidTokenException;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests {@link LocalJwtTokenServices} class
+ */
+class LocalJwtTokenServicesTest {
+
+    private static final String USERNAME = "admin@ignite.lk";
+    private static final String CLIENT_ID = "ignite_client";
+    private static final String KEY_ID = "ignite-key";
+    private static final String AUTHORITIES_CLAIM = "authorities";
+    private static final String ROLES_CLAIM = "roles";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private KeyPair keyPair;
+
+    @BeforeEach
+    void setUp() throws NoSuchAlgorithmException {
+        keyPair = generateKeyPair();
+    }
+
+    /**
+     * Start of tests for loadAuthentication method
+     */
+    @Test
+    void Should_ReturnAuthenticationWithAuthorities_When_TokenIsSignedWithPrivateKey() throws Exception {
+        LocalJwtTokenServices tokenServices = new LocalJwtTokenServices(getPublicKeyPem(keyPair), "",
+                AUTHORITIES_CLAIM);
+        String token = sign(getSampleClaims(AUTHORITIES_CLAIM, Collections.singletonList("ADMIN")), keyPair,
+                Collections.emptyMap());
+
+        OAuth2Authentication authentication = tokenServices.loadAuthentication(token);
+
+        assertEquals(USERNAME, authentication.getName());
+        assertEquals(CLIENT_ID, authentication.getOAuth2Request().getClientId());
+        assertEquals(Collections.singleton("ADMIN"), getAuthorities(authentication));
+    }
+
+    @Test
+    void Should_ReadAuthoritiesFromConfiguredClaim_When_ClaimIsSeparatedString() throws Exception {
+        LocalJwtTokenServices tokenServices = new LocalJwtTokenServices(getPublicKeyPem(keyPair), "",
+                ROLES_CLAIM);
+        String token = sign(getSampleClaims(ROLES_CLAIM, "ADMIN STUDENT"), keyPair, Collections.emptyMap());
+
+        OAuth2Authentication authentication = tokenServices.loadAuthentication(token);
+
+        assertEquals(new HashSet<>(Arrays.asList("ADMIN", "STUDENT")), getAuthorities(authentication));
+    }
+
+    @Test
+    void Should_ReturnAuthentication_When_TokenIsVerifiedWithJwkSetFile(@TempDir Path directory) throws Exception {
+        Path jwkSetFile = directory.resolve("jwks.json");
+        Files.write(jwkSetFile, getJwkSet(keyPair).getBytes());
+        LocalJwtTokenServices tokenServices = new LocalJwtTokenServices("", jwkSetFile.toUri().toString(),
+                AUTHORITIES_CLAIM);
+        String token = sign(getSampleClaims(AUTHORITIES_CLAIM, Collections.singletonList("STUDENT")), keyPair,
+                Collections.singletonMap("kid", KEY_ID));
+
+        OAuth2Authentication authentication = tokenServices.loadAuthentication(token);
+
+        assertEquals(Collections.singleton("STUDENT"), getAuthorities(authentication));
+    }
+
+    @Test
+    void Should_ThrowInvalidTokenException_When_TokenIsSignedWithOtherKey() throws Exception {
+        LocalJwtTokenServices tokenServices = new LocalJwtTokenServices(getPublicKeyPem(keyPair), "",
+                AUTHORITIES_CLAIM);
+        String token = sign(getSampleClaims(AUTHORITIES_CLAIM, Collections.singletonList("ADMIN")),
+                generateKeyPair(), Collections.emptyMap());
+
+        assertThrows(InvalidTokenException.class, () -> tokenServices.loadAuthentication(token));
+    }
+
+    @Test
+    void Should_ThrowInvalidTokenException_When_TokenHasExpired() throws Exception {
+        LocalJwtTokenServices tokenServices = new LocalJwtTokenServices(getPublicKeyPem(keyPair), "",
+                AUTHORITIES_CLAIM);
+        Map<String, Object> claims = getSampleClaims(AUTHORITIES_CLAIM, Collections.singletonList("ADMIN"));
+        claims.put("exp", TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) - 60);
+        String token = sign(claims, keyPair, Collections.emptyMap());
+
+        assertThrows(InvalidTokenException.class, () -> tokenServices.loadAuthentication(token));
+    }
+
+    @Test
+    void Should_ThrowIllegalStateException_When_NoKeyIsConfigured() {
+        assertThrows(IllegalStateException.class, () -> new LocalJwtTokenServices("", "", AUTHORITIES_CLAIM));
+    }
+
+    /**
+     * This method returns sample access token claims
+     *
+     * @param authoritiesClaim claim of the authorities
+     * @param authorities      authorities
+     * @return claims
+     */
+    private Map<String, Object> getSampleClaims(String authoritiesClaim, Object authorities) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("user_name", USERNAME);
+        claims.put("client_id", CLIENT_ID);
+        claims.put("scope", Collections.singletonList("read"));
+        claims.put("exp", TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 3600);
+        claims.put(authoritiesClaim, authorities);
+        return claims;
+    }
+
+    private String sign(Map<String, Object> claims, KeyPair signingKeyPair, Map<String, String> headers)
+            throws JsonProcessingException {
+        return JwtHelper.encode(OBJECT_MAPPER.writeValueAsString(claims),
+                new RsaSigner((RSAPrivateKey) signingKeyPair.getPrivate()), headers).getEncoded();
+    }
+
+    private Set<String> getAuthorities(OAuth2Authentication authentication) {
+        return authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet());
+    }
+
+    private KeyPair generateKeyPair() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
+    private String getPublicKeyPem(KeyPair rsaKeyPair) {
+        return "-----BEGIN PUBLIC KEY-----\n"
+                + Base64.getEncoder().encodeToString(rsaKeyPair.getPublic().getEncoded())
+                + "\n-----END PUBLIC KEY-----";
+    }
+
+    private String getJwkSet(KeyPair rsaKeyPair) throws IOException {
+        RSAPublicKey publicKey = (RSAPublicKey) rsaKeyPair.getPublic();
+        Map<String, String> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "RSA");
+        jwk.put("kid", KEY_ID);
+        jwk.put("alg", "RS256");
+        jwk.put("use", "sig");
+        jwk.put("n", toBase64Url(publicKey.getModulus()));
+        jwk.put("e", toBase64Url(publicKey.getPublicExponent()));
+        return OBJECT_MAPPER.writeValueAsString(Collections.singletonMap("keys", Collections.singletonList(jwk)));
+    }
+
+    private String toBase64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0)
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,151 @@
+package com.swivel.ignite.tuition.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+import org.springframework.security.oauth2.provider.token.ResourceServerTokenServices;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import javax.servlet.Filter;
+import java.util.Collections;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * This class tests the access rules of {@link ResourceServerConfig} class
+ * <p>
+ * The access token of a request is its authority, e.g. "Bearer STUDENT" is a token with the STUDENT authority.
+ */
+@SpringJUnitWebConfig(ResourceServerConfigTest.TestConfig.class)
+@TestPropertySource(properties = {"oauth.resource-id=tuition", "oauth.jwt.enabled=test"})
+class ResourceServerConfigTest {
+
+    private static final String AUTH_HEADER = "Authorization";
+    private static final String ADMIN_TOKEN = "Bearer ADMIN";
+    private static final String STUDENT_TOKEN = "Bearer STUDENT";
+    private static final String GET_TUITION_LIST = "/api/v1/tuition/get/list";
+    private static final String BULK_CREATE_TUITION = "/api/v1/tuition/bulk";
+    private MockMvc mockMvc;
+    @Autowired
+    private WebApplicationContext context;
+    @Autowired
+    @Qualifier("springSecurityFilterChain")
+    private Filter springSecurityFilterChain;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).addFilters(springSecurityFilterChain).build();
+    }
+
+    /**
+     * Start of tests for get tuition list by id
+     * Api context: /api/v1/tuition/get/list
+     */
+    @Test
+    void Should_ReturnOk_When_GettingTuitionListByIdAsStudent() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post(GET_TUITION_LIST).header(AUTH_HEADER, STUDENT_TOKEN))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void Should_ReturnOk_When_GettingTuitionListByIdAsAdmin() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post(GET_TUITION_LIST).header(AUTH_HEADER, ADMIN_TOKEN))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void Should_ReturnUnauthorized_When_GettingTuitionListByIdWithoutToken() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post(GET_TUITION_LIST))
+                .andExpect(status().isUnauthorized());
+    }
+
+    /**
+     * Start of tests for other POST endpoints
+     * Api context: /api/v1/tuition/bulk
+     */
+    @Test
+    void Should_ReturnOk_When_CreatingTuitionListAsAdmin() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post(BULK_CREATE_TUITION).header(AUTH_HEADER, ADMIN_TOKEN))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void Should_ReturnUnauthorized_When_CreatingTuitionListAsStudent() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post(BULK_CREATE_TUITION).header(AUTH_HEADER, STUDENT_TOKEN))
+                .andExpect(status().isUnauthorized());
+    }
+
+    /**
+     * Resource server with token services that grant the token value as the authority
+     */
+    @Configuration
+    @EnableWebMvc
+    @EnableWebSecurity
+    @Import(ResourceServerConfig.class)
+    static class TestConfig {
+
+        @Bean
+        public ResourceServerTokenServices tokenServices() {
+            return new ResourceServerTokenServices() {
+                @Override
+                public OAuth2Authentication loadAuthentication(String accessToken) {
+                    List<GrantedAuthority> authorities = AuthorityUtils.createAuthorityList(accessToken);
+                    OAuth2Request request = new OAuth2Request(Collections.emptyMap(), "client", authorities, true, null,
+                            null, null, null, null);
+                    return new OAuth2Authentication(request, new UsernamePasswordAuthenticationToken("user", null,
+                            authorities));
+                }
+
+                @Override
+                public OAuth2AccessToken readAccessToken(String accessToken) {
+                    return null;
+                }
+            };
+        }
+
+        @Bean
+        public TuitionEndpoints tuitionEndpoints() {
+            return new TuitionEndpoints();
+        }
+    }
+
+    /**
+     * Tuition endpoints that answer every permitted request with 200
+     */
+    @RestController
+    @RequestMapping("api/v1/tuition")
+    static class TuitionEndpoints {
+
+        @PostMapping("/get/list")
+        public ResponseEntity<Void> getTuitionListById() {
+            return ResponseEntity.ok().build();
+        }
+
+        @PostMapping("/bulk")
+        public ResponseEntity<Void> createTuitions() {
+            return ResponseEntity.ok().build();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.swivel.ignite.tuition.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.security.oauth2.client.resource.OAuth2AccessDeniedException;
+import org.springframework.security.oauth2.client.token.AccessTokenProvider;
+import org.springframework.security.oauth2.client.token.AccessTokenRequest;
+import org.springframework.security.oauth2.client.token.grant.client.ClientCredentialsResourceDetails;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+/**
+ * This class tests {@link ServiceTokenProvider} class
+ */
+class ServiceTokenProviderTest {
+
+    private static final String TOKEN = "123456789";
+    private static final String OTHER_TOKEN = "987654321";
+    private static final String ACCESS_TOKEN_URI = "http://localhost:8080/ignite-auth-service/oauth/token";
+    private static final String ERROR = "ERROR";
+    private static final long EXPIRY_MARGIN_SECONDS = 30;
+    private ServiceTokenProvider serviceTokenProvider;
+    private ClientCredentialsResourceDetails resourceDetails;
+    @Mock
+    private AccessTokenProvider accessTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        resourceDetails = new ClientCredentialsResourceDetails();
+        resourceDetails.setAccessTokenUri(ACCESS_TOKEN_URI);
+        serviceTokenProvider = new ServiceTokenProvider(resourceDetails, accessTokenProvider, EXPIRY_MARGIN_SECONDS);
+    }
+
+    /**
+     * Start of tests for getToken method
+     */
+    @Test
+    void Should_ObtainTokenOnce_When_GettingTokenAgain() {
+        when(accessTokenProvider.obtainAccessToken(any(), any(AccessTokenRequest.class)))
+                .thenReturn(getSampleAccessToken(TOKEN, 3600));
+
+        assertEquals("Bearer " + TOKEN, serviceTokenProvider.getToken());
+        assertEquals("Bearer " + TOKEN, serviceTokenProvider.getToken());
+        verify(accessTokenProvider, times(1)).obtainAccessToken(eq(resourceDetails), any(AccessTokenRequest.class));
+    }
+
+    @Test
+    void Should_ObtainNewToken_When_GettingTokenThatExpiresWithinMargin() {
+        when(accessTokenProvider.obtainAccessToken(any(), any(AccessTokenRequest.class)))
+                .thenReturn(getSampleAccessToken(TOKEN, EXPIRY_MARGIN_SECONDS - 1))
+                .thenReturn(getSampleAccessToken(OTHER_TOKEN, 3600));
+
+        assertEquals("Bearer " + TOKEN, serviceTokenProvider.getToken());
+        assertEquals("Bearer " + OTHER_TOKEN, serviceTokenProvider.getToken());
+    }
+
+    @Test
+    void Should_ObtainNewToken_When_GettingTokenAfterInvalidating() {
+        when(accessTokenProvider.obtainAccessToken(any(), any(AccessTokenRequest.class)))
+                .thenReturn(getSampleAccessToken(TOKEN, 3600))
+                .thenReturn(getSampleAccessToken(OTHER_TOKEN, 3600));
+
+        serviceTokenProvider.getToken();
+        serviceTokenProvider.invalidate();
+        assertEquals("Bearer " + OTHER_TOKEN, serviceTokenProvider.getToken());
+    }
+
+    @Test
+    void Should_ThrowOAuth2AccessDeniedException_When_TokenCannotBeObtained() {
+        when(accessTokenProvider.obtainAccessToken(any(), any(AccessTokenRequest.class)))
+                .thenThrow(new OAuth2AccessDeniedException(ERROR));
+
+        assertThrows(OAuth2AccessDeniedException.class, () -> serviceTokenProvider.getToken());
+    }
+
+    /**
+     * This method returns a sample access token
+     *
+     * @param value            token value
+     * @param expiresInSeconds seconds until the token expires
+     * @return access token
+     */
+    private DefaultOAuth2AccessToken getSampleAccessToken(String value, long expiresInSeconds) {
+        DefaultOAuth2AccessToken accessToken = new DefaultOAuth2AccessToken(value);
+        accessToken.setExpiration(new Date(System.currentTimeMillis() + expiresInSeconds * 1000));
+        return accessToken;
+    }
+}
@@ -1,27 +1,58 @@
 package com.swivel.ignite.tuition.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swivel.ignite.tuition.cache.TuitionCatalogueCache;
+import com.swivel.ignite.tuition.cache.TuitionVersions;
+import com.swivel.ignite.tuition.dto.request.StudentIdListRequestDto;
 import com.swivel.ignite.tuition.dto.request.TuitionCreateRequestDto;
+import com.swivel.ignite.tuition.dto.request.TuitionIdListRequestDto;
 import com.swivel.ignite.tuition.dto.response.StudentResponseDto;
+import com.swivel.ignite.tuition.dto.response.TuitionBulkCreateResultDto;
+import com.swivel.ignite.tuition.dto.response.TuitionStudentBulkResultDto;
 import com.swivel.ignite.tuition.entity.Tuition;
+import com.swivel.ignite.tuition.enums.BulkItemStatusType;
 import com.swivel.ignite.tuition.enums.ErrorResponseStatusType;
 import com.swivel.ignite.tuition.enums.SuccessResponseStatusType;
 import com.swivel.ignite.tuition.exception.*;
+import com.swivel.ignite.tuition.repository.TuitionSummary;
+import com.swivel.ignite.tuition.service.ReactiveStudentService;
 import com.swivel.ignite.tuition.service.StudentService;
+import com.swivel.ignite.tuition.service.TuitionEnrollmentService;
 import com.swivel.ignite.tuition.service.TuitionService;
+import com.swivel.ignite.tuition.util.PageCursor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Mono;
 
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.GZIPInputStream;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.initMocks;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -33,7 +64,8 @@ class TuitionControllerTest {
 
     private static final String AUTH_HEADER = "Authorization";
     private static final String TOKEN = "Bearer 123456789";
-    private static final String TUITION_ID = "tid-123456789";
+    private static final String TUITION_ID = "tid-0183f1a2-6c3d-7e4f-8a9b-0c1d2e3f4a5b";
+    private static final String MISSING_TUITION_ID = "tid-0183f1a2-6c3d-7e4f-8a9b-0c1d2e3f4a5c";
     private static final String STUDENT_ID = "sid-123456789";
     private static final String STUDENT_NAME = "Mohamed Nawaz";
     private static final String TUITION_NAME = "Perera Tuition";
@@ -43,23 +75,61 @@ class TuitionControllerTest {
     private static final String SUCCESS_MESSAGE = "Successfully returned the data.";
     private static final String ERROR_MESSAGE = "Oops!! Something went wrong. Please try again.";
     private static final String ERROR = "ERROR";
+    private static final int PAGE_SIZE = 10;
+    private static final int MAX_BULK_SIZE = 2;
+    private static final long ASYNC_TIMEOUT_MILLIS = 500;
+    private static final long CACHE_MAX_SIZE = 100;
+    private static final long CACHE_TTL_SECONDS = 300;
+    private static final String ETAG = "\"v1\"";
+    private static final String CATALOGUE_ETAG = "\"c1-1-1\"";
     private static final String CREATE_TUITION_URI = "/api/v1/tuition";
+    private static final String BULK_CREATE_TUITION_URI = "/api/v1/tuition/bulk";
     private static final String GET_TUITION_BY_ID_URI = "/api/v1/tuition/get/{tuitionId}";
     private static final String DELETE_TUITION_ID_URI = "/api/v1/tuition/delete/{tuitionId}";
     private static final String GET_ALL_TUITION_URI = "/api/v1/tuition/get/all";
+    private static final String GET_TUITION_LIST_BY_ID_URI = "/api/v1/tuition/get/list";
+    private static final String GET_ALL_TUITION_SUMMARY_URI = "/api/v1/tuition/get/all/summary";
+    private static final String EXPORT_ALL_TUITION_URI = "/api/v1/tuition/export";
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
     private static final String ADD_STUDENT_TO_TUITION = "/api/v1/tuition/add/student/{studentId}/tuition/{tuitionId}";
     private static final String REMOVE_STUDENT_FROM_TUITION = "/api/v1/tuition/remove/student/{studentId}/tuition/{tuitionId}";
+    private static final String ADD_STUDENTS_TO_TUITION = "/api/v1/tuition/add/students/tuition/{tuitionId}";
+    private static final String REMOVE_STUDENTS_FROM_TUITION = "/api/v1/tuition/remove/students/tuition/{tuitionId}";
+    private static final String ASYNC_DELETE_TUITION_ID_URI = "/api/v1/tuition/async/delete/{tuitionId}";
+    private static final String ASYNC_ADD_STUDENT_TO_TUITION =
+            "/api/v1/tuition/async/add/student/{studentId}/tuition/{tuitionId}";
+    private static final String ASYNC_REMOVE_STUDENT_FROM_TUITION =
+            "/api/v1/tuition/async/remove/student/{studentId}/tuition/{tuitionId}";
     private MockMvc mockMvc;
     @Mock
     private TuitionService tuitionService;
     @Mock
     private StudentService studentService;
+    @Mock
+    private ReactiveStudentService reactiveStudentService;
+    @Mock
+    private TuitionEnrollmentService tuitionEnrollmentService;
 
     @BeforeEach
     void setUp() {
         initMocks(this);
-        TuitionController tuitionController = new TuitionController(tuitionService, studentService);
-        mockMvc = MockMvcBuilders.standaloneSetup(tuitionController)
+        mockMvc = buildMockMvc(Runnable::run);
+    }
+
+    /**
+     * This method builds the mock mvc of a tuition controller with the given request executor
+     *
+     * @param requestExecutor executor of the async endpoints
+     * @return MockMvc
+     */
+    private MockMvc buildMockMvc(Executor requestExecutor) {
+        TuitionCatalogueCache tuitionCatalogueCache = new TuitionCatalogueCache(tuitionService,
+                new TuitionVersions(CACHE_MAX_SIZE, CACHE_TTL_SECONDS), new ObjectMapper(), new SimpleMeterRegistry(),
+                Runnable::run, CACHE_MAX_SIZE, CACHE_TTL_SECONDS);
+        TuitionController tuitionController = new TuitionController(tuitionService, studentService,
+                reactiveStudentService, tuitionEnrollmentService, tuitionCatalogueCache, MAX_BULK_SIZE, requestExecutor,
+                ASYNC_TIMEOUT_MILLIS);
+        return MockMvcBuilders.standaloneSetup(tuitionController)
                 .setControllerAdvice(new CustomizedExceptionHandling())
                 .build();
     }
@@ -137,6 +207,57 @@ class TuitionControllerTest {
                 .andExpect(jsonPath("$.displayMessage").value(ERROR_MESSAGE));
     }
 
+    /**
+     * Start of tests for bulk create tuition
+     * Api context: /api/v1/tuition/bulk
+     */
+    @Test
+    void Should_ReturnOk_When_BulkCreatingTuitionIsSuccessful() throws Exception {
+        List<TuitionBulkCreateResultDto> results = new ArrayList<>();
+        results.add(new TuitionBulkCreateResultDto(0, TUITION_NAME, TUITION_ID, BulkItemStatusType.CREATED));
+        results.add(new TuitionBulkCreateResultDto(1, TUITION_NAME, null, BulkItemStatusType.DUPLICATE_IN_REQUEST));
+        when(tuitionService.createTuitions(anyList())).thenReturn(results);
+
+        mockMvc.perform(MockMvcRequestBuilders.post(BULK_CREATE_TUITION_URI)
+                        .content(getSampleTuitionCreateRequestJsonArray(2))
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.status").value(SUCCESS_STATUS))
+                .andExpect(jsonPath("$.message").value(SuccessResponseStatusType.BULK_CREATE_TUITION.getMessage()))
+                .andExpect(jsonPath("$.data.createdCount").value(1))
+                .andExpect(jsonPath("$.data.failedCount").value(1))
+                .andExpect(jsonPath("$.data.results[0].tuitionId").value(TUITION_ID))
+                .andExpect(jsonPath("$.data.results[1].status").value("DUPLICATE_IN_REQUEST"))
+                .andExpect(jsonPath("$.displayMessage").value(SUCCESS_MESSAGE));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_BulkCreatingTuitionForEmptyList() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post(BULK_CREATE_TUITION_URI)
+                        .content("[]")
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.message").value(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS
+                        .getMessage()))
+                .andExpect(jsonPath("$.displayMessage").value(ERROR_MESSAGE));
+        verify(tuitionService, never()).createTuitions(anyList());
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_BulkCreatingTuitionForTooManyItems() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post(BULK_CREATE_TUITION_URI)
+                        .content(getSampleTuitionCreateRequestJsonArray(MAX_BULK_SIZE + 1))
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.message").value(ErrorResponseStatusType.TOO_MANY_ITEMS.getMessage()))
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.TOO_MANY_ITEMS.getCode()))
+                .andExpect(jsonPath("$.displayMessage").value(ERROR_MESSAGE));
+        verify(tuitionService, never()).createTuitions(anyList());
+    }
+
     /**
      * Start of tests for get tuition by id
      * Api context: /api/v1/tuition/get/{tuitionId}
@@ -189,6 +310,99 @@ class TuitionControllerTest {
                 .andExpect(jsonPath("$.displayMessage").value(ERROR_MESSAGE));
     }
 
+    @Test
+    void Should_ReturnETag_When_GettingTuitionByIdIsSuccessful() throws Exception {
+        Tuition tuition = getSampleTuition();
+        tuition.setVersion(1L);
+        when(tuitionService.findById(anyString())).thenReturn(tuition);
+
+        String uri = GET_TUITION_BY_ID_URI.replace("{tuitionId}", TUITION_ID);
+        mockMvc.perform(MockMvcRequestBuilders.get(uri)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"v0\"")
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(jsonPath("$.data.tuitionId").value(TUITION_ID));
+    }
+
+    @Test
+    void Should_ReturnNotModifiedWithoutLoadingTuition_When_GettingTuitionByIdForKnownETag() throws Exception {
+        when(tuitionService.getETag(TUITION_ID)).thenReturn(ETAG);
+
+        String uri = GET_TUITION_BY_ID_URI.replace("{tuitionId}", TUITION_ID);
+        mockMvc.perform(MockMvcRequestBuilders.get(uri)
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/" + ETAG)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(content().string(""));
+        verify(tuitionService, never()).findById(anyString());
+    }
+
+    @Test
+    void Should_ReturnNotModified_When_GettingTuitionByIdForUnknownVersionMatchingETag() throws Exception {
+        Tuition tuition = getSampleTuition();
+        tuition.setVersion(1L);
+        when(tuitionService.findById(anyString())).thenReturn(tuition);
+
+        String uri = GET_TUITION_BY_ID_URI.replace("{tuitionId}", TUITION_ID);
+        mockMvc.perform(MockMvcRequestBuilders.get(uri)
+                        .header(HttpHeaders.IF_NONE_MATCH, ETAG)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG));
+    }
+
+    /**
+     * Start of tests for get tuition list by id
+     * Api context: /api/v1/tuition/get/list
+     */
+    @Test
+    void Should_ReturnOkWithMissingIds_When_GettingTuitionListById() throws Exception {
+        List<String> tuitionIds = Arrays.asList(TUITION_ID, MISSING_TUITION_ID, TUITION_ID);
+        when(tuitionService.findAllById(tuitionIds))
+                .thenReturn(Collections.singletonMap(TUITION_ID, getSampleTuition()));
+
+        mockMvc.perform(MockMvcRequestBuilders.post(GET_TUITION_LIST_BY_ID_URI)
+                        .content(new TuitionIdListRequestDto(tuitionIds).toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.status").value(SUCCESS_STATUS))
+                .andExpect(jsonPath("$.message").value(SuccessResponseStatusType.READ_TUITION_LIST.getMessage()))
+                .andExpect(jsonPath("$.data.tuitionList.length()").value(1))
+                .andExpect(jsonPath("$.data.tuitionList[0].tuitionId").value(TUITION_ID))
+                .andExpect(jsonPath("$.data.missingIds.length()").value(1))
+                .andExpect(jsonPath("$.data.missingIds[0]").value(MISSING_TUITION_ID))
+                .andExpect(jsonPath("$.displayMessage").value(SUCCESS_MESSAGE));
+        verify(tuitionService, never()).findById(anyString());
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_GettingTuitionListByIdForTooManyIds() throws Exception {
+        List<String> tuitionIds = Arrays.asList(TUITION_ID + 1, TUITION_ID + 2, TUITION_ID + 3);
+
+        mockMvc.perform(MockMvcRequestBuilders.post(GET_TUITION_LIST_BY_ID_URI)
+                        .content(new TuitionIdListRequestDto(tuitionIds).toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.TOO_MANY_ITEMS.getCode()));
+        verify(tuitionService, never()).findAllById(anyList());
+    }
+
+    @Test
+    void Should_ReturnInternalServerError_When_GettingTuitionListByIdIsFailed() throws Exception {
+        when(tuitionService.findAllById(anyList())).thenThrow(new TuitionServiceException(ERROR));
+
+        mockMvc.perform(MockMvcRequestBuilders.post(GET_TUITION_LIST_BY_ID_URI)
+                        .content(new TuitionIdListRequestDto(Collections.singletonList(TUITION_ID)).toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.INTERNAL_SERVER_ERROR.getCode()));
+    }
+
     /**
      * Start of tests for delete tuition
      * Api context: /api/v1/tuition/delete/{tuitionId}
@@ -196,7 +410,7 @@ class TuitionControllerTest {
     @Test
     void Should_ReturnOk_When_DeletingTuitionIsSuccessful() throws Exception {
         when(tuitionService.findById(anyString())).thenReturn(getSampleTuition());
-        doNothing().when(tuitionService).deleteTuition(any(Tuition.class), anyString());
+        doNothing().when(tuitionService).deleteTuition(any(Tuition.class));
 
         String uri = DELETE_TUITION_ID_URI.replace("{tuitionId}", TUITION_ID);
         mockMvc.perform(MockMvcRequestBuilders.delete(uri)
@@ -229,7 +443,7 @@ class TuitionControllerTest {
     void Should_ReturnInternalServerError_When_DeletingTuitionForFailedToRemoveTuitionFromStudent() throws Exception {
         when(tuitionService.findById(anyString())).thenReturn(getSampleTuition());
         doThrow(new StudentServiceHttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR, ERROR))
-                .when(tuitionService).deleteTuition(any(Tuition.class), anyString());
+                .when(tuitionService).deleteTuition(any(Tuition.class));
 
         String uri = DELETE_TUITION_ID_URI.replace("{tuitionId}", TUITION_ID);
         mockMvc.perform(MockMvcRequestBuilders.delete(uri)
@@ -249,7 +463,7 @@ class TuitionControllerTest {
     void Should_ReturnInternalServerError_When_DeletingTuitionForFailedToDeleteAllPaymentByTuitionId() throws Exception {
         when(tuitionService.findById(anyString())).thenReturn(getSampleTuition());
         doThrow(new PaymentServiceHttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR, ERROR))
-                .when(tuitionService).deleteTuition(any(Tuition.class), anyString());
+                .when(tuitionService).deleteTuition(any(Tuition.class));
 
         String uri = DELETE_TUITION_ID_URI.replace("{tuitionId}", TUITION_ID);
         mockMvc.perform(MockMvcRequestBuilders.delete(uri)
@@ -265,6 +479,26 @@ class TuitionControllerTest {
                 .andExpect(jsonPath("$.displayMessage").value(ERROR_MESSAGE));
     }
 
+    @Test
+    void Should_ReturnServiceUnavailable_When_DeletingTuitionForPaymentServiceUnavailable() throws Exception {
+        when(tuitionService.findById(anyString())).thenReturn(getSampleTuition());
+        doThrow(new PaymentServiceUnavailableException(ERROR, null))
+                .when(tuitionService).deleteTuition(any(Tuition.class));
+
+        String uri = DELETE_TUITION_ID_URI.replace("{tuitionId}", TUITION_ID);
+        mockMvc.perform(MockMvcRequestBuilders.delete(uri)
+                        .header(AUTH_HEADER, TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.message").value(ErrorResponseStatusType.PAYMENT_INTERNAL_SERVER_ERROR
+                        .getMessage()))
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.PAYMENT_INTERNAL_SERVER_ERROR
+                        .getCode()))
+                .andExpect(jsonPath("$.displayMessage").value(ERROR_MESSAGE));
+    }
+
     @Test
     void Should_ReturnInternalServerError_When_DeletingTuitionIsFailed() throws Exception {
         when(tuitionService.findById(anyString())).thenThrow(new TuitionServiceException(ERROR));
@@ -288,7 +522,7 @@ class TuitionControllerTest {
      */
     @Test
     void Should_ReturnOk_When_GettingAllTuitionIsSuccessful() throws Exception {
-        when(tuitionService.getAll()).thenReturn(getSampleTuitionList());
+        when(tuitionService.getPage(isNull(), isNull())).thenReturn(getSampleTuitionSlice(true));
 
         mockMvc.perform(MockMvcRequestBuilders.get(GET_ALL_TUITION_URI)
                         .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
@@ -300,12 +534,53 @@ class TuitionControllerTest {
                 .andExpect(jsonPath("$.statusCode").value(SuccessResponseStatusType.RETURNED_ALL_TUITION
                         .getCode()))
                 .andExpect(jsonPath("$.data.tuitionList[0].tuitionId").value(TUITION_ID))
+                .andExpect(jsonPath("$.data.nextCursor").value(PageCursor.encode(TUITION_ID)))
                 .andExpect(jsonPath("$.displayMessage").value(SUCCESS_MESSAGE));
     }
 
+    @Test
+    void Should_ReturnOk_When_GettingLastPageOfAllTuitionIsSuccessful() throws Exception {
+        when(tuitionService.getPage(eq(TUITION_ID), eq(PAGE_SIZE))).thenReturn(getSampleTuitionSlice(false));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_ALL_TUITION_URI)
+                        .param("size", String.valueOf(PAGE_SIZE))
+                        .param("after", PageCursor.encode(TUITION_ID))
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.status").value(SUCCESS_STATUS))
+                .andExpect(jsonPath("$.data.tuitionList[0].tuitionId").value(TUITION_ID))
+                .andExpect(jsonPath("$.data.nextCursor").doesNotExist())
+                .andExpect(jsonPath("$.displayMessage").value(SUCCESS_MESSAGE));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_GettingAllTuitionForInvalidPageCursor() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_ALL_TUITION_URI)
+                        .param("after", "%%%")
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.message").value(ErrorResponseStatusType.INVALID_PAGE_CURSOR.getMessage()))
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.INVALID_PAGE_CURSOR.getCode()))
+                .andExpect(jsonPath("$.displayMessage").value(ERROR_MESSAGE));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_GettingAllTuitionForCursorNotWrappingTuitionId() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_ALL_TUITION_URI)
+                        .param("after", PageCursor.encode(STUDENT_ID))
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.INVALID_PAGE_CURSOR.getCode()));
+        verifyNoInteractions(tuitionService);
+    }
+
     @Test
     void Should_ReturnInternalServerError_When_GettingAllTuitionIsFailed() throws Exception {
-        when(tuitionService.getAll()).thenThrow(new TuitionServiceException(ERROR));
+        when(tuitionService.getPage(isNull(), isNull())).thenThrow(new TuitionServiceException(ERROR));
 
         mockMvc.perform(MockMvcRequestBuilders.get(GET_ALL_TUITION_URI)
                         .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
@@ -319,6 +594,140 @@ class TuitionControllerTest {
                 .andExpect(jsonPath("$.displayMessage").value(ERROR_MESSAGE));
     }
 
+    @Test
+    void Should_ReturnNotModifiedWithoutReadingPage_When_GettingAllTuitionForCurrentCatalogueETag()
+            throws Exception {
+        when(tuitionService.getCatalogueETag()).thenReturn(CATALOGUE_ETAG);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_ALL_TUITION_URI)
+                        .header(HttpHeaders.IF_NONE_MATCH, CATALOGUE_ETAG)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, CATALOGUE_ETAG));
+        verify(tuitionService, never()).getPage(any(), any());
+    }
+
+    @Test
+    void Should_ReturnCatalogueETag_When_GettingAllTuitionForChangedCatalogue() throws Exception {
+        when(tuitionService.getCatalogueETag()).thenReturn(CATALOGUE_ETAG);
+        when(tuitionService.getPage(isNull(), isNull())).thenReturn(getSampleTuitionSlice(false));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_ALL_TUITION_URI)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"c1-0-1\"")
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, CATALOGUE_ETAG))
+                .andExpect(jsonPath("$.data.tuitionList[0].tuitionId").value(TUITION_ID));
+    }
+
+    @Test
+    void Should_ReturnGzipEncodedPage_When_GettingAllTuitionAcceptingGzip() throws Exception {
+        when(tuitionService.getPage(isNull(), isNull())).thenReturn(getSampleTuitionSlice(false));
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(GET_ALL_TUITION_URI)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn();
+        try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(result.getResponse()
+                .getContentAsByteArray()))) {
+            String json = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(json.contains(TUITION_ID));
+            assertTrue(json.contains(SuccessResponseStatusType.RETURNED_ALL_TUITION.getMessage()));
+        }
+    }
+
+    @Test
+    void Should_ReturnIdentityEncodedPage_When_GettingAllTuitionRefusingGzip() throws Exception {
+        when(tuitionService.getPage(isNull(), isNull())).thenReturn(getSampleTuitionSlice(false));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_ALL_TUITION_URI)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, deflate")
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(jsonPath("$.data.tuitionList[0].tuitionId").value(TUITION_ID));
+    }
+
+    @Test
+    void Should_ReturnCachedPage_When_GettingAllTuitionForUnchangedCatalogue() throws Exception {
+        when(tuitionService.getCatalogueETag()).thenReturn(CATALOGUE_ETAG);
+        when(tuitionService.getPage(isNull(), isNull())).thenReturn(getSampleTuitionSlice(false));
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(MockMvcRequestBuilders.get(GET_ALL_TUITION_URI)
+                            .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, CATALOGUE_ETAG))
+                    .andExpect(jsonPath("$.data.tuitionList[0].tuitionId").value(TUITION_ID));
+        }
+        verify(tuitionService, times(1)).getPage(isNull(), isNull());
+    }
+
+    /**
+     * Start of tests for get all tuition summaries
+     * Api context: /api/v1/tuition/get/all/summary
+     */
+    @Test
+    void Should_ReturnOk_When_GettingAllTuitionSummaryIsSuccessful() throws Exception {
+        when(tuitionService.getSummaryPage(isNull(), isNull())).thenReturn(getSampleTuitionSummarySlice());
+
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_ALL_TUITION_SUMMARY_URI)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.status").value(SUCCESS_STATUS))
+                .andExpect(jsonPath("$.message").value(SuccessResponseStatusType.RETURNED_ALL_TUITION_SUMMARY
+                        .getMessage()))
+                .andExpect(jsonPath("$.data.tuitionList[0].tuitionId").value(TUITION_ID))
+                .andExpect(jsonPath("$.data.tuitionList[0].enrollmentCount").value(1))
+                .andExpect(jsonPath("$.data.tuitionList[0].studentIds").doesNotExist())
+                .andExpect(jsonPath("$.data.nextCursor").value(PageCursor.encode(TUITION_ID)))
+                .andExpect(jsonPath("$.displayMessage").value(SUCCESS_MESSAGE));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_GettingAllTuitionSummaryForInvalidPageCursor() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(GET_ALL_TUITION_SUMMARY_URI)
+                        .param("after", "%%%")
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.INVALID_PAGE_CURSOR.getCode()));
+    }
+
+    /**
+     * Start of tests for export all tuition
+     * Api context: /api/v1/tuition/export
+     */
+    @Test
+    void Should_ReturnOk_When_ExportingAllTuitionIsSuccessful() throws Exception {
+        String line = "{\"tuitionId\":\"" + TUITION_ID + "\"}\n";
+        when(tuitionService.exportAll(any(OutputStream.class))).thenAnswer(invocation -> {
+            invocation.getArgument(0, OutputStream.class).write(line.getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        mockMvc.perform(MockMvcRequestBuilders.get(EXPORT_ALL_TUITION_URI))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_NDJSON_VALUE))
+                .andExpect(content().string(line));
+    }
+
+    @Test
+    void Should_ReturnInternalServerError_When_ExportingAllTuitionIsFailed() throws Exception {
+        when(tuitionService.exportAll(any(OutputStream.class))).thenThrow(new TuitionServiceException(ERROR));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(EXPORT_ALL_TUITION_URI).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.INTERNAL_SERVER_ERROR
+                        .getCode()));
+    }
+
     /**
      * Start of tests for add student to tuition
      * Api context: /api/v1/tuition/add/student/{studentId}/tuition/{tuitionId}
@@ -327,7 +736,7 @@ class TuitionControllerTest {
     void Should_ReturnOk_When_AddingStudentToTuitionIsSuccessful() throws Exception {
         when(studentService.findById(anyString(), anyString())).thenReturn(getSampleStudentResponseDto());
         when(tuitionService.findById(anyString())).thenReturn(getSampleTuition());
-        when(tuitionService.addStudentToTuition(any(StudentResponseDto.class), any(Tuition.class), anyString()))
+        when(tuitionService.addStudentToTuition(any(StudentResponseDto.class), any(Tuition.class)))
                 .thenReturn(getSampleStudentResponseDto());
 
         String uri = ADD_STUDENT_TO_TUITION.replace("{studentId}", STUDENT_ID)
@@ -348,10 +757,10 @@ class TuitionControllerTest {
 
     @Test
     void Should_ReturnBadRequest_When_AddingStudentToTuitionForStudentAlreadyEnrolledInATuition() throws Exception {
-        StudentResponseDto studentResponseDto = getSampleStudentResponseDto();
-        studentResponseDto.setTuitionId(TUITION_ID);
-
-        when(studentService.findById(anyString(), anyString())).thenReturn(studentResponseDto);
+        when(studentService.findById(anyString(), anyString())).thenReturn(getSampleStudentResponseDto());
+        when(tuitionService.findById(anyString())).thenReturn(getSampleTuition());
+        when(tuitionService.addStudentToTuition(any(StudentResponseDto.class), any(Tuition.class)))
+                .thenThrow(new StudentAlreadyEnrolledException(ERROR));
 
         String uri = ADD_STUDENT_TO_TUITION.replace("{studentId}", STUDENT_ID)
                 .replace("{tuitionId}", TUITION_ID);
@@ -406,6 +815,26 @@ class TuitionControllerTest {
                 .andExpect(jsonPath("$.displayMessage").value(ERROR_MESSAGE));
     }
 
+    @Test
+    void Should_ReturnServiceUnavailable_When_AddingStudentToTuitionForStudentServiceUnavailable() throws Exception {
+        when(studentService.findById(anyString(), anyString()))
+                .thenThrow(new StudentServiceUnavailableException(ERROR, null));
+
+        String uri = ADD_STUDENT_TO_TUITION.replace("{studentId}", STUDENT_ID)
+                .replace("{tuitionId}", TUITION_ID);
+        mockMvc.perform(MockMvcRequestBuilders.post(uri)
+                        .header(AUTH_HEADER, TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.message").value(ErrorResponseStatusType.STUDENT_INTERNAL_SERVER_ERROR
+                        .getMessage()))
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.STUDENT_INTERNAL_SERVER_ERROR
+                        .getCode()))
+                .andExpect(jsonPath("$.displayMessage").value(ERROR_MESSAGE));
+    }
+
     @Test
     void Should_ReturnInternalServerError_When_AddingStudentToTuitionIsFailed() throws Exception {
         when(studentService.findById(anyString(), anyString())).thenReturn(getSampleStudentResponseDto());
@@ -426,18 +855,87 @@ class TuitionControllerTest {
                 .andExpect(jsonPath("$.displayMessage").value(ERROR_MESSAGE));
     }
 
+    /**
+     * Start of tests for add students to tuition
+     * Api context: /api/v1/tuition/add/students/tuition/{tuitionId}
+     */
+    @Test
+    void Should_ReturnOkWithPerStudentResults_When_AddingStudentsToTuition() throws Exception {
+        List<String> studentIds = Arrays.asList(STUDENT_ID, STUDENT_ID);
+        List<TuitionStudentBulkResultDto> results = Arrays.asList(
+                new TuitionStudentBulkResultDto(0, STUDENT_ID, BulkItemStatusType.ENROLLED),
+                new TuitionStudentBulkResultDto(1, STUDENT_ID, BulkItemStatusType.DUPLICATE_IN_REQUEST));
+        when(tuitionService.findById(TUITION_ID)).thenReturn(getSampleTuition());
+        when(tuitionEnrollmentService.addStudents(any(Tuition.class), eq(studentIds), eq(TOKEN))).thenReturn(results);
+
+        mockMvc.perform(MockMvcRequestBuilders.post(ADD_STUDENTS_TO_TUITION.replace("{tuitionId}", TUITION_ID))
+                        .header(AUTH_HEADER, TOKEN)
+                        .content(new StudentIdListRequestDto(studentIds).toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.status").value(SUCCESS_STATUS))
+                .andExpect(jsonPath("$.message").value(SuccessResponseStatusType.BULK_ADD_TUITION_STUDENTS
+                        .getMessage()))
+                .andExpect(jsonPath("$.data.tuitionId").value(TUITION_ID))
+                .andExpect(jsonPath("$.data.succeededCount").value(1))
+                .andExpect(jsonPath("$.data.failedCount").value(1))
+                .andExpect(jsonPath("$.data.results[0].status").value(BulkItemStatusType.ENROLLED.name()))
+                .andExpect(jsonPath("$.data.results[1].status").value(BulkItemStatusType.DUPLICATE_IN_REQUEST
+                        .name()))
+                .andExpect(jsonPath("$.displayMessage").value(SUCCESS_MESSAGE));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_AddingStudentsToTuitionForMissingStudentIds() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post(ADD_STUDENTS_TO_TUITION.replace("{tuitionId}", TUITION_ID))
+                        .header(AUTH_HEADER, TOKEN)
+                        .content(new StudentIdListRequestDto(Collections.singletonList("")).toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.MISSING_REQUIRED_FIELDS
+                        .getCode()));
+        verifyNoInteractions(tuitionEnrollmentService);
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_AddingStudentsToTuitionForTooManyStudents() throws Exception {
+        List<String> studentIds = Arrays.asList(STUDENT_ID + 1, STUDENT_ID + 2, STUDENT_ID + 3);
+
+        mockMvc.perform(MockMvcRequestBuilders.post(ADD_STUDENTS_TO_TUITION.replace("{tuitionId}", TUITION_ID))
+                        .header(AUTH_HEADER, TOKEN)
+                        .content(new StudentIdListRequestDto(studentIds).toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.TOO_MANY_ITEMS.getCode()));
+        verifyNoInteractions(tuitionEnrollmentService);
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_AddingStudentsToTuitionForTuitionNotFound() throws Exception {
+        when(tuitionService.findById(anyString())).thenThrow(new TuitionNotFoundException(ERROR));
+
+        mockMvc.perform(MockMvcRequestBuilders.post(ADD_STUDENTS_TO_TUITION.replace("{tuitionId}", TUITION_ID))
+                        .header(AUTH_HEADER, TOKEN)
+                        .content(new StudentIdListRequestDto(Collections.singletonList(STUDENT_ID)).toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.TUITION_NOT_FOUND.getCode()));
+        verifyNoInteractions(tuitionEnrollmentService);
+    }
+
     /**
      * Start of tests for remove student from tuition
      * Api context: /api/v1/tuition/remove/student/{studentId}/tuition/{tuitionId}
      */
     @Test
     void Should_ReturnOk_When_RemovingStudentFromTuitionIsSuccessful() throws Exception {
-        StudentResponseDto studentResponseDto = getSampleStudentResponseDto();
-        studentResponseDto.setTuitionId(TUITION_ID);
-
-        when(studentService.findById(anyString(), anyString())).thenReturn(studentResponseDto);
+        when(studentService.findById(anyString(), anyString())).thenReturn(getSampleStudentResponseDto());
         when(tuitionService.findById(anyString())).thenReturn(getSampleTuition());
-        when(tuitionService.removeStudentFromTuition(any(StudentResponseDto.class), any(Tuition.class), anyString()))
+        when(tuitionService.removeStudentFromTuition(any(StudentResponseDto.class), any(Tuition.class)))
                 .thenReturn(getSampleStudentResponseDto());
 
         String uri = REMOVE_STUDENT_FROM_TUITION.replace("{studentId}", STUDENT_ID)
@@ -460,6 +958,8 @@ class TuitionControllerTest {
     void Should_ReturnBadRequest_When_RemovingStudentFromTuitionForStudentNotEnrolledInTuition() throws Exception {
         when(studentService.findById(anyString(), anyString())).thenReturn(getSampleStudentResponseDto());
         when(tuitionService.findById(anyString())).thenReturn(getSampleTuition());
+        when(tuitionService.removeStudentFromTuition(any(StudentResponseDto.class), any(Tuition.class)))
+                .thenThrow(new StudentNotEnrolledException(ERROR));
 
         String uri = REMOVE_STUDENT_FROM_TUITION.replace("{studentId}", STUDENT_ID)
                 .replace("{tuitionId}", TUITION_ID);
@@ -478,10 +978,7 @@ class TuitionControllerTest {
 
     @Test
     void Should_ReturnBadRequest_When_RemovingStudentFromTuitionForTuitionNotFound() throws Exception {
-        StudentResponseDto studentResponseDto = getSampleStudentResponseDto();
-        studentResponseDto.setTuitionId(TUITION_ID);
-
-        when(studentService.findById(anyString(), anyString())).thenReturn(studentResponseDto);
+        when(studentService.findById(anyString(), anyString())).thenReturn(getSampleStudentResponseDto());
         when(tuitionService.findById(anyString())).thenThrow(new TuitionNotFoundException(ERROR));
 
         String uri = REMOVE_STUDENT_FROM_TUITION.replace("{studentId}", STUDENT_ID)
@@ -521,10 +1018,7 @@ class TuitionControllerTest {
 
     @Test
     void Should_ReturnInternalServerError_When_RemovingStudentFromTuitionIsFailed() throws Exception {
-        StudentResponseDto studentResponseDto = getSampleStudentResponseDto();
-        studentResponseDto.setTuitionId(TUITION_ID);
-
-        when(studentService.findById(anyString(), anyString())).thenReturn(studentResponseDto);
+        when(studentService.findById(anyString(), anyString())).thenReturn(getSampleStudentResponseDto());
         when(tuitionService.findById(anyString())).thenThrow(new TuitionServiceException(ERROR));
 
         String uri = REMOVE_STUDENT_FROM_TUITION.replace("{studentId}", STUDENT_ID)
@@ -541,6 +1035,214 @@ class TuitionControllerTest {
                 .andExpect(jsonPath("$.displayMessage").value(ERROR_MESSAGE));
     }
 
+    /**
+     * Start of tests for remove students from tuition
+     * Api context: /api/v1/tuition/remove/students/tuition/{tuitionId}
+     */
+    @Test
+    void Should_ReturnOkWithPerStudentResults_When_RemovingStudentsFromTuition() throws Exception {
+        List<String> studentIds = Arrays.asList(STUDENT_ID, STUDENT_ID + 1);
+        List<TuitionStudentBulkResultDto> results = Arrays.asList(
+                new TuitionStudentBulkResultDto(0, STUDENT_ID, BulkItemStatusType.REMOVED),
+                new TuitionStudentBulkResultDto(1, STUDENT_ID + 1, BulkItemStatusType.NOT_ENROLLED));
+        when(tuitionService.findById(TUITION_ID)).thenReturn(getSampleTuition());
+        when(tuitionEnrollmentService.removeStudents(any(Tuition.class), eq(studentIds)))
+                .thenReturn(results);
+
+        mockMvc.perform(MockMvcRequestBuilders.post(REMOVE_STUDENTS_FROM_TUITION.replace("{tuitionId}", TUITION_ID))
+                        .header(AUTH_HEADER, TOKEN)
+                        .content(new StudentIdListRequestDto(studentIds).toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.status").value(SUCCESS_STATUS))
+                .andExpect(jsonPath("$.message").value(SuccessResponseStatusType.BULK_REMOVE_TUITION_STUDENTS
+                        .getMessage()))
+                .andExpect(jsonPath("$.data.tuitionId").value(TUITION_ID))
+                .andExpect(jsonPath("$.data.succeededCount").value(1))
+                .andExpect(jsonPath("$.data.failedCount").value(1))
+                .andExpect(jsonPath("$.data.results[0].status").value(BulkItemStatusType.REMOVED.name()))
+                .andExpect(jsonPath("$.data.results[1].status").value(BulkItemStatusType.NOT_ENROLLED.name()))
+                .andExpect(jsonPath("$.displayMessage").value(SUCCESS_MESSAGE));
+        verify(tuitionService, times(1)).findById(TUITION_ID);
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_RemovingStudentsFromTuitionForTooManyStudents() throws Exception {
+        List<String> studentIds = Arrays.asList(STUDENT_ID + 1, STUDENT_ID + 2, STUDENT_ID + 3);
+
+        mockMvc.perform(MockMvcRequestBuilders.post(REMOVE_STUDENTS_FROM_TUITION.replace("{tuitionId}", TUITION_ID))
+                        .header(AUTH_HEADER, TOKEN)
+                        .content(new StudentIdListRequestDto(studentIds).toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.TOO_MANY_ITEMS.getCode()));
+        verifyNoInteractions(tuitionEnrollmentService);
+    }
+
+    @Test
+    void Should_ReturnInternalServerError_When_RemovingStudentsFromTuitionIsFailed() throws Exception {
+        when(tuitionService.findById(TUITION_ID)).thenReturn(getSampleTuition());
+        when(tuitionEnrollmentService.removeStudents(any(Tuition.class), anyList()))
+                .thenThrow(new TuitionServiceException(ERROR));
+
+        mockMvc.perform(MockMvcRequestBuilders.post(REMOVE_STUDENTS_FROM_TUITION.replace("{tuitionId}", TUITION_ID))
+                        .header(AUTH_HEADER, TOKEN)
+                        .content(new StudentIdListRequestDto(Collections.singletonList(STUDENT_ID)).toJson())
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.INTERNAL_SERVER_ERROR.getCode()));
+    }
+
+    /**
+     * Start of tests for async enrollment and delete endpoints
+     * Api context: /api/v1/tuition/async/**
+     */
+    @Test
+    void Should_ReturnOk_When_AddingStudentToTuitionAsyncIsSuccessful() throws Exception {
+        when(reactiveStudentService.findById(anyString(), anyString()))
+                .thenReturn(Mono.just(getSampleStudentResponseDto()));
+        when(tuitionService.findById(anyString())).thenReturn(getSampleTuition());
+        when(tuitionService.addStudentToTuitionAsync(any(StudentResponseDto.class), any(Tuition.class)))
+                .thenReturn(CompletableFuture.completedFuture(getSampleStudentResponseDto()));
+
+        String uri = ASYNC_ADD_STUDENT_TO_TUITION.replace("{studentId}", STUDENT_ID)
+                .replace("{tuitionId}", TUITION_ID);
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.post(uri)
+                        .header(AUTH_HEADER, TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.status").value(SUCCESS_STATUS))
+                .andExpect(jsonPath("$.message").value(SuccessResponseStatusType.ADD_TUITION_STUDENT
+                        .getMessage()))
+                .andExpect(jsonPath("$.data.name").value(STUDENT_NAME));
+        verify(reactiveStudentService, times(1)).findById(STUDENT_ID, TOKEN);
+        verify(tuitionService, times(1)).addStudentToTuitionAsync(any(StudentResponseDto.class),
+                any(Tuition.class));
+        verify(studentService, never()).findById(anyString(), anyString());
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_RemovingStudentFromTuitionAsyncForStudentNotEnrolledInTuition()
+            throws Exception {
+        when(reactiveStudentService.findById(anyString(), anyString()))
+                .thenReturn(Mono.just(getSampleStudentResponseDto()));
+        when(tuitionService.findById(anyString())).thenReturn(getSampleTuition());
+        when(tuitionService.removeStudentFromTuitionAsync(any(StudentResponseDto.class), any(Tuition.class)))
+                .thenReturn(CompletableFuture.failedFuture(new StudentNotEnrolledException(ERROR)));
+
+        String uri = ASYNC_REMOVE_STUDENT_FROM_TUITION.replace("{studentId}", STUDENT_ID)
+                .replace("{tuitionId}", TUITION_ID);
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.post(uri)
+                        .header(AUTH_HEADER, TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.STUDENT_NOT_ENROLLED_IN_TUITION
+                        .getCode()));
+    }
+
+    @Test
+    void Should_ReturnOk_When_DeletingTuitionAsyncIsSuccessful() throws Exception {
+        when(tuitionService.findById(anyString())).thenReturn(getSampleTuition());
+        when(tuitionService.deleteTuitionAsync(any(Tuition.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        String uri = ASYNC_DELETE_TUITION_ID_URI.replace("{tuitionId}", TUITION_ID);
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.delete(uri)
+                        .header(AUTH_HEADER, TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+                .andExpect(status().is(202))
+                .andExpect(jsonPath("$.status").value(SUCCESS_STATUS))
+                .andExpect(jsonPath("$.message").value(SuccessResponseStatusType.DELETE_TUITION.getMessage()));
+        verify(tuitionService, times(1)).deleteTuitionAsync(any(Tuition.class));
+        verify(tuitionService, never()).deleteTuition(any(Tuition.class));
+    }
+
+    @Test
+    void Should_ReturnBadRequest_When_DeletingTuitionAsyncForTuitionNotFound() throws Exception {
+        when(tuitionService.findById(anyString())).thenThrow(new TuitionNotFoundException(ERROR));
+
+        String uri = ASYNC_DELETE_TUITION_ID_URI.replace("{tuitionId}", TUITION_ID);
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.delete(uri)
+                        .header(AUTH_HEADER, TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorResponseStatusType.TUITION_NOT_FOUND.getCode()));
+        verify(tuitionService, never()).deleteTuitionAsync(any(Tuition.class));
+    }
+
+    @Test
+    void Should_ReturnServiceUnavailable_When_AddingStudentToTuitionAsyncAndStudentServiceIsUnavailable()
+            throws Exception {
+        when(reactiveStudentService.findById(anyString(), anyString()))
+                .thenReturn(Mono.error(new StudentServiceUnavailableException(ERROR, null)));
+        when(tuitionService.findById(anyString())).thenReturn(getSampleTuition());
+
+        String uri = ASYNC_ADD_STUDENT_TO_TUITION.replace("{studentId}", STUDENT_ID)
+                .replace("{tuitionId}", TUITION_ID);
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.post(uri)
+                        .header(AUTH_HEADER, TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.message").value(ErrorResponseStatusType.STUDENT_INTERNAL_SERVER_ERROR
+                        .getMessage()));
+        verify(tuitionService, never()).addStudentToTuitionAsync(any(StudentResponseDto.class), any(Tuition.class));
+    }
+
+    @Test
+    void Should_ReturnServiceUnavailable_When_DeletingTuitionAsyncTimesOut() throws Exception {
+        mockMvc = buildMockMvc(task -> {
+        });
+
+        String uri = ASYNC_DELETE_TUITION_ID_URI.replace("{tuitionId}", TUITION_ID);
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.delete(uri)
+                        .header(AUTH_HEADER, TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvcResult.getAsyncResult(ASYNC_TIMEOUT_MILLIS * 10);
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.message").value(ErrorResponseStatusType.REQUEST_TIMEOUT.getMessage()));
+    }
+
+    @Test
+    void Should_ReturnServiceUnavailable_When_AddingStudentToTuitionAsyncIsRejected() throws Exception {
+        mockMvc = buildMockMvc(task -> {
+            throw new RejectedExecutionException(ERROR);
+        });
+
+        String uri = ASYNC_ADD_STUDENT_TO_TUITION.replace("{studentId}", STUDENT_ID)
+                .replace("{tuitionId}", TUITION_ID);
+        mockMvc.perform(MockMvcRequestBuilders.post(uri)
+                        .header(AUTH_HEADER, TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.status").value(ERROR_STATUS))
+                .andExpect(jsonPath("$.message").value(ErrorResponseStatusType.TOO_MANY_REQUESTS.getMessage()));
+        verify(reactiveStudentService, never()).findById(anyString(), anyString());
+    }
+
     /**
      * This method returns a sample TuitionCreateRequestDto
      *
@@ -553,6 +1255,20 @@ class TuitionControllerTest {
         return requestDto;
     }
 
+    /**
+     * This method returns a json array of sample TuitionCreateRequestDto
+     *
+     * @param count number of items
+     * @return json array
+     */
+    private String getSampleTuitionCreateRequestJsonArray(int count) {
+        List<String> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add(getSampleTuitionCreateRequestDto().toJson());
+        }
+        return "[" + String.join(",", items) + "]";
+    }
+
     /**
      * This method returns a sample tuition
      *
@@ -575,6 +1291,30 @@ class TuitionControllerTest {
         return tuitionList;
     }
 
+    /**
+     * This method returns a sample tuition slice
+     *
+     * @param hasNext true if there is a next slice
+     * @return Tuition Slice
+     */
+    private SliceImpl<Tuition> getSampleTuitionSlice(boolean hasNext) {
+        return new SliceImpl<>(getSampleTuitionList(), PageRequest.of(0, PAGE_SIZE), hasNext);
+    }
+
+    /**
+     * This method returns a sample TuitionSummary slice
+     *
+     * @return TuitionSummary slice
+     */
+    private SliceImpl<TuitionSummary> getSampleTuitionSummarySlice() {
+        TuitionSummary tuitionSummary = mock(TuitionSummary.class);
+        when(tuitionSummary.getId()).thenReturn(TUITION_ID);
+        when(tuitionSummary.getName()).thenReturn(TUITION_NAME);
+        when(tuitionSummary.getLocation()).thenReturn(TUITION_LOCATION);
+        when(tuitionSummary.getEnrollmentCount()).thenReturn(1L);
+        return new SliceImpl<>(Collections.singletonList(tuitionSummary), PageRequest.of(0, PAGE_SIZE), true);
+    }
+
     /**
      * This method returns a sample StudentResponseDto
      *
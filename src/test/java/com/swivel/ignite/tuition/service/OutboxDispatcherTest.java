@@ -0,0 +1,286 @@
+package com.swivel.ignite.tuition.service;
+
+import com.swivel.ignite.tuition.config.ServiceTokenProvider;
+import com.swivel.ignite.tuition.entity.OutboxEvent;
+import com.swivel.ignite.tuition.enums.OutboxClientType;
+import com.swivel.ignite.tuition.enums.OutboxEventType;
+import com.swivel.ignite.tuition.exception.PaymentServiceHttpClientErrorException;
+import com.swivel.ignite.tuition.exception.StudentServiceHttpClientErrorException;
+import com.swivel.ignite.tuition.exception.StudentServiceUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.oauth2.client.resource.OAuth2AccessDeniedException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+/**
+ * This class tests {@link OutboxDispatcher} class
+ */
+class OutboxDispatcherTest {
+
+    private static final String TOKEN = "Bearer 123456789";
+    private static final String TUITION_ID = "tid-0183f1a2-6c3d-7e4f-8a9b-0c1d2e3f4a5b";
+    private static final String STUDENT_ID = "sid-123456789";
+    private static final String OTHER_STUDENT_ID = "sid-987654321";
+    private static final String ERROR = "ERROR";
+    private static final int CONCURRENCY = 4;
+    private OutboxDispatcher outboxDispatcher;
+    @Mock
+    private OutboxService outboxService;
+    @Mock
+    private ReactiveStudentService reactiveStudentService;
+    @Mock
+    private ReactivePaymentService reactivePaymentService;
+    @Mock
+    private StudentService studentService;
+    @Mock
+    private PaymentService paymentService;
+    @Mock
+    private StudentUnlinkService studentUnlinkService;
+    @Mock
+    private ServiceTokenProvider serviceTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        outboxDispatcher = buildOutboxDispatcher(OutboxClientType.REACTIVE);
+        when(serviceTokenProvider.getToken()).thenReturn(TOKEN);
+    }
+
+    /**
+     * This method builds an outbox dispatcher that delivers the events on the given clients
+     *
+     * @param clientType student and payment microservice clients
+     * @return OutboxDispatcher
+     */
+    private OutboxDispatcher buildOutboxDispatcher(OutboxClientType clientType) {
+        return new OutboxDispatcher(outboxService, reactiveStudentService, reactivePaymentService, studentService,
+                paymentService, studentUnlinkService, serviceTokenProvider, CONCURRENCY, clientType);
+    }
+
+    /**
+     * Start of tests for dispatch method
+     */
+    @Test
+    void Should_DeliverEveryEventType_When_DispatchingIsSuccessful() {
+        OutboxEvent addEvent = getSampleEvent(1L, OutboxEventType.ADD_TUITION_TO_STUDENT,
+                Collections.singletonList(STUDENT_ID));
+        OutboxEvent removeEvent = getSampleEvent(2L, OutboxEventType.REMOVE_TUITION_FROM_STUDENTS,
+                Arrays.asList(STUDENT_ID, OTHER_STUDENT_ID));
+        OutboxEvent paymentEvent = getSampleEvent(3L, OutboxEventType.DELETE_PAYMENTS_BY_TUITION_ID, null);
+
+        when(outboxService.claimBatch()).thenReturn(Arrays.asList(addEvent, removeEvent, paymentEvent))
+                .thenReturn(Collections.emptyList());
+        when(reactiveStudentService.addTuition(anyString(), anyString(), anyString())).thenReturn(Mono.empty());
+        when(studentUnlinkService.removeTuitionAsync(anyString(), anyCollection(), anyString()))
+                .thenReturn(Mono.just(Collections.emptyMap()));
+        when(reactivePaymentService.deleteByTuitionId(anyString(), anyString())).thenReturn(Mono.empty());
+        outboxDispatcher.dispatch();
+        verify(reactiveStudentService).addTuition(STUDENT_ID, TUITION_ID, TOKEN);
+        verify(studentUnlinkService).removeTuitionAsync(TUITION_ID, Arrays.asList(STUDENT_ID, OTHER_STUDENT_ID),
+                TOKEN);
+        verify(reactivePaymentService).deleteByTuitionId(TUITION_ID, TOKEN);
+        verify(outboxService).markDelivered(argThat(delivered -> delivered.size() == 3
+                && delivered.containsAll(Arrays.asList(addEvent, removeEvent, paymentEvent))));
+        verify(outboxService, never()).markFailed(any(), any(), anyBoolean());
+        verify(outboxService, times(2)).claimBatch();
+        verifyNoInteractions(studentService, paymentService);
+    }
+
+    @Test
+    void Should_DeliverEveryEventTypeOnBlockingClients_When_DispatchingWithBlockingClients() throws IOException {
+        outboxDispatcher = buildOutboxDispatcher(OutboxClientType.BLOCKING);
+        OutboxEvent addEvent = getSampleEvent(1L, OutboxEventType.ADD_TUITION_TO_STUDENT,
+                Collections.singletonList(STUDENT_ID));
+        OutboxEvent removeEvent = getSampleEvent(2L, OutboxEventType.REMOVE_TUITION_FROM_STUDENTS,
+                Arrays.asList(STUDENT_ID, OTHER_STUDENT_ID));
+        OutboxEvent paymentEvent = getSampleEvent(3L, OutboxEventType.DELETE_PAYMENTS_BY_TUITION_ID, null);
+
+        when(outboxService.claimBatch()).thenReturn(Arrays.asList(addEvent, removeEvent, paymentEvent))
+                .thenReturn(Collections.emptyList());
+        when(studentUnlinkService.removeTuition(anyString(), anyCollection(), anyString()))
+                .thenReturn(Collections.emptyMap());
+        outboxDispatcher.dispatch();
+        verify(studentService).addTuition(STUDENT_ID, TUITION_ID, TOKEN);
+        verify(studentUnlinkService).removeTuition(TUITION_ID, Arrays.asList(STUDENT_ID, OTHER_STUDENT_ID), TOKEN);
+        verify(paymentService).deleteByTuitionId(TUITION_ID, TOKEN);
+        verify(outboxService).markDelivered(argThat(delivered -> delivered.size() == 3
+                && delivered.containsAll(Arrays.asList(addEvent, removeEvent, paymentEvent))));
+        verify(outboxService, never()).markFailed(any(), any(), anyBoolean());
+        verifyNoInteractions(reactiveStudentService, reactivePaymentService);
+    }
+
+    @Test
+    void Should_RetryEvent_When_DispatchingWithBlockingClientsIsFailedWithServerError() throws IOException {
+        outboxDispatcher = buildOutboxDispatcher(OutboxClientType.BLOCKING);
+        OutboxEvent event = getSampleEvent(1L, OutboxEventType.ADD_TUITION_TO_STUDENT,
+                Collections.singletonList(STUDENT_ID));
+        StudentServiceUnavailableException error = new StudentServiceUnavailableException(ERROR,
+                new IOException(ERROR));
+
+        when(outboxService.claimBatch()).thenReturn(Collections.singletonList(event))
+                .thenReturn(Collections.emptyList());
+        doThrow(error).when(studentService).addTuition(anyString(), anyString(), anyString());
+        outboxDispatcher.dispatch();
+        verify(outboxService).markDelivered(Collections.emptyList());
+        verify(outboxService).markFailed(event, error, true);
+    }
+
+    @Test
+    void Should_RetryEvent_When_DispatchingIsFailedWithServerError() {
+        OutboxEvent event = getSampleEvent(1L, OutboxEventType.ADD_TUITION_TO_STUDENT,
+                Collections.singletonList(STUDENT_ID));
+        StudentServiceUnavailableException error = new StudentServiceUnavailableException(ERROR,
+                new IOException(ERROR));
+
+        when(outboxService.claimBatch()).thenReturn(Collections.singletonList(event))
+                .thenReturn(Collections.emptyList());
+        when(reactiveStudentService.addTuition(anyString(), anyString(), anyString())).thenReturn(Mono.error(error));
+        outboxDispatcher.dispatch();
+        verify(outboxService).markDelivered(Collections.emptyList());
+        verify(outboxService).markFailed(event, error, true);
+    }
+
+    @Test
+    void Should_GiveUpEvent_When_DispatchingIsFailedWithClientError() {
+        OutboxEvent event = getSampleEvent(1L, OutboxEventType.DELETE_PAYMENTS_BY_TUITION_ID, null);
+        PaymentServiceHttpClientErrorException error = new PaymentServiceHttpClientErrorException(
+                HttpStatus.BAD_REQUEST, ERROR);
+
+        when(outboxService.claimBatch()).thenReturn(Collections.singletonList(event))
+                .thenReturn(Collections.emptyList());
+        when(reactivePaymentService.deleteByTuitionId(anyString(), anyString())).thenReturn(Mono.error(error));
+        outboxDispatcher.dispatch();
+        verify(outboxService).markFailed(event, error, false);
+    }
+
+    @Test
+    void Should_RetryEventWithNewServiceToken_When_DispatchingIsFailedWithUnauthorized() {
+        OutboxEvent event = getSampleEvent(1L, OutboxEventType.ADD_TUITION_TO_STUDENT,
+                Collections.singletonList(STUDENT_ID));
+        StudentServiceHttpClientErrorException error = new StudentServiceHttpClientErrorException(
+                HttpStatus.UNAUTHORIZED, ERROR);
+
+        when(outboxService.claimBatch()).thenReturn(Collections.singletonList(event))
+                .thenReturn(Collections.emptyList());
+        when(reactiveStudentService.addTuition(anyString(), anyString(), anyString())).thenReturn(Mono.error(error));
+        outboxDispatcher.dispatch();
+        verify(outboxService).markFailed(event, error, true);
+        verify(serviceTokenProvider).invalidate();
+    }
+
+    @Test
+    void Should_RetryBatchWithoutCalls_When_ServiceTokenCannotBeObtained() {
+        OutboxEvent event = getSampleEvent(1L, OutboxEventType.ADD_TUITION_TO_STUDENT,
+                Collections.singletonList(STUDENT_ID));
+        OAuth2AccessDeniedException error = new OAuth2AccessDeniedException(ERROR);
+
+        when(outboxService.claimBatch()).thenReturn(Collections.singletonList(event))
+                .thenReturn(Collections.emptyList());
+        when(serviceTokenProvider.getToken()).thenThrow(error);
+        outboxDispatcher.dispatch();
+        verify(outboxService).markFailed(event, error, true);
+        verify(outboxService, never()).markDelivered(any());
+        verifyNoInteractions(reactiveStudentService, reactivePaymentService, studentUnlinkService);
+    }
+
+    @Test
+    void Should_RetryRemainingStudents_When_DispatchingRemoveTuitionFromStudentsIsPartiallyFailed() {
+        OutboxEvent event = getSampleEvent(1L, OutboxEventType.REMOVE_TUITION_FROM_STUDENTS,
+                Arrays.asList(STUDENT_ID, OTHER_STUDENT_ID));
+        IOException error = new IOException(ERROR);
+
+        when(outboxService.claimBatch()).thenReturn(Collections.singletonList(event))
+                .thenReturn(Collections.emptyList());
+        when(studentUnlinkService.removeTuitionAsync(anyString(), anyCollection(), anyString()))
+                .thenReturn(Mono.just(Collections.singletonMap(OTHER_STUDENT_ID, error)));
+        outboxDispatcher.dispatch();
+        verify(outboxService).markFailed(event, error, true);
+        assertEquals(Collections.singletonList(OTHER_STUDENT_ID), event.getStudentIds());
+    }
+
+    @Test
+    void Should_MergeRemovalsOfTuition_When_DispatchingRemoveTuitionFromStudentsEvents() {
+        OutboxEvent event = getSampleEvent(1L, OutboxEventType.REMOVE_TUITION_FROM_STUDENTS,
+                Collections.singletonList(STUDENT_ID));
+        OutboxEvent otherEvent = getSampleEvent(2L, OutboxEventType.REMOVE_TUITION_FROM_STUDENTS,
+                Collections.singletonList(OTHER_STUDENT_ID));
+        IOException error = new IOException(ERROR);
+
+        when(outboxService.claimBatch()).thenReturn(Arrays.asList(event, otherEvent))
+                .thenReturn(Collections.emptyList());
+        when(studentUnlinkService.removeTuitionAsync(anyString(), anyCollection(), anyString()))
+                .thenReturn(Mono.just(Collections.singletonMap(OTHER_STUDENT_ID, error)));
+        outboxDispatcher.dispatch();
+        verify(studentUnlinkService, times(1)).removeTuitionAsync(TUITION_ID,
+                Arrays.asList(STUDENT_ID, OTHER_STUDENT_ID), TOKEN);
+        verify(outboxService).markDelivered(Collections.singletonList(event));
+        verify(outboxService).markFailed(otherEvent, error, true);
+    }
+
+    @Test
+    void Should_NotThrowException_When_DispatchingIsFailedToClaimEvents() {
+        when(outboxService.claimBatch()).thenThrow(new DataAccessException(ERROR) {
+        });
+        assertDoesNotThrow(() -> outboxDispatcher.dispatch());
+        verifyNoInteractions(reactiveStudentService, reactivePaymentService, studentUnlinkService);
+    }
+
+    /**
+     * Start of tests for dispatchTuition method
+     */
+    @Test
+    void Should_DeliverEventsOfTuition_When_DispatchingTuitionIsSuccessful() {
+        OutboxEvent event = getSampleEvent(1L, OutboxEventType.ADD_TUITION_TO_STUDENT,
+                Collections.singletonList(STUDENT_ID));
+
+        when(outboxService.claimTuition(anyString())).thenReturn(Collections.singletonList(event));
+        when(reactiveStudentService.addTuition(anyString(), anyString(), anyString())).thenReturn(Mono.empty());
+        outboxDispatcher.dispatchTuition(TUITION_ID).block();
+        verify(outboxService).claimTuition(TUITION_ID);
+        verify(reactiveStudentService).addTuition(STUDENT_ID, TUITION_ID, TOKEN);
+        verify(outboxService).markDelivered(Collections.singletonList(event));
+        verify(outboxService, never()).claimBatch();
+    }
+
+    @Test
+    void Should_NotCallServices_When_DispatchingTuitionWithoutDueEvents() {
+        when(outboxService.claimTuition(anyString())).thenReturn(Collections.emptyList());
+        outboxDispatcher.dispatchTuition(TUITION_ID).block();
+        verifyNoInteractions(serviceTokenProvider, reactiveStudentService, reactivePaymentService,
+                studentUnlinkService);
+        verify(outboxService, never()).markDelivered(any());
+    }
+
+    @Test
+    void Should_NotThrowException_When_DispatchingTuitionIsFailedToClaimEvents() {
+        when(outboxService.claimTuition(anyString())).thenThrow(new DataAccessException(ERROR) {
+        });
+        assertDoesNotThrow(() -> outboxDispatcher.dispatchTuition(TUITION_ID).block());
+        verifyNoInteractions(reactiveStudentService, reactivePaymentService, studentUnlinkService);
+    }
+
+    /**
+     * This method returns a sample OutboxEvent
+     *
+     * @param id         event id
+     * @param type       event type
+     * @param studentIds student ids
+     * @return OutboxEvent
+     */
+    private OutboxEvent getSampleEvent(Long id, OutboxEventType type, List<String> studentIds) {
+        OutboxEvent event = new OutboxEvent(type, TUITION_ID, TUITION_ID, studentIds);
+        event.setId(id);
+        return event;
+    }
+}
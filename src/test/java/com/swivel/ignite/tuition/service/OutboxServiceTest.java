@@ -0,0 +1,240 @@
+package com.swivel.ignite.tuition.service;
+
+import com.swivel.ignite.tuition.entity.OutboxEvent;
+import com.swivel.ignite.tuition.enums.OutboxEventStatusType;
+import com.swivel.ignite.tuition.enums.OutboxEventType;
+import com.swivel.ignite.tuition.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.data.domain.Pageable;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+/**
+ * This class tests {@link OutboxService} class
+ */
+class OutboxServiceTest {
+
+    private static final String TUITION_ID = "tid-0183f1a2-6c3d-7e4f-8a9b-0c1d2e3f4a5b";
+    private static final String STUDENT_ID = "sid-123456789";
+    private static final String OTHER_STUDENT_ID = "sid-987654321";
+    private static final String ERROR = "ERROR";
+    private static final int BATCH_SIZE = 10;
+    private static final long LEASE_SECONDS = 60;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long INITIAL_BACKOFF_MILLIS = 1000;
+    private static final long MAX_BACKOFF_MILLIS = 60000;
+    private OutboxService outboxService;
+    private SimpleMeterRegistry meterRegistry;
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        outboxService = new OutboxService(outboxEventRepository, meterRegistry, BATCH_SIZE, LEASE_SECONDS,
+                MAX_ATTEMPTS, INITIAL_BACKOFF_MILLIS, MAX_BACKOFF_MILLIS);
+    }
+
+    /**
+     * Start of tests for enqueue methods
+     */
+    @Test
+    void Should_SavePendingEventKeyedByStudent_When_EnqueuingAddTuitionToStudent() {
+        outboxService.enqueueAddTuitionToStudent(TUITION_ID, STUDENT_ID);
+        OutboxEvent event = captureSavedEvent();
+        assertEquals(OutboxEventType.ADD_TUITION_TO_STUDENT, event.getType());
+        assertEquals(OutboxEventStatusType.PENDING, event.getStatus());
+        assertEquals(STUDENT_ID, event.getAggregateKey());
+        assertEquals(Collections.singletonList(STUDENT_ID), event.getStudentIds());
+        assertEquals(1, meterRegistry.counter("tuition.outbox.events", "type", "ADD_TUITION_TO_STUDENT",
+                "outcome", "enqueued").count());
+    }
+
+    @Test
+    void Should_SavePendingEventPerStudentKeyedByStudent_When_EnqueuingRemoveTuitionFromStudents() {
+        outboxService.enqueueRemoveTuitionFromStudents(TUITION_ID, Arrays.asList(STUDENT_ID, OTHER_STUDENT_ID));
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository, times(2)).save(captor.capture());
+        List<OutboxEvent> events = captor.getAllValues();
+        assertTrue(events.stream().allMatch(event -> event.getType() == OutboxEventType.REMOVE_TUITION_FROM_STUDENTS
+                && TUITION_ID.equals(event.getTuitionId())));
+        assertEquals(STUDENT_ID, events.get(0).getAggregateKey());
+        assertEquals(Collections.singletonList(STUDENT_ID), events.get(0).getStudentIds());
+        assertEquals(OTHER_STUDENT_ID, events.get(1).getAggregateKey());
+        assertEquals(Collections.singletonList(OTHER_STUDENT_ID), events.get(1).getStudentIds());
+    }
+
+    @Test
+    void Should_SavePendingEventWithoutStudents_When_EnqueuingDeletePaymentsByTuitionId() {
+        outboxService.enqueueDeletePaymentsByTuitionId(TUITION_ID);
+        OutboxEvent event = captureSavedEvent();
+        assertEquals(OutboxEventType.DELETE_PAYMENTS_BY_TUITION_ID, event.getType());
+        assertEquals(TUITION_ID, event.getAggregateKey());
+        assertTrue(event.getStudentIds().isEmpty());
+    }
+
+    /**
+     * Start of tests for claimBatch method
+     */
+    @Test
+    void Should_ReturnClaimedEvents_When_ClaimingBatchIsSuccessful() {
+        List<OutboxEvent> events = Arrays.asList(getSampleEvent(1L), getSampleEvent(2L));
+
+        when(outboxEventRepository.findDueIds(eq(OutboxEventStatusType.PENDING), any(Instant.class),
+                any(Pageable.class))).thenReturn(Arrays.asList(1L, 2L));
+        when(outboxEventRepository.claim(anyCollection(), any(), anyString(), any(Instant.class),
+                any(Instant.class))).thenReturn(2);
+        when(outboxEventRepository.findByClaimedByOrderById(anyString())).thenReturn(events);
+        assertEquals(events, outboxService.claimBatch());
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(outboxEventRepository).findDueIds(any(), any(), pageable.capture());
+        assertEquals(BATCH_SIZE, pageable.getValue().getPageSize());
+        ArgumentCaptor<String> claimedBy = ArgumentCaptor.forClass(String.class);
+        verify(outboxEventRepository).claim(eq(Arrays.asList(1L, 2L)), eq(OutboxEventStatusType.PENDING),
+                claimedBy.capture(), any(Instant.class), any(Instant.class));
+        verify(outboxEventRepository).findByClaimedByOrderById(claimedBy.getValue());
+    }
+
+    @Test
+    void Should_ReturnEmptyList_When_ClaimingBatchForNoDueEvent() {
+        when(outboxEventRepository.findDueIds(any(), any(Instant.class), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+        assertTrue(outboxService.claimBatch().isEmpty());
+        verify(outboxEventRepository, never()).claim(anyCollection(), any(), anyString(), any(), any());
+    }
+
+    @Test
+    void Should_ReturnEmptyList_When_ClaimingBatchForEventsClaimedByOtherDispatcher() {
+        when(outboxEventRepository.findDueIds(any(), any(Instant.class), any(Pageable.class)))
+                .thenReturn(Collections.singletonList(1L));
+        when(outboxEventRepository.claim(anyCollection(), any(), anyString(), any(Instant.class),
+                any(Instant.class))).thenReturn(0);
+        assertTrue(outboxService.claimBatch().isEmpty());
+        verify(outboxEventRepository, never()).findByClaimedByOrderById(anyString());
+    }
+
+    /**
+     * Start of tests for claimTuition method
+     */
+    @Test
+    void Should_ReturnClaimedEventsOfTuition_When_ClaimingTuitionIsSuccessful() {
+        List<OutboxEvent> events = Collections.singletonList(getSampleEvent(1L));
+
+        when(outboxEventRepository.findDueIdsByTuitionId(eq(OutboxEventStatusType.PENDING), anyString(),
+                any(Instant.class), any(Pageable.class))).thenReturn(Collections.singletonList(1L));
+        when(outboxEventRepository.claim(anyCollection(), any(), anyString(), any(Instant.class),
+                any(Instant.class))).thenReturn(1);
+        when(outboxEventRepository.findByClaimedByOrderById(anyString())).thenReturn(events);
+        assertEquals(events, outboxService.claimTuition(TUITION_ID));
+        verify(outboxEventRepository).findDueIdsByTuitionId(any(), eq(TUITION_ID), any(), any());
+        verify(outboxEventRepository).claim(eq(Collections.singletonList(1L)), eq(OutboxEventStatusType.PENDING),
+                anyString(), any(Instant.class), any(Instant.class));
+        verify(outboxEventRepository, never()).findDueIds(any(), any(), any());
+    }
+
+    @Test
+    void Should_ReturnEmptyList_When_ClaimingTuitionForNoDueEvent() {
+        when(outboxEventRepository.findDueIdsByTuitionId(any(), anyString(), any(Instant.class),
+                any(Pageable.class))).thenReturn(Collections.emptyList());
+        assertTrue(outboxService.claimTuition(TUITION_ID).isEmpty());
+        verify(outboxEventRepository, never()).claim(anyCollection(), any(), anyString(), any(), any());
+    }
+
+    /**
+     * Start of tests for markDelivered method
+     */
+    @Test
+    void Should_DeleteEvents_When_MarkingEventsDelivered() {
+        outboxService.markDelivered(Arrays.asList(getSampleEvent(1L), getSampleEvent(2L)));
+        verify(outboxEventRepository).deleteByIds(Arrays.asList(1L, 2L));
+        assertEquals(2, meterRegistry.counter("tuition.outbox.events", "type", "DELETE_PAYMENTS_BY_TUITION_ID",
+                "outcome", "delivered").count());
+    }
+
+    @Test
+    void Should_NotDeleteEvents_When_MarkingNoEventDelivered() {
+        outboxService.markDelivered(Collections.emptyList());
+        verifyNoInteractions(outboxEventRepository);
+    }
+
+    /**
+     * Start of tests for markFailed method
+     */
+    @Test
+    void Should_RescheduleEventWithBackOff_When_MarkingEventFailedWithRetryableError() {
+        OutboxEvent event = getSampleEvent(1L);
+        event.setClaimedBy(ERROR);
+        Instant before = Instant.now();
+
+        outboxService.markFailed(event, new IOException(ERROR), true);
+        assertEquals(OutboxEventStatusType.PENDING, event.getStatus());
+        assertEquals(1, event.getAttempts());
+        assertNull(event.getClaimedBy());
+        assertEquals("java.io.IOException: " + ERROR, event.getLastError());
+        assertFalse(event.getNextAttemptAt().isBefore(before.plusMillis(INITIAL_BACKOFF_MILLIS)));
+        assertFalse(event.getNextAttemptAt().isAfter(Instant.now().plusMillis(INITIAL_BACKOFF_MILLIS * 3 / 2 + 1)));
+        verify(outboxEventRepository).save(event);
+        assertEquals(1, meterRegistry.counter("tuition.outbox.events", "type", "DELETE_PAYMENTS_BY_TUITION_ID",
+                "outcome", "retried").count());
+    }
+
+    @Test
+    void Should_GiveUpEvent_When_MarkingEventFailedWithNonRetryableError() {
+        OutboxEvent event = getSampleEvent(1L);
+
+        outboxService.markFailed(event, new IOException(ERROR), false);
+        assertEquals(OutboxEventStatusType.DEAD, event.getStatus());
+        verify(outboxEventRepository).save(event);
+        assertEquals(1, meterRegistry.counter("tuition.outbox.events", "type", "DELETE_PAYMENTS_BY_TUITION_ID",
+                "outcome", "dead").count());
+    }
+
+    @Test
+    void Should_GiveUpEvent_When_MarkingEventFailedForMaxAttempts() {
+        OutboxEvent event = getSampleEvent(1L);
+        event.setAttempts(MAX_ATTEMPTS - 1);
+
+        outboxService.markFailed(event, new IOException(ERROR), true);
+        assertEquals(OutboxEventStatusType.DEAD, event.getStatus());
+        assertEquals(MAX_ATTEMPTS, event.getAttempts());
+    }
+
+    /**
+     * This method returns the event saved by the outbox service
+     *
+     * @return OutboxEvent
+     */
+    private OutboxEvent captureSavedEvent() {
+        ArgumentCaptor<OutboxEvent> event = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(event.capture());
+        assertEquals(TUITION_ID, event.getValue().getTuitionId());
+        return event.getValue();
+    }
+
+    /**
+     * This method returns a sample OutboxEvent
+     *
+     * @param id event id
+     * @return OutboxEvent
+     */
+    private OutboxEvent getSampleEvent(Long id) {
+        OutboxEvent event = new OutboxEvent(OutboxEventType.DELETE_PAYMENTS_BY_TUITION_ID, TUITION_ID, TUITION_ID,
+                null);
+        event.setId(id);
+        return event;
+    }
+}
@@ -1,6 +1,9 @@
 package com.swivel.ignite.tuition.service;
 
 import com.swivel.ignite.tuition.exception.PaymentServiceHttpClientErrorException;
+import com.swivel.ignite.tuition.exception.PaymentServiceUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -27,14 +30,18 @@ class PaymentServiceTest {
     private static final String TOKEN = "Bearer 123456789";
     private static final String BASE_URL = "http://localhost:8083/ignite-payment-service";
     private static final String DELETE_BY_TUITION_ID_URL = "/api/v1/payment/delete/all/tuition/{tuitionId}";
+    private static final String DEPENDENCY_NAME = "payment";
     private PaymentService paymentService;
+    private CircuitBreaker circuitBreaker;
     @Mock
     private RestTemplate restTemplate;
 
     @BeforeEach
     void setUp() {
         initMocks(this);
-        paymentService = new PaymentService(BASE_URL, DELETE_BY_TUITION_ID_URL, restTemplate);
+        circuitBreaker = CircuitBreaker.ofDefaults(DEPENDENCY_NAME);
+        paymentService = new PaymentService(BASE_URL, DELETE_BY_TUITION_ID_URL, restTemplate, circuitBreaker,
+                Bulkhead.ofDefaults(DEPENDENCY_NAME));
     }
 
     /**
@@ -59,6 +66,14 @@ class PaymentServiceTest {
                 exception.getMessage());
     }
 
+    @Test
+    void Should_ThrowPaymentServiceUnavailableException_When_DeletingByTuitionIdForOpenCircuitBreaker() {
+        circuitBreaker.transitionToOpenState();
+        assertThrows(PaymentServiceUnavailableException.class,
+                () -> paymentService.deleteByTuitionId(TUITION_ID, TOKEN));
+        verifyNoInteractions(restTemplate);
+    }
+
     /**
      * This method returns a sample response entity
      *
@@ -0,0 +1,96 @@
+package com.swivel.ignite.tuition.service;
+
+import com.swivel.ignite.tuition.exception.PaymentServiceHttpClientErrorException;
+import com.swivel.ignite.tuition.exception.PaymentServiceUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests {@link ReactivePaymentService} class
+ */
+class ReactivePaymentServiceTest {
+
+    private static final String TOKEN = "Bearer 123456789";
+    private static final String TUITION_ID = "tid-123456789";
+    private static final String BASE_URL = "http://localhost:8080/ignite-payment-service";
+    private static final String DELETE_BY_TUITION_ID_URL = "/api/v1/payment/delete/all/tuition/{tuitionId}";
+    private static final String ERROR_JSON = "{\"message\":\"ERROR\"}";
+    private static final String DEPENDENCY_NAME = "payment";
+    private static final long READ_TIMEOUT_MILLIS = 1000;
+    private final List<ClientRequest> requests = new ArrayList<>();
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        requests.clear();
+        circuitBreaker = CircuitBreaker.ofDefaults(DEPENDENCY_NAME);
+    }
+
+    /**
+     * Start of tests for deleteByTuitionId method
+     */
+    @Test
+    void Should_DeletePaymentsByTuitionId_When_DeletingIsSuccessful() {
+        ReactivePaymentService paymentService = getReactivePaymentService(HttpStatus.OK, "");
+        paymentService.deleteByTuitionId(TUITION_ID, TOKEN).block();
+        assertEquals(HttpMethod.DELETE, requests.get(0).method());
+        assertEquals(BASE_URL + "/api/v1/payment/delete/all/tuition/" + TUITION_ID, requests.get(0).url().toString());
+        assertEquals(TOKEN, requests.get(0).headers().getFirst(HttpHeaders.AUTHORIZATION));
+    }
+
+    @Test
+    void Should_ThrowPaymentServiceHttpClientErrorException_When_DeletingIsFailedWithClientError() {
+        ReactivePaymentService paymentService = getReactivePaymentService(HttpStatus.BAD_REQUEST, ERROR_JSON);
+        Mono<Void> result = paymentService.deleteByTuitionId(TUITION_ID, TOKEN);
+        PaymentServiceHttpClientErrorException exception =
+                assertThrows(PaymentServiceHttpClientErrorException.class, result::block);
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+    }
+
+    @Test
+    void Should_ThrowPaymentServiceUnavailableException_When_DeletingForOpenCircuitBreaker() {
+        ReactivePaymentService paymentService = getReactivePaymentService(HttpStatus.OK, "");
+        circuitBreaker.transitionToOpenState();
+        Mono<Void> result = paymentService.deleteByTuitionId(TUITION_ID, TOKEN);
+        assertThrows(PaymentServiceUnavailableException.class, result::block);
+        assertTrue(requests.isEmpty());
+    }
+
+    /**
+     * This method returns a reactive payment service on a web client that answers every request with the
+     * given response and records the requests
+     *
+     * @param status response status
+     * @param body   response body
+     * @return ReactivePaymentService
+     */
+    private ReactivePaymentService getReactivePaymentService(HttpStatus status, String body) {
+        WebClient webClient = WebClient.builder()
+                .baseUrl(BASE_URL)
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return Mono.just(ClientResponse.create(status)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(body)
+                            .build());
+                })
+                .build();
+        return new ReactivePaymentService(DELETE_BY_TUITION_ID_URL, READ_TIMEOUT_MILLIS, webClient, circuitBreaker,
+                Bulkhead.ofDefaults(DEPENDENCY_NAME));
+    }
+}
@@ -0,0 +1,180 @@
+package com.swivel.ignite.tuition.service;
+
+import com.swivel.ignite.tuition.cache.StudentCache;
+import com.swivel.ignite.tuition.exception.StudentServiceHttpClientErrorException;
+import com.swivel.ignite.tuition.exception.StudentServiceUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * This class tests {@link ReactiveStudentService} class
+ */
+class ReactiveStudentServiceTest {
+
+    private static final String TOKEN = "Bearer 123456789";
+    private static final String STUDENT_ID = "sid-123456789";
+    private static final String TUITION_ID = "tid-123456789";
+    private static final String BASE_URL = "http://localhost:8080/ignite-student-service";
+    private static final String FIND_BY_ID_URL = "/api/v1/student/get/{studentId}";
+    private static final String ADD_TUITION_TO_STUDENT_URL = "/api/v1/student/add/student/{studentId}/tuition/{tuitionId}";
+    private static final String REMOVE_TUITION_FROM_STUDENT_URL = "/api/v1/student/remove/student/{studentId}/tuition/{tuitionId}";
+    private static final String REMOVE_TUITION_FROM_STUDENTS_URL = "/api/v1/student/remove/students/tuition/{tuitionId}";
+    private static final String STUDENT_JSON = "{\"data\":{\"studentId\":\"" + STUDENT_ID + "\"}}";
+    private static final String ERROR_JSON = "{\"message\":\"ERROR\"}";
+    private static final String DEPENDENCY_NAME = "student";
+    private static final long READ_TIMEOUT_MILLIS = 1000;
+    private final List<ClientRequest> requests = new ArrayList<>();
+    private CircuitBreaker circuitBreaker;
+    private StudentCache studentCache;
+
+    @BeforeEach
+    void setUp() {
+        requests.clear();
+        circuitBreaker = CircuitBreaker.of(DEPENDENCY_NAME, CircuitBreakerConfig.custom()
+                .ignoreExceptions(HttpClientErrorException.class)
+                .build());
+        studentCache = mock(StudentCache.class);
+    }
+
+    /**
+     * Start of tests for findById method
+     */
+    @Test
+    void Should_ReturnStudentResponseDto_When_FindingByIdIsSuccessful() {
+        ReactiveStudentService studentService = getReactiveStudentService(HttpStatus.OK, STUDENT_JSON);
+        assertEquals(STUDENT_ID, studentService.findById(STUDENT_ID, TOKEN).block().getStudentId());
+        assertEquals(HttpMethod.GET, requests.get(0).method());
+        assertEquals(BASE_URL + "/api/v1/student/get/" + STUDENT_ID, requests.get(0).url().toString());
+        assertEquals(TOKEN, requests.get(0).headers().getFirst(HttpHeaders.AUTHORIZATION));
+    }
+
+    @Test
+    void Should_ThrowStudentServiceHttpClientErrorException_When_FindingByIdIsFailedWithClientError() {
+        ReactiveStudentService studentService = getReactiveStudentService(HttpStatus.BAD_REQUEST, ERROR_JSON);
+        Mono<?> student = studentService.findById(STUDENT_ID, TOKEN);
+        StudentServiceHttpClientErrorException exception =
+                assertThrows(StudentServiceHttpClientErrorException.class, student::block);
+        assertEquals(HttpStatus.BAD_REQUEST.value() + " Failed to get student by studentId", exception.getMessage());
+        assertEquals(0, circuitBreaker.getMetrics().getNumberOfFailedCalls());
+    }
+
+    @Test
+    void Should_RecordFailure_When_FindingByIdIsFailedWithServerError() {
+        ReactiveStudentService studentService = getReactiveStudentService(HttpStatus.INTERNAL_SERVER_ERROR,
+                ERROR_JSON);
+        Mono<?> student = studentService.findById(STUDENT_ID, TOKEN);
+        assertThrows(WebClientResponseException.class, student::block);
+        assertEquals(1, circuitBreaker.getMetrics().getNumberOfFailedCalls());
+    }
+
+    @Test
+    void Should_ThrowStudentServiceUnavailableException_When_FindingByIdForOpenCircuitBreaker() {
+        ReactiveStudentService studentService = getReactiveStudentService(HttpStatus.OK, STUDENT_JSON);
+        circuitBreaker.transitionToOpenState();
+        Mono<?> student = studentService.findById(STUDENT_ID, TOKEN);
+        assertThrows(StudentServiceUnavailableException.class, student::block);
+        assertTrue(requests.isEmpty());
+    }
+
+    /**
+     * Start of tests for addTuition method
+     */
+    @Test
+    void Should_AddTuitionToStudentAndEvictStudent_When_AddingTuitionIsSuccessful() {
+        ReactiveStudentService studentService = getReactiveStudentService(HttpStatus.OK, "");
+        studentService.addTuition(STUDENT_ID, TUITION_ID, TOKEN).block();
+        assertEquals(HttpMethod.POST, requests.get(0).method());
+        assertEquals(BASE_URL + "/api/v1/student/add/student/" + STUDENT_ID + "/tuition/" + TUITION_ID,
+                requests.get(0).url().toString());
+        verify(studentCache).evict(STUDENT_ID);
+    }
+
+    @Test
+    void Should_EvictStudent_When_AddingTuitionIsFailed() {
+        ReactiveStudentService studentService = getReactiveStudentService(HttpStatus.BAD_REQUEST, ERROR_JSON);
+        Mono<Void> result = studentService.addTuition(STUDENT_ID, TUITION_ID, TOKEN);
+        assertThrows(StudentServiceHttpClientErrorException.class, result::block);
+        verify(studentCache).evict(STUDENT_ID);
+    }
+
+    /**
+     * Start of tests for removeTuition method
+     */
+    @Test
+    void Should_RemoveTuitionFromStudent_When_RemovingTuitionIsSuccessful() {
+        ReactiveStudentService studentService = getReactiveStudentService(HttpStatus.OK, "");
+        studentService.removeTuition(STUDENT_ID, TUITION_ID, TOKEN).block();
+        assertEquals(BASE_URL + "/api/v1/student/remove/student/" + STUDENT_ID + "/tuition/" + TUITION_ID,
+                requests.get(0).url().toString());
+        verify(studentCache).evict(STUDENT_ID);
+    }
+
+    /**
+     * Start of tests for removeTuitionFromStudents method
+     */
+    @Test
+    void Should_RemoveTuitionFromStudentsInOneRequest_When_RemovingTuitionFromStudentsIsSuccessful() {
+        ReactiveStudentService studentService = getReactiveStudentService(HttpStatus.OK, "");
+        studentService.removeTuitionFromStudents(Collections.singletonList(STUDENT_ID), TUITION_ID, TOKEN).block();
+        assertEquals(1, requests.size());
+        assertEquals(HttpMethod.POST, requests.get(0).method());
+        assertEquals(BASE_URL + "/api/v1/student/remove/students/tuition/" + TUITION_ID,
+                requests.get(0).url().toString());
+        verify(studentCache).evict(STUDENT_ID);
+    }
+
+    @Test
+    void Should_ThrowNotFoundClientError_When_BatchEndpointIsNotFound() {
+        ReactiveStudentService studentService = getReactiveStudentService(HttpStatus.NOT_FOUND, ERROR_JSON);
+        Mono<Void> result = studentService.removeTuitionFromStudents(Collections.singletonList(STUDENT_ID),
+                TUITION_ID, TOKEN);
+        StudentServiceHttpClientErrorException exception =
+                assertThrows(StudentServiceHttpClientErrorException.class, result::block);
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+    }
+
+    /**
+     * This method returns a reactive student service on a web client that answers every request with the
+     * given response and records the requests
+     *
+     * @param status response status
+     * @param body   response body
+     * @return ReactiveStudentService
+     */
+    private ReactiveStudentService getReactiveStudentService(HttpStatus status, String body) {
+        WebClient webClient = WebClient.builder()
+                .baseUrl(BASE_URL)
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return Mono.just(ClientResponse.create(status)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(body)
+                            .build());
+                })
+                .build();
+        return new ReactiveStudentService(FIND_BY_ID_URL, ADD_TUITION_TO_STUDENT_URL, REMOVE_TUITION_FROM_STUDENT_URL,
+                REMOVE_TUITION_FROM_STUDENTS_URL, READ_TIMEOUT_MILLIS, webClient, circuitBreaker,
+                Bulkhead.ofDefaults(DEPENDENCY_NAME), studentCache);
+    }
+}
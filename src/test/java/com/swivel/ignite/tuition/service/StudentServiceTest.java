@@ -1,8 +1,14 @@
 package com.swivel.ignite.tuition.service;
 
+import com.swivel.ignite.tuition.cache.StudentCache;
 import com.swivel.ignite.tuition.dto.response.StudentResponseDto;
 import com.swivel.ignite.tuition.exception.StudentServiceHttpClientErrorException;
+import com.swivel.ignite.tuition.exception.StudentServiceUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import com.swivel.ignite.tuition.wrapper.StudentResponseWrapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -14,8 +20,17 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -27,21 +42,35 @@ import static org.mockito.MockitoAnnotations.initMocks;
 class StudentServiceTest {
 
     private static final String TOKEN = "Bearer 123456789";
+    private static final String OTHER_TOKEN = "Bearer 987654321";
+    private static final long CACHE_MAX_SIZE = 100;
+    private static final long CACHE_TTL_SECONDS = 60;
+    private static final String DEPENDENCY_NAME = "student";
+    private static final int MAX_CONCURRENT_CALLS = 1;
     private static final String STUDENT_ID = "sid-123456789";
     private static final String TUITION_ID = "tid-123456789";
     private static final String BASE_URL = "http://localhost:8080/ignite-student-service";
     private static final String FIND_BY_ID_URL = "/api/v1/student/get/{studentId}";
     private static final String ADD_TUITION_TO_STUDENT_URL = "/api/v1/student/add/student/{studentId}/tuition/{tuitionId}";
     private static final String REMOVE_TUITION_FROM_STUDENT_URL = "/api/v1/student/remove/student/{studentId}/tuition/{tuitionId}";
+    private static final String REMOVE_TUITION_FROM_STUDENTS_URL = "/api/v1/student/remove/students/tuition/{tuitionId}";
     private StudentService studentService;
+    private CircuitBreaker circuitBreaker;
+    private Bulkhead bulkhead;
     @Mock
     private RestTemplate restTemplate;
 
     @BeforeEach
     void setUp() {
         initMocks(this);
+        circuitBreaker = CircuitBreaker.ofDefaults(DEPENDENCY_NAME);
+        bulkhead = Bulkhead.of(DEPENDENCY_NAME, BulkheadConfig.custom()
+                .maxConcurrentCalls(MAX_CONCURRENT_CALLS)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
         studentService = new StudentService(BASE_URL, FIND_BY_ID_URL, ADD_TUITION_TO_STUDENT_URL,
-                REMOVE_TUITION_FROM_STUDENT_URL, restTemplate);
+                REMOVE_TUITION_FROM_STUDENT_URL, REMOVE_TUITION_FROM_STUDENTS_URL, restTemplate, circuitBreaker,
+                bulkhead, new StudentCache(CACHE_MAX_SIZE, CACHE_TTL_SECONDS, new SimpleMeterRegistry()));
     }
 
     /**
@@ -65,6 +94,76 @@ class StudentServiceTest {
                 exception.getMessage());
     }
 
+    @Test
+    void Should_ThrowStudentServiceUnavailableException_When_FindingByIdForOpenCircuitBreaker() {
+        circuitBreaker.transitionToOpenState();
+        assertThrows(StudentServiceUnavailableException.class, () -> studentService.findById(STUDENT_ID, TOKEN));
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void Should_ThrowStudentServiceUnavailableException_When_FindingByIdForFullBulkhead() {
+        bulkhead.tryAcquirePermission();
+        assertThrows(StudentServiceUnavailableException.class, () -> studentService.findById(STUDENT_ID, TOKEN));
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void Should_CallStudentServiceOnce_When_FindingSameStudentWithSameTokenTwice() throws IOException {
+        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), any(Class.class),
+                anyMap())).thenReturn(getSampleStudentResponseEntity());
+        StudentResponseDto first = studentService.findById(STUDENT_ID, TOKEN);
+        StudentResponseDto second = studentService.findById(STUDENT_ID, TOKEN);
+        assertNotSame(first, second);
+        assertEquals(STUDENT_ID, second.getStudentId());
+        verify(restTemplate, times(1)).exchange(anyString(), any(HttpMethod.class),
+                any(HttpEntity.class), any(Class.class), anyMap());
+    }
+
+    @Test
+    void Should_CallStudentServiceAgain_When_FindingSameStudentWithOtherToken() throws IOException {
+        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), any(Class.class),
+                anyMap())).thenReturn(getSampleStudentResponseEntity());
+        studentService.findById(STUDENT_ID, TOKEN);
+        studentService.findById(STUDENT_ID, OTHER_TOKEN);
+        verify(restTemplate, times(2)).exchange(anyString(), any(HttpMethod.class),
+                any(HttpEntity.class), any(Class.class), anyMap());
+    }
+
+    @Test
+    void Should_NotCacheFailure_When_FindingByStudentIdIsFailed() throws IOException {
+        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), any(Class.class),
+                anyMap())).thenThrow(new HttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR))
+                .thenReturn(getSampleStudentResponseEntity());
+        assertThrows(StudentServiceHttpClientErrorException.class, () -> studentService.findById(STUDENT_ID, TOKEN));
+        assertEquals(STUDENT_ID, studentService.findById(STUDENT_ID, TOKEN).getStudentId());
+    }
+
+    @Test
+    void Should_ShareOneCall_When_FindingSameStudentConcurrently() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), any(Class.class),
+                anyMap())).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return getSampleStudentResponseEntity();
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<StudentResponseDto> first = executor.submit(() -> studentService.findById(STUDENT_ID, TOKEN));
+            loading.await(5, TimeUnit.SECONDS);
+            Future<StudentResponseDto> second = executor.submit(() -> studentService.findById(STUDENT_ID, TOKEN));
+            release.countDown();
+            assertEquals(STUDENT_ID, first.get(5, TimeUnit.SECONDS).getStudentId());
+            assertEquals(STUDENT_ID, second.get(5, TimeUnit.SECONDS).getStudentId());
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(restTemplate, times(1)).exchange(anyString(), any(HttpMethod.class),
+                any(HttpEntity.class), any(Class.class), anyMap());
+    }
+
     /**
      * Start of tests for addTuition method
      */
@@ -88,6 +187,29 @@ class StudentServiceTest {
                 exception.getMessage());
     }
 
+    @Test
+    void Should_ThrowStudentServiceUnavailableException_When_AddingTuitionForOpenCircuitBreaker() {
+        circuitBreaker.transitionToOpenState();
+        assertThrows(StudentServiceUnavailableException.class, () -> studentService
+                .addTuition(STUDENT_ID, TUITION_ID, TOKEN));
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void Should_EvictStudent_When_AddingTuition() throws IOException {
+        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class),
+                eq(StudentResponseWrapper.class), anyMap())).thenReturn(getSampleStudentResponseEntity());
+        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), eq(String.class),
+                anyMap())).thenReturn(getSampleResponseEntity());
+        studentService.findById(STUDENT_ID, TOKEN);
+        studentService.findById(STUDENT_ID, OTHER_TOKEN);
+        studentService.addTuition(STUDENT_ID, TUITION_ID, TOKEN);
+        studentService.findById(STUDENT_ID, TOKEN);
+        studentService.findById(STUDENT_ID, OTHER_TOKEN);
+        verify(restTemplate, times(4)).exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class),
+                eq(StudentResponseWrapper.class), anyMap());
+    }
+
     /**
      * Start of tests for removeTuition method
      */
@@ -111,6 +233,45 @@ class StudentServiceTest {
                 exception.getMessage());
     }
 
+    @Test
+    void Should_EvictStudent_When_RemovingTuitionIsFailed() throws IOException {
+        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class),
+                eq(StudentResponseWrapper.class), anyMap())).thenReturn(getSampleStudentResponseEntity());
+        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), eq(String.class),
+                anyMap())).thenThrow(new HttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+        studentService.findById(STUDENT_ID, TOKEN);
+        assertThrows(StudentServiceHttpClientErrorException.class, () -> studentService
+                .removeTuition(STUDENT_ID, TUITION_ID, TOKEN));
+        studentService.findById(STUDENT_ID, TOKEN);
+        verify(restTemplate, times(2)).exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class),
+                eq(StudentResponseWrapper.class), anyMap());
+    }
+
+    /**
+     * Start of tests for removeTuitionFromStudents method
+     */
+    @Test
+    void Should_RemoveTuitionFromStudentsInOneRequest_When_RemovingTuitionFromStudentsIsSuccessful()
+            throws IOException {
+        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), any(Class.class),
+                anyMap())).thenReturn(getSampleResponseEntity());
+        studentService.removeTuitionFromStudents(Collections.singletonList(STUDENT_ID), TUITION_ID, TOKEN);
+        verify(restTemplate, times(1)).exchange(eq(BASE_URL + REMOVE_TUITION_FROM_STUDENTS_URL),
+                eq(HttpMethod.POST), any(HttpEntity.class), any(Class.class), anyMap());
+    }
+
+    @Test
+    void Should_ThrowStudentServiceHttpClientErrorException_When_RemovingTuitionFromStudentsIsFailed() {
+        List<String> studentIds = Collections.singletonList(STUDENT_ID);
+
+        when(restTemplate.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), any(Class.class),
+                anyMap())).thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+        StudentServiceHttpClientErrorException exception =
+                assertThrows(StudentServiceHttpClientErrorException.class, () -> studentService
+                        .removeTuitionFromStudents(studentIds, TUITION_ID, TOKEN));
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+    }
+
     /**
      * This method returns a sample ResponseEntity
      *
@@ -0,0 +1,247 @@
+package com.swivel.ignite.tuition.service;
+
+import com.swivel.ignite.tuition.exception.StudentServiceHttpClientErrorException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+/**
+ * This class tests {@link StudentUnlinkService} class
+ */
+class StudentUnlinkServiceTest {
+
+    private static final String TOKEN = "Bearer 123456789";
+    private static final String TUITION_ID = "tid-0183f1a2-6c3d-7e4f-8a9b-0c1d2e3f4a5b";
+    private static final String STUDENT_ID_1 = "sid-1";
+    private static final String STUDENT_ID_2 = "sid-2";
+    private static final String STUDENT_ID_3 = "sid-3";
+    private static final String ERROR = "ERROR";
+    private static final int THREADS = 3;
+    private static final int BATCH_SIZE = 2;
+    private static final long BATCH_TIMEOUT_MILLIS = 200;
+    private StudentUnlinkService studentUnlinkService;
+    private ExecutorService executor;
+    @Mock
+    private StudentService studentService;
+    @Mock
+    private ReactiveStudentService reactiveStudentService;
+
+    @BeforeEach
+    void setUp() {
+        initMocks(this);
+        executor = Executors.newFixedThreadPool(THREADS);
+        studentUnlinkService = new StudentUnlinkService(studentService, reactiveStudentService, executor, THREADS,
+                BATCH_SIZE, BATCH_TIMEOUT_MILLIS);
+        when(reactiveStudentService.removeTuitionFromStudents(anyList(), anyString(), anyString()))
+                .thenReturn(Mono.empty());
+        when(reactiveStudentService.removeTuition(anyString(), anyString(), anyString())).thenReturn(Mono.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void Should_RemoveTuitionWithBatchRequests_When_RemovingTuitionIsSuccessful() throws IOException {
+        Map<String, Throwable> failures = studentUnlinkService.removeTuition(TUITION_ID, getSampleStudentIds(),
+                TOKEN);
+        assertTrue(failures.isEmpty());
+        verify(studentService).removeTuitionFromStudents(Arrays.asList(STUDENT_ID_1, STUDENT_ID_2), TUITION_ID,
+                TOKEN);
+        verify(studentService).removeTuitionFromStudents(Collections.singletonList(STUDENT_ID_3), TUITION_ID,
+                TOKEN);
+        verify(studentService, never()).removeTuition(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void Should_FailAllStudentsOfBatch_When_BatchRequestIsFailed() throws IOException {
+        doThrow(new StudentServiceHttpClientErrorException(HttpStatus.BAD_REQUEST, ERROR)).when(studentService)
+                .removeTuitionFromStudents(eq(Arrays.asList(STUDENT_ID_1, STUDENT_ID_2)), anyString(), anyString());
+        Map<String, Throwable> failures = studentUnlinkService.removeTuition(TUITION_ID, getSampleStudentIds(),
+                TOKEN);
+        assertEquals(Arrays.asList(STUDENT_ID_1, STUDENT_ID_2), new ArrayList<>(failures.keySet()));
+        verify(studentService, never()).removeTuition(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void Should_RemoveTuitionFromAllStudents_When_BatchEndpointIsNotFound() throws IOException {
+        givenBatchEndpointNotFound();
+        Map<String, Throwable> failures = studentUnlinkService.removeTuition(TUITION_ID, getSampleStudentIds(),
+                TOKEN);
+        assertTrue(failures.isEmpty());
+        verify(studentService).removeTuition(STUDENT_ID_1, TUITION_ID, TOKEN);
+        verify(studentService).removeTuition(STUDENT_ID_2, TUITION_ID, TOKEN);
+        verify(studentService).removeTuition(STUDENT_ID_3, TUITION_ID, TOKEN);
+    }
+
+    @Test
+    void Should_ReturnAllFailures_When_RemovingTuitionIsFailedForSomeStudents() throws IOException {
+        givenBatchEndpointNotFound();
+        doThrow(new IOException(ERROR)).when(studentService).removeTuition(eq(STUDENT_ID_1), anyString(),
+                anyString());
+        doThrow(new IllegalStateException(ERROR)).when(studentService).removeTuition(eq(STUDENT_ID_3), anyString(),
+                anyString());
+        Map<String, Throwable> failures = studentUnlinkService.removeTuition(TUITION_ID, getSampleStudentIds(),
+                TOKEN);
+        assertEquals(2, failures.size());
+        assertEquals(ERROR, failures.get(STUDENT_ID_1).getCause().getMessage());
+        assertTrue(failures.get(STUDENT_ID_3) instanceof IllegalStateException);
+        verify(studentService).removeTuition(STUDENT_ID_2, TUITION_ID, TOKEN);
+    }
+
+    @Test
+    void Should_ReturnTimeoutFailure_When_RemovingTuitionTakesLongerThanBatchTimeout() throws IOException {
+        givenBatchEndpointNotFound();
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).when(studentService).removeTuition(eq(STUDENT_ID_2), anyString(), anyString());
+        try {
+            Map<String, Throwable> failures = studentUnlinkService.removeTuition(TUITION_ID, getSampleStudentIds(),
+                    TOKEN);
+            assertEquals(1, failures.size());
+            assertTrue(failures.get(STUDENT_ID_2) instanceof TimeoutException);
+            verify(studentService).removeTuition(STUDENT_ID_3, TUITION_ID, TOKEN);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    /**
+     * Start of tests for removeTuitionAsync method
+     */
+    @Test
+    void Should_RemoveTuitionWithBatchRequests_When_RemovingTuitionAsyncIsSuccessful() {
+        Map<String, Throwable> failures = studentUnlinkService.removeTuitionAsync(TUITION_ID, getSampleStudentIds(),
+                TOKEN).block();
+        assertTrue(failures.isEmpty());
+        verify(reactiveStudentService).removeTuitionFromStudents(Arrays.asList(STUDENT_ID_1, STUDENT_ID_2),
+                TUITION_ID, TOKEN);
+        verify(reactiveStudentService).removeTuitionFromStudents(Collections.singletonList(STUDENT_ID_3),
+                TUITION_ID, TOKEN);
+        verify(reactiveStudentService, never()).removeTuition(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void Should_FailAllStudentsOfBatch_When_BatchRequestAsyncIsFailed() {
+        when(reactiveStudentService.removeTuitionFromStudents(eq(Arrays.asList(STUDENT_ID_1, STUDENT_ID_2)),
+                anyString(), anyString()))
+                .thenReturn(Mono.error(new StudentServiceHttpClientErrorException(HttpStatus.BAD_REQUEST, ERROR)));
+        Map<String, Throwable> failures = studentUnlinkService.removeTuitionAsync(TUITION_ID, getSampleStudentIds(),
+                TOKEN).block();
+        assertEquals(Arrays.asList(STUDENT_ID_1, STUDENT_ID_2), new ArrayList<>(failures.keySet()));
+        verify(reactiveStudentService, never()).removeTuition(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void Should_ReturnFailuresOfStudents_When_BatchEndpointIsNotFoundAsync() {
+        when(reactiveStudentService.removeTuitionFromStudents(anyList(), anyString(), anyString()))
+                .thenReturn(Mono.error(new StudentServiceHttpClientErrorException(HttpStatus.NOT_FOUND, ERROR)));
+        when(reactiveStudentService.removeTuition(eq(STUDENT_ID_3), anyString(), anyString()))
+                .thenReturn(Mono.error(new IllegalStateException(ERROR)));
+        Map<String, Throwable> failures = studentUnlinkService.removeTuitionAsync(TUITION_ID, getSampleStudentIds(),
+                TOKEN).block();
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(STUDENT_ID_3) instanceof IllegalStateException);
+        verify(reactiveStudentService, times(1)).removeTuitionFromStudents(anyList(), anyString(), anyString());
+        verify(reactiveStudentService).removeTuition(STUDENT_ID_1, TUITION_ID, TOKEN);
+        verify(reactiveStudentService).removeTuition(STUDENT_ID_2, TUITION_ID, TOKEN);
+    }
+
+    @Test
+    void Should_ReturnTimeoutFailure_When_RemovingTuitionAsyncTakesLongerThanBatchTimeout() {
+        when(reactiveStudentService.removeTuitionFromStudents(anyList(), anyString(), anyString()))
+                .thenReturn(Mono.error(new StudentServiceHttpClientErrorException(HttpStatus.NOT_FOUND, ERROR)));
+        when(reactiveStudentService.removeTuition(eq(STUDENT_ID_2), anyString(), anyString()))
+                .thenReturn(Mono.never());
+        Map<String, Throwable> failures = studentUnlinkService.removeTuitionAsync(TUITION_ID, getSampleStudentIds(),
+                TOKEN).block();
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(STUDENT_ID_2) instanceof TimeoutException);
+        verify(reactiveStudentService).removeTuition(STUDENT_ID_3, TUITION_ID, TOKEN);
+    }
+
+    @Test
+    void Should_ReturnFailuresOfEveryBatch_When_RemovingTuitionAsyncIsFailedInSeveralBatches() {
+        StudentServiceHttpClientErrorException batchError = new StudentServiceHttpClientErrorException(
+                HttpStatus.BAD_REQUEST, ERROR);
+        IllegalStateException studentError = new IllegalStateException(ERROR);
+        when(reactiveStudentService.removeTuitionFromStudents(eq(Arrays.asList(STUDENT_ID_1, STUDENT_ID_2)),
+                anyString(), anyString())).thenReturn(Mono.error(batchError));
+        when(reactiveStudentService.removeTuitionFromStudents(eq(Collections.singletonList(STUDENT_ID_3)),
+                anyString(), anyString())).thenReturn(Mono.error(studentError));
+        Map<String, Throwable> failures = studentUnlinkService.removeTuitionAsync(TUITION_ID, getSampleStudentIds(),
+                TOKEN).block();
+        assertEquals(getSampleStudentIds(), new ArrayList<>(failures.keySet()));
+        assertSame(batchError, failures.get(STUDENT_ID_1));
+        assertSame(batchError, failures.get(STUDENT_ID_2));
+        assertSame(studentError, failures.get(STUDENT_ID_3));
+    }
+
+    @Test
+    void Should_RemoveTuitionFromAtMostConcurrencyStudentsAtATime_When_RemovingTuitionAsyncStudentByStudent() {
+        int concurrency = 2;
+        List<String> studentIds = Arrays.asList(STUDENT_ID_1, STUDENT_ID_2, STUDENT_ID_3, "sid-4", "sid-5");
+        studentUnlinkService = new StudentUnlinkService(studentService, reactiveStudentService, executor, concurrency,
+                studentIds.size(), BATCH_TIMEOUT_MILLIS * 10);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(reactiveStudentService.removeTuitionFromStudents(anyList(), anyString(), anyString()))
+                .thenReturn(Mono.error(new StudentServiceHttpClientErrorException(HttpStatus.NOT_FOUND, ERROR)));
+        when(reactiveStudentService.removeTuition(anyString(), anyString(), anyString()))
+                .thenAnswer(invocation -> Mono.defer(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    return Mono.delay(Duration.ofMillis(20)).then();
+                }).doOnTerminate(running::decrementAndGet));
+        Map<String, Throwable> failures = studentUnlinkService.removeTuitionAsync(TUITION_ID, studentIds, TOKEN)
+                .block();
+        assertTrue(failures.isEmpty());
+        assertEquals(concurrency, maxRunning.get());
+        verify(reactiveStudentService, times(studentIds.size())).removeTuition(anyString(), eq(TUITION_ID),
+                eq(TOKEN));
+    }
+
+    /**
+     * This method makes the student service respond with 404 to batch requests
+     *
+     * @throws IOException
+     */
+    private void givenBatchEndpointNotFound() throws IOException {
+        doThrow(new StudentServiceHttpClientErrorException(HttpStatus.NOT_FOUND, ERROR)).when(studentService)
+                .removeTuitionFromStudents(anyList(), anyString(), anyString());
+    }
+
+    /**
+     * This method returns sample student ids (two batches)
+     *
+     * @return student ids
+     */
+    private List<String> getSampleStudentIds() {
+        return Arrays.asList(STUDENT_ID_1, STUDENT_ID_2, STUDENT_ID_3);
+    }
+}
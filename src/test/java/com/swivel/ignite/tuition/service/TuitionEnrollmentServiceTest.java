@@ -0,0 +1,227 @@
+package com.swivel.ignite.tuition.service;
+
+import com.swivel.ignite.tuition.dto.response.StudentResponseDto;
+import com.swivel.ignite.tuition.dto.response.TuitionStudentBulkResultDto;
+import com.swivel.ignite.tuition.entity.Tuition;
+import com.swivel.ignite.tuition.enums.BulkItemStatusType;
+import com.swivel.ignite.tuition.exception.StudentAlreadyEnrolledException;
+import com.swivel.ignite.tuition.exception.StudentServiceHttpClientErrorException;
+import com.swivel.ignite.tuition.exception.TuitionServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+/**
+ * This class tests {@link TuitionEnrollmentService} class
+ */
+class TuitionEnrollmentServiceTest {
+
+    private static final String TOKEN = "Bearer 123456789";
+    private static final String TUITION_ID = "tid-0183f1a2-6c3d-7e4f-8a9b-0c1d2e3f4a5b";
+    private static final String OTHER_TUITION_ID = "tid-0183f1a2-6c3d-7e4f-8a9b-0c1d2e3f4a5c";
+    private static final String STUDENT_ID_1 = "sid-1";
+    private static final String STUDENT_ID_2 = "sid-2";
+    private static final String STUDENT_ID_3 = "sid-3";
+    private static final String ENROLLED_STUDENT_ID = "sid-4";
+    private static final String ERROR = "ERROR";
+    private static final int THREADS = 3;
+    private static final long LOOKUP_TIMEOUT_MILLIS = 200;
+    private TuitionEnrollmentService tuitionEnrollmentService;
+    private ExecutorService executor;
+    @Mock
+    private TuitionService tuitionService;
+    @Mock
+    private StudentService studentService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        initMocks(this);
+        executor = Executors.newFixedThreadPool(THREADS);
+        tuitionEnrollmentService = new TuitionEnrollmentService(tuitionService, studentService, executor,
+                LOOKUP_TIMEOUT_MILLIS);
+        when(studentService.findById(anyString(), anyString()))
+                .thenAnswer(invocation -> getSampleStudentResponseDto(invocation.getArgument(0), null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Start of tests for addStudents method
+     */
+    @Test
+    void Should_EnrollAllStudentsTogether_When_AddingStudentsIsSuccessful() throws IOException {
+        List<TuitionStudentBulkResultDto> results = tuitionEnrollmentService.addStudents(getSampleTuition(),
+                Arrays.asList(STUDENT_ID_1, STUDENT_ID_2), TOKEN);
+
+        assertEquals(BulkItemStatusType.ENROLLED, results.get(0).getStatus());
+        assertEquals(BulkItemStatusType.ENROLLED, results.get(1).getStatus());
+        assertEquals(STUDENT_ID_2, results.get(1).getStudentId());
+        assertEquals(1, results.get(1).getIndex());
+        verify(tuitionService).addStudentsToTuition(eq(new LinkedHashSet<>(Arrays.asList(STUDENT_ID_1,
+                STUDENT_ID_2))), any(Tuition.class));
+    }
+
+    @Test
+    void Should_SkipStudentsWithoutLookup_When_AddingStudentsForDuplicatedAndEnrolledStudents() throws IOException {
+        List<TuitionStudentBulkResultDto> results = tuitionEnrollmentService.addStudents(getSampleTuition(),
+                Arrays.asList(STUDENT_ID_1, STUDENT_ID_1, ENROLLED_STUDENT_ID), TOKEN);
+
+        assertEquals(BulkItemStatusType.ENROLLED, results.get(0).getStatus());
+        assertEquals(BulkItemStatusType.DUPLICATE_IN_REQUEST, results.get(1).getStatus());
+        assertEquals(BulkItemStatusType.ALREADY_ENROLLED, results.get(2).getStatus());
+        verify(studentService).findById(STUDENT_ID_1, TOKEN);
+        verify(studentService, never()).findById(eq(ENROLLED_STUDENT_ID), anyString());
+        verify(tuitionService).addStudentsToTuition(eq(Collections.singleton(STUDENT_ID_1)), any(Tuition.class));
+    }
+
+    @Test
+    void Should_ReportPerStudentOutcomes_When_AddingStudentsForInvalidStudents() throws IOException {
+        when(studentService.findById(STUDENT_ID_2, TOKEN))
+                .thenThrow(new StudentServiceHttpClientErrorException(HttpStatus.NOT_FOUND, ERROR));
+        when(tuitionService.addStudentsToTuition(anyCollection(), any(Tuition.class)))
+                .thenReturn(Collections.singleton(STUDENT_ID_3));
+
+        List<TuitionStudentBulkResultDto> results = tuitionEnrollmentService.addStudents(getSampleTuition(),
+                Arrays.asList(STUDENT_ID_1, STUDENT_ID_2, STUDENT_ID_3), TOKEN);
+
+        assertEquals(BulkItemStatusType.ENROLLED, results.get(0).getStatus());
+        assertEquals(BulkItemStatusType.STUDENT_NOT_FOUND, results.get(1).getStatus());
+        assertEquals(BulkItemStatusType.ALREADY_ENROLLED, results.get(2).getStatus());
+        verify(tuitionService).addStudentsToTuition(eq(new LinkedHashSet<>(Arrays.asList(STUDENT_ID_1,
+                STUDENT_ID_3))), any(Tuition.class));
+    }
+
+    @Test
+    void Should_EnrollStudent_When_AddingStudentsForTuitionIdNotYetRemovedInStudentMicroservice() throws IOException {
+        when(studentService.findById(STUDENT_ID_1, TOKEN))
+                .thenReturn(getSampleStudentResponseDto(STUDENT_ID_1, OTHER_TUITION_ID));
+
+        List<TuitionStudentBulkResultDto> results = tuitionEnrollmentService.addStudents(getSampleTuition(),
+                Collections.singletonList(STUDENT_ID_1), TOKEN);
+
+        assertEquals(BulkItemStatusType.ENROLLED, results.get(0).getStatus());
+    }
+
+    @Test
+    void Should_FallBackToSingleEnrollments_When_AddingStudentsForConcurrentEnrollment() throws IOException {
+        when(tuitionService.addStudentsToTuition(anyCollection(), any(Tuition.class)))
+                .thenThrow(new StudentAlreadyEnrolledException(ERROR));
+        when(tuitionService.addStudentToTuition(argThat(student -> STUDENT_ID_2.equals(student.getStudentId())),
+                any(Tuition.class))).thenThrow(new StudentAlreadyEnrolledException(ERROR));
+
+        List<TuitionStudentBulkResultDto> results = tuitionEnrollmentService.addStudents(getSampleTuition(),
+                Arrays.asList(STUDENT_ID_1, STUDENT_ID_2), TOKEN);
+
+        assertEquals(BulkItemStatusType.ENROLLED, results.get(0).getStatus());
+        assertEquals(BulkItemStatusType.ALREADY_ENROLLED, results.get(1).getStatus());
+        verify(tuitionService, times(2)).addStudentToTuition(any(StudentResponseDto.class), any(Tuition.class));
+    }
+
+    @Test
+    void Should_LookUpStudentsInParallel_When_AddingStudents() throws IOException {
+        CountDownLatch allStarted = new CountDownLatch(THREADS);
+        when(studentService.findById(anyString(), anyString())).thenAnswer(invocation -> {
+            allStarted.countDown();
+            allStarted.await();
+            return getSampleStudentResponseDto(invocation.getArgument(0), null);
+        });
+
+        List<TuitionStudentBulkResultDto> results = tuitionEnrollmentService.addStudents(getSampleTuition(),
+                Arrays.asList(STUDENT_ID_1, STUDENT_ID_2, STUDENT_ID_3), TOKEN);
+
+        assertTrue(results.stream().allMatch(result -> result.getStatus() == BulkItemStatusType.ENROLLED));
+    }
+
+    @Test
+    void Should_FailTimedOutStudents_When_AddingStudentsForSlowLookup() throws IOException {
+        CountDownLatch release = new CountDownLatch(1);
+        when(studentService.findById(STUDENT_ID_2, TOKEN)).thenAnswer(invocation -> {
+            release.await();
+            return getSampleStudentResponseDto(STUDENT_ID_2, null);
+        });
+
+        List<TuitionStudentBulkResultDto> results = tuitionEnrollmentService.addStudents(getSampleTuition(),
+                Arrays.asList(STUDENT_ID_1, STUDENT_ID_2), TOKEN);
+        release.countDown();
+
+        assertEquals(BulkItemStatusType.ENROLLED, results.get(0).getStatus());
+        assertEquals(BulkItemStatusType.FAILED, results.get(1).getStatus());
+    }
+
+    @Test
+    void Should_ThrowTuitionServiceException_When_AddingStudentsIsFailed() {
+        Tuition tuition = getSampleTuition();
+        List<String> studentIds = Collections.singletonList(STUDENT_ID_1);
+
+        doThrow(new TuitionServiceException(ERROR)).when(tuitionService)
+                .addStudentsToTuition(anyCollection(), any(Tuition.class));
+        assertThrows(TuitionServiceException.class, () -> tuitionEnrollmentService.addStudents(tuition,
+                studentIds, TOKEN));
+    }
+
+    /**
+     * Start of tests for removeStudents method
+     */
+    @Test
+    void Should_RemoveEnrolledStudentsTogether_When_RemovingStudents() {
+        List<TuitionStudentBulkResultDto> results = tuitionEnrollmentService.removeStudents(getSampleTuition(),
+                Arrays.asList(ENROLLED_STUDENT_ID, STUDENT_ID_1, ENROLLED_STUDENT_ID));
+
+        assertEquals(BulkItemStatusType.REMOVED, results.get(0).getStatus());
+        assertEquals(BulkItemStatusType.NOT_ENROLLED, results.get(1).getStatus());
+        assertEquals(BulkItemStatusType.DUPLICATE_IN_REQUEST, results.get(2).getStatus());
+        verify(tuitionService).removeStudentsFromTuition(
+                eq(new LinkedHashSet<>(Collections.singletonList(ENROLLED_STUDENT_ID))), any(Tuition.class));
+        verifyNoInteractions(studentService);
+    }
+
+    @Test
+    void Should_ThrowTuitionServiceException_When_RemovingStudentsIsFailed() {
+        Tuition tuition = getSampleTuition();
+        List<String> studentIds = Collections.singletonList(ENROLLED_STUDENT_ID);
+
+        doThrow(new TuitionServiceException(ERROR)).when(tuitionService)
+                .removeStudentsFromTuition(anyCollection(), any(Tuition.class));
+        assertThrows(TuitionServiceException.class, () -> tuitionEnrollmentService.removeStudents(tuition,
+                studentIds));
+    }
+
+    /**
+     * This method returns a sample tuition with one enrolled student
+     *
+     * @return Tuition
+     */
+    private Tuition getSampleTuition() {
+        Tuition tuition = new Tuition();
+        tuition.setId(TUITION_ID);
+        tuition.setStudentIds(new HashSet<>(Collections.singletonList(ENROLLED_STUDENT_ID)));
+        return tuition;
+    }
+
+    /**
+     * This method returns a sample StudentResponseDto
+     *
+     * @param studentId student id
+     * @param tuitionId tuition id of the student
+     * @return StudentResponseDto
+     */
+    private StudentResponseDto getSampleStudentResponseDto(String studentId, String tuitionId) {
+        return new StudentResponseDto(studentId, "Mohamed Nawaz", tuitionId, null);
+    }
+}
@@ -1,22 +1,49 @@
 package com.swivel.ignite.tuition.service;
 
+import com.swivel.ignite.tuition.cache.TuitionCache;
+import com.swivel.ignite.tuition.cache.TuitionVersions;
+import com.swivel.ignite.tuition.dto.request.TuitionCreateRequestDto;
 import com.swivel.ignite.tuition.dto.response.StudentResponseDto;
+import com.swivel.ignite.tuition.dto.response.TuitionBulkCreateResultDto;
+import com.swivel.ignite.tuition.entity.Enrollment;
 import com.swivel.ignite.tuition.entity.Tuition;
+import com.swivel.ignite.tuition.enums.BulkItemStatusType;
+import com.swivel.ignite.tuition.exception.StudentAlreadyEnrolledException;
+import com.swivel.ignite.tuition.exception.StudentNotEnrolledException;
 import com.swivel.ignite.tuition.exception.TuitionAlreadyExistsException;
 import com.swivel.ignite.tuition.exception.TuitionNotFoundException;
 import com.swivel.ignite.tuition.exception.TuitionServiceException;
+import com.swivel.ignite.tuition.repository.EnrollmentRepository;
 import com.swivel.ignite.tuition.repository.TuitionRepository;
+import com.swivel.ignite.tuition.repository.TuitionSummary;
+import com.swivel.ignite.tuition.util.TuitionId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.Mock;
+import org.springframework.dao.CannotAcquireLockException;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.CompletionException;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.initMocks;
 
@@ -25,24 +52,50 @@ import static org.mockito.MockitoAnnotations.initMocks;
  */
 class TuitionServiceTest {
 
-    private static final String TOKEN = "Bearer 123456789";
-    private static final String TUITION_ID = "tid-123456789";
+    private static final String TUITION_ID = "tid-0183f1a2-6c3d-7e4f-8a9b-0c1d2e3f4a5b";
+    private static final String OTHER_TUITION_ID = "tid-0183f1a2-6c3d-7e4f-8a9b-0c1d2e3f4a5c";
+    private static final String MALFORMED_TUITION_ID = "tid-123456789";
     private static final String STUDENT_ID = "sid-123456789";
     private static final String TUITION_NAME = "Perera Tuition";
+    private static final String EXISTING_TUITION_NAME = "Silva Tuition";
+    private static final String TUITION_LOCATION = "Nittambuwa";
     private static final String STUDENT_NAME = "Mohamed Nawaz";
     private static final String ERROR = "ERROR";
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final long CACHE_MAX_SIZE = 100;
+    private static final long CACHE_TTL_SECONDS = 60;
+    private static final int EXPORT_FETCH_SIZE = 500;
+    private static final int ENROLLMENT_MAX_ATTEMPTS = 3;
+    private static final long ENROLLMENT_RETRY_BACKOFF_MILLIS = 0;
+    private static final long VERSION = 1;
     private TuitionService tuitionService;
     @Mock
-    private StudentService studentService;
+    private OutboxService outboxService;
     @Mock
-    private PaymentService paymentService;
+    private OutboxDispatcher outboxDispatcher;
     @Mock
     private TuitionRepository tuitionRepository;
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
         initMocks(this);
-        tuitionService = new TuitionService(tuitionRepository, studentService, paymentService);
+        meterRegistry = new SimpleMeterRegistry();
+        TuitionCache tuitionCache = new TuitionCache(CACHE_MAX_SIZE, CACHE_TTL_SECONDS, meterRegistry);
+        TuitionVersions tuitionVersions = new TuitionVersions(CACHE_MAX_SIZE, CACHE_TTL_SECONDS);
+        tuitionService = new TuitionService(tuitionRepository, enrollmentRepository, outboxService, outboxDispatcher,
+                tuitionCache, tuitionVersions, new TransactionTemplate(transactionManager), meterRegistry,
+                DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE, EXPORT_FETCH_SIZE, ENROLLMENT_MAX_ATTEMPTS,
+                ENROLLMENT_RETRY_BACKOFF_MILLIS);
+        when(tuitionRepository.incrementVersion(anyString(), any())).thenReturn(1);
+        when(tuitionRepository.findVersionById(anyString())).thenReturn(Optional.of(VERSION + 1));
+        when(enrollmentRepository.deleteEnrollment(anyString(), any())).thenReturn(1);
+        when(outboxDispatcher.dispatchTuition(anyString())).thenReturn(Mono.empty());
     }
 
     /**
@@ -50,44 +103,99 @@ class TuitionServiceTest {
      */
     @Test
     void Should_CreateTuition_When_CreatingTuitionIsSuccessful() {
-        when(tuitionRepository.findByName(anyString())).thenReturn(Optional.empty());
         tuitionService.createTuition(getSampleTuition());
-        verify(tuitionRepository).save(any(Tuition.class));
+        verify(tuitionRepository).saveAndFlush(any(Tuition.class));
     }
 
     @Test
-    void Should_ThrowRegistrationServiceException_When_CreatingTuitionForFailedToCheckForTuitionInDB() {
+    void Should_ThrowTuitionAlreadyExistsException_When_CreatingTuitionForTuitionAlreadyExists() {
         Tuition tuition = getSampleTuition();
 
-        when(tuitionRepository.findByName(anyString())).thenThrow(new DataAccessException(ERROR) {
-        });
-        TuitionServiceException exception = assertThrows(TuitionServiceException.class, () ->
+        when(tuitionRepository.saveAndFlush(any(Tuition.class))).thenThrow(new DataIntegrityViolationException(ERROR,
+                new ConstraintViolationException(ERROR, new SQLException(ERROR),
+                        "tuition." + Tuition.NAME_KEY_CONSTRAINT)));
+        TuitionAlreadyExistsException exception = assertThrows(TuitionAlreadyExistsException.class, () ->
                 tuitionService.createTuition(tuition));
-        assertEquals("Failed to check for tuition existence in DB for name: " + TUITION_NAME, exception.getMessage());
+        assertEquals("Tuition already exists in DB", exception.getMessage());
     }
 
     @Test
-    void Should_ThrowTuitionAlreadyExistsException_When_CreatingTuitionForTuitionAlreadyExists() {
+    void Should_ThrowTuitionServiceException_When_CreatingTuitionForOtherConstraintViolation() {
         Tuition tuition = getSampleTuition();
 
-        when(tuitionRepository.findByName(anyString())).thenReturn(Optional.of(getSampleTuition()));
-        TuitionAlreadyExistsException exception = assertThrows(TuitionAlreadyExistsException.class, () ->
+        when(tuitionRepository.saveAndFlush(any(Tuition.class))).thenThrow(new DataIntegrityViolationException(ERROR,
+                new ConstraintViolationException(ERROR, new SQLException(ERROR), "PRIMARY")));
+        TuitionServiceException exception = assertThrows(TuitionServiceException.class, () ->
                 tuitionService.createTuition(tuition));
-        assertEquals("Tuition already exists in DB", exception.getMessage());
+        assertEquals("Failed to save tuition to DB for tuition id: {}" + TUITION_ID, exception.getMessage());
     }
 
     @Test
     void Should_ThrowRegistrationServiceException_When_CreatingTuitionIsFailed() {
         Tuition tuition = getSampleTuition();
 
-        when(tuitionRepository.findByName(anyString())).thenReturn(Optional.empty());
         doThrow(new DataAccessException(ERROR) {
-        }).when(tuitionRepository).save(any(Tuition.class));
+        }).when(tuitionRepository).saveAndFlush(any(Tuition.class));
         TuitionServiceException exception = assertThrows(TuitionServiceException.class, () ->
                 tuitionService.createTuition(tuition));
         assertEquals("Failed to save tuition to DB for tuition id: {}" + TUITION_ID, exception.getMessage());
     }
 
+    /**
+     * Start of test for createTuitions method
+     */
+    @Test
+    void Should_ReturnPerItemResults_When_CreatingTuitionListIsSuccessful() {
+        List<TuitionCreateRequestDto> requestDtoList = new ArrayList<>();
+        requestDtoList.add(getSampleTuitionCreateRequestDto(TUITION_NAME));
+        requestDtoList.add(getSampleTuitionCreateRequestDto("  perera   TUITION "));
+        requestDtoList.add(getSampleTuitionCreateRequestDto(""));
+        requestDtoList.add(getSampleTuitionCreateRequestDto(EXISTING_TUITION_NAME));
+
+        when(tuitionRepository.findExistingNameKeys(anyCollection()))
+                .thenReturn(Collections.singleton(Tuition.normalizeName(EXISTING_TUITION_NAME)));
+        List<TuitionBulkCreateResultDto> results = tuitionService.createTuitions(requestDtoList);
+        assertEquals(BulkItemStatusType.CREATED, results.get(0).getStatus());
+        assertNotNull(results.get(0).getTuitionId());
+        assertEquals(BulkItemStatusType.DUPLICATE_IN_REQUEST, results.get(1).getStatus());
+        assertEquals(BulkItemStatusType.MISSING_REQUIRED_FIELDS, results.get(2).getStatus());
+        assertEquals(BulkItemStatusType.ALREADY_EXISTS, results.get(3).getStatus());
+        assertNull(results.get(3).getTuitionId());
+        verify(tuitionRepository).findExistingNameKeys(anyCollection());
+        verify(tuitionRepository).saveAll(anyList());
+        verify(tuitionRepository, never()).saveAndFlush(any(Tuition.class));
+    }
+
+    @Test
+    void Should_FallBackToSingleInserts_When_CreatingTuitionListForConcurrentlyCreatedName() {
+        List<TuitionCreateRequestDto> requestDtoList = new ArrayList<>();
+        requestDtoList.add(getSampleTuitionCreateRequestDto(TUITION_NAME));
+        requestDtoList.add(getSampleTuitionCreateRequestDto(EXISTING_TUITION_NAME));
+
+        when(tuitionRepository.findExistingNameKeys(anyCollection())).thenReturn(Collections.emptySet());
+        when(tuitionRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException(ERROR));
+        when(tuitionRepository.saveAndFlush(argThat((Tuition t) ->
+                EXISTING_TUITION_NAME.equals(t.getName()))))
+                .thenThrow(new DataIntegrityViolationException(ERROR, new ConstraintViolationException(ERROR,
+                        new SQLException(ERROR), Tuition.NAME_KEY_CONSTRAINT)));
+        List<TuitionBulkCreateResultDto> results = tuitionService.createTuitions(requestDtoList);
+        assertEquals(BulkItemStatusType.CREATED, results.get(0).getStatus());
+        assertEquals(BulkItemStatusType.ALREADY_EXISTS, results.get(1).getStatus());
+        verify(tuitionRepository, times(2)).saveAndFlush(any(Tuition.class));
+    }
+
+    @Test
+    void Should_ThrowTuitionServiceException_When_CreatingTuitionListForFailedToCheckNames() {
+        List<TuitionCreateRequestDto> requestDtoList = Collections.singletonList(
+                getSampleTuitionCreateRequestDto(TUITION_NAME));
+
+        when(tuitionRepository.findExistingNameKeys(anyCollection())).thenThrow(new DataAccessException(ERROR) {
+        });
+        TuitionServiceException exception = assertThrows(TuitionServiceException.class, () ->
+                tuitionService.createTuitions(requestDtoList));
+        assertEquals("Failed to check for tuition existence in DB for bulk creation", exception.getMessage());
+    }
+
     /**
      * Start of test for findById method
      */
@@ -97,6 +205,51 @@ class TuitionServiceTest {
         assertEquals(TUITION_ID, tuitionService.findById(TUITION_ID).getId());
     }
 
+    @Test
+    void Should_ReturnCachedTuition_When_FindingTuitionByIdTwice() {
+        when(tuitionRepository.findById(anyString())).thenReturn(Optional.of(getSampleTuition()));
+        Tuition first = tuitionService.findById(TUITION_ID);
+        first.getStudentIds().clear();
+        assertEquals(1, tuitionService.findById(TUITION_ID).getStudentIds().size());
+        verify(tuitionRepository, times(1)).findById(TUITION_ID);
+    }
+
+    @Test
+    void Should_ReloadTuition_When_FindingTuitionByIdAfterAddingStudent() {
+        when(tuitionRepository.findById(anyString())).thenReturn(Optional.of(getSampleTuition()));
+        Tuition tuition = tuitionService.findById(TUITION_ID);
+        tuitionService.addStudentToTuition(getSampleStudentResponseDto(), tuition);
+        tuitionService.findById(TUITION_ID);
+        verify(tuitionRepository, times(2)).findById(TUITION_ID);
+    }
+
+    @Test
+    void Should_KnowTuitionVersion_When_FindingTuitionById() {
+        when(tuitionRepository.findById(anyString())).thenReturn(Optional.of(getSampleTuition()));
+        assertNull(tuitionService.getETag(TUITION_ID));
+        tuitionService.findById(TUITION_ID);
+        assertEquals(TuitionVersions.toETag(VERSION), tuitionService.getETag(TUITION_ID));
+    }
+
+    @Test
+    void Should_ChangeETags_When_AddingStudentToTuition() {
+        when(tuitionRepository.findById(anyString())).thenReturn(Optional.of(getSampleTuition()));
+        Tuition tuition = tuitionService.findById(TUITION_ID);
+        String catalogueETag = tuitionService.getCatalogueETag();
+        tuitionService.addStudentToTuition(getSampleStudentResponseDto(), tuition);
+        assertEquals(TuitionVersions.toETag(VERSION + 1), tuitionService.getETag(TUITION_ID));
+        assertNotEquals(catalogueETag, tuitionService.getCatalogueETag());
+    }
+
+    @Test
+    void Should_ForgetTuitionVersion_When_DeletingTuition() {
+        Tuition tuition = getSampleTuition();
+        when(tuitionRepository.findById(anyString())).thenReturn(Optional.of(tuition));
+        tuitionService.findById(TUITION_ID);
+        tuitionService.deleteTuition(tuition);
+        assertNull(tuitionService.getETag(TUITION_ID));
+    }
+
     @Test
     void Should_ThrowTuitionNotFoundException_When_FindingTuitionByIdForTuitionNotFound() {
         when(tuitionRepository.findById(anyString())).thenReturn(Optional.empty());
@@ -105,6 +258,14 @@ class TuitionServiceTest {
         assertEquals("Tuition not found for id: " + TUITION_ID, exception.getMessage());
     }
 
+    @Test
+    void Should_ThrowTuitionNotFoundException_When_FindingTuitionByIdForMalformedId() {
+        TuitionNotFoundException exception = assertThrows(TuitionNotFoundException.class, () ->
+                tuitionService.findById(MALFORMED_TUITION_ID));
+        assertEquals("Tuition not found for id: " + MALFORMED_TUITION_ID, exception.getMessage());
+        verifyNoInteractions(tuitionRepository);
+    }
+
     @Test
     void Should_ThrowRegistrationServiceException_When_FindingTuitionByIdIsFailed() {
         when(tuitionRepository.findById(anyString())).thenThrow(new DataAccessException(ERROR) {
@@ -114,98 +275,534 @@ class TuitionServiceTest {
         assertEquals("Failed to get tuition from DB for tuition id: " + TUITION_ID, exception.getMessage());
     }
 
+    /**
+     * Start of test for findAllById method
+     */
+    @Test
+    void Should_LoadMissedTuitionTogether_When_FindingTuitionListById() {
+        when(tuitionRepository.findById(anyString())).thenReturn(Optional.of(getSampleTuition()));
+        when(tuitionRepository.findAllById(anyIterable())).thenReturn(Collections.emptyList());
+        tuitionService.findById(TUITION_ID);
+
+        Map<String, Tuition> tuitionMap = tuitionService.findAllById(Arrays.asList(TUITION_ID, OTHER_TUITION_ID,
+                MALFORMED_TUITION_ID));
+        assertEquals(Collections.singleton(TUITION_ID), tuitionMap.keySet());
+        verify(tuitionRepository).findAllById(Collections.singleton(OTHER_TUITION_ID));
+    }
+
+    @Test
+    void Should_ReturnCachedTuition_When_FindingTuitionListByIdTwice() {
+        when(tuitionRepository.findAllById(anyIterable())).thenReturn(Collections.singletonList(getSampleTuition()));
+        tuitionService.findAllById(Collections.singletonList(TUITION_ID));
+
+        assertEquals(TUITION_ID, tuitionService.findAllById(Collections.singletonList(TUITION_ID)).get(TUITION_ID)
+                .getId());
+        assertEquals(TUITION_ID, tuitionService.findById(TUITION_ID).getId());
+        verify(tuitionRepository, times(1)).findAllById(anyIterable());
+        verify(tuitionRepository, never()).findById(anyString());
+        assertEquals(TuitionVersions.toETag(VERSION), tuitionService.getETag(TUITION_ID));
+    }
+
+    @Test
+    void Should_ThrowTuitionServiceException_When_FindingTuitionListByIdIsFailed() {
+        List<String> tuitionIds = Collections.singletonList(TUITION_ID);
+
+        when(tuitionRepository.findAllById(anyIterable())).thenThrow(new DataAccessException(ERROR) {
+        });
+        assertThrows(TuitionServiceException.class, () -> tuitionService.findAllById(tuitionIds));
+    }
+
     /**
      * Start of test for deleteTuition method
      */
     @Test
-    void Should_DeleteTuition_When_DeletingTuitionIsSuccessful() throws IOException {
-        doNothing().when(studentService).removeTuition(anyString(), anyString(), anyString());
-        doNothing().when(paymentService).deleteByTuitionId(anyString(), anyString());
-        tuitionService.deleteTuition(getSampleTuition(), TOKEN);
-        verify(tuitionRepository).delete(any(Tuition.class));
+    void Should_DeleteTuitionAndEnqueueDownstreamCalls_When_DeletingTuitionIsSuccessful() {
+        Tuition tuition = getSampleTuition();
+
+        when(tuitionRepository.findById(anyString())).thenReturn(Optional.of(tuition));
+        tuitionService.deleteTuition(tuition);
+        verify(tuitionRepository).delete(tuition);
+        verify(outboxService).enqueueRemoveTuitionFromStudents(TUITION_ID, Collections.singletonList(STUDENT_ID));
+        verify(outboxService).enqueueDeletePaymentsByTuitionId(TUITION_ID);
+        verify(transactionManager).commit(any());
     }
 
     @Test
-    void Should_ThrowRegistrationServiceException_When_DeletingTuitionIsFailed() throws IOException {
+    void Should_NotEnqueueRemovingTuitionFromStudents_When_DeletingTuitionWithoutStudents() {
         Tuition tuition = getSampleTuition();
+        tuition.setStudentIds(new HashSet<>());
+
+        when(tuitionRepository.findById(anyString())).thenReturn(Optional.of(tuition));
+        tuitionService.deleteTuition(tuition);
+        verify(outboxService, never()).enqueueRemoveTuitionFromStudents(anyString(), anyCollection());
+        verify(outboxService).enqueueDeletePaymentsByTuitionId(TUITION_ID);
+    }
 
-        doNothing().when(studentService).removeTuition(anyString(), anyString(), anyString());
-        doNothing().when(paymentService).deleteByTuitionId(anyString(), anyString());
+    @Test
+    void Should_ThrowTuitionNotFoundException_When_DeletingTuitionForTuitionNotFound() {
+        Tuition tuition = getSampleTuition();
+
+        when(tuitionRepository.findById(anyString())).thenReturn(Optional.empty());
+        TuitionNotFoundException exception = assertThrows(TuitionNotFoundException.class, () ->
+                tuitionService.deleteTuition(tuition));
+        assertEquals("Tuition not found for id: " + TUITION_ID, exception.getMessage());
+        verifyNoInteractions(outboxService);
+    }
+
+    @Test
+    void Should_ThrowRegistrationServiceException_When_DeletingTuitionIsFailed() {
+        Tuition tuition = getSampleTuition();
+
+        when(tuitionRepository.findById(anyString())).thenReturn(Optional.of(tuition));
         doThrow(new DataAccessException(ERROR) {
         }).when(tuitionRepository).delete(any(Tuition.class));
         TuitionServiceException exception = assertThrows(TuitionServiceException.class, () ->
-                tuitionService.deleteTuition(tuition, TOKEN));
+                tuitionService.deleteTuition(tuition));
+        assertEquals("Failed to delete tuition of id: " + TUITION_ID, exception.getMessage());
+        verifyNoInteractions(outboxService);
+    }
+
+    @Test
+    void Should_RollBackTuitionDelete_When_DeletingTuitionForFailedToEnqueueDownstreamCalls() {
+        Tuition tuition = getSampleTuition();
+
+        when(tuitionRepository.findById(anyString())).thenReturn(Optional.of(tuition));
+        doThrow(new DataAccessException(ERROR) {
+        }).when(outboxService).enqueueDeletePaymentsByTuitionId(anyString());
+        TuitionServiceException exception = assertThrows(TuitionServiceException.class, () ->
+                tuitionService.deleteTuition(tuition));
         assertEquals("Failed to delete tuition of id: " + TUITION_ID, exception.getMessage());
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
     }
 
     /**
-     * Start of test for getAll method
+     * Start of test for deleteTuitionAsync method
      */
     @Test
-    void Should_ReturnAllTuition_When_GettingAllIsSuccessful() {
-        when(tuitionRepository.findAll()).thenReturn(getSampleTuitionList());
-        assertEquals(TUITION_ID, tuitionService.getAll().get(0).getId());
+    void Should_DeleteTuition_When_DeletingTuitionAsyncIsSuccessful() {
+        Tuition tuition = getSampleTuition();
+
+        when(tuitionRepository.findById(anyString())).thenReturn(Optional.of(tuition));
+        tuitionService.deleteTuitionAsync(tuition).join();
+        InOrder inOrder = inOrder(tuitionRepository, outboxService, outboxDispatcher);
+        inOrder.verify(tuitionRepository).delete(tuition);
+        inOrder.verify(outboxService).enqueueDeletePaymentsByTuitionId(TUITION_ID);
+        inOrder.verify(outboxDispatcher).dispatchTuition(TUITION_ID);
     }
 
     @Test
-    void Should_ThrowRegistrationServiceException_When_GettingAllIsFailed() {
-        when(tuitionRepository.findAll()).thenThrow(new DataAccessException(ERROR) {
+    void Should_ThrowTuitionServiceException_When_DeletingTuitionAsyncIsFailed() {
+        Tuition tuition = getSampleTuition();
+
+        when(tuitionRepository.findById(anyString())).thenReturn(Optional.of(tuition));
+        doThrow(new DataAccessException(ERROR) {
+        }).when(tuitionRepository).delete(any(Tuition.class));
+        CompletionException exception = assertThrows(CompletionException.class, () ->
+                tuitionService.deleteTuitionAsync(tuition).join());
+        assertTrue(exception.getCause() instanceof TuitionServiceException);
+        assertEquals("Failed to delete tuition of id: " + TUITION_ID, exception.getCause().getMessage());
+        verifyNoInteractions(outboxDispatcher);
+    }
+
+    /**
+     * Start of test for getPage method
+     */
+    @Test
+    void Should_ReturnFirstTuitionPage_When_GettingPageWithoutCursorIsSuccessful() {
+        when(tuitionRepository.findAllBy(any(Pageable.class))).thenReturn(getSampleTuitionSlice());
+        assertEquals(TUITION_ID, tuitionService.getPage(null, null).getContent().get(0).getId());
+        verify(tuitionRepository).findAllBy(PageRequest.of(0, DEFAULT_PAGE_SIZE, Sort.by("id")));
+    }
+
+    @Test
+    void Should_ReturnNextTuitionPage_When_GettingPageWithCursorIsSuccessful() {
+        when(tuitionRepository.findByIdGreaterThan(anyString(), any(Pageable.class)))
+                .thenReturn(getSampleTuitionSlice());
+        assertEquals(TUITION_ID, tuitionService.getPage(TUITION_ID, 5).getContent().get(0).getId());
+        verify(tuitionRepository).findByIdGreaterThan(TUITION_ID, PageRequest.of(0, 5, Sort.by("id")));
+    }
+
+    @Test
+    void Should_CapPageSize_When_GettingPageLargerThanMaxPageSize() {
+        when(tuitionRepository.findAllBy(any(Pageable.class))).thenReturn(getSampleTuitionSlice());
+        tuitionService.getPage(null, Integer.MAX_VALUE);
+        verify(tuitionRepository).findAllBy(PageRequest.of(0, MAX_PAGE_SIZE, Sort.by("id")));
+    }
+
+    @Test
+    void Should_ThrowTuitionServiceException_When_GettingPageIsFailed() {
+        when(tuitionRepository.findAllBy(any(Pageable.class))).thenThrow(new DataAccessException(ERROR) {
         });
         TuitionServiceException exception = assertThrows(TuitionServiceException.class, () ->
-                tuitionService.getAll());
-        assertEquals("Failed to to get all tuition", exception.getMessage());
+                tuitionService.getPage(null, null));
+        assertEquals("Failed to get tuition page after id: null", exception.getMessage());
+    }
+
+    /**
+     * Start of test for getSummaryPage method
+     */
+    @Test
+    void Should_ReturnFirstTuitionSummaryPage_When_GettingSummaryPageWithoutCursorIsSuccessful() {
+        when(tuitionRepository.findSummariesByIdGreaterThan(anyString(), any(Pageable.class)))
+                .thenReturn(getSampleTuitionSummarySlice());
+        assertEquals(1, tuitionService.getSummaryPage(null, null).getContent().get(0).getEnrollmentCount());
+        verify(tuitionRepository).findSummariesByIdGreaterThan(TuitionId.MIN_VALUE, PageRequest.of(0,
+                DEFAULT_PAGE_SIZE, Sort.by("id")));
+    }
+
+    @Test
+    void Should_ThrowTuitionServiceException_When_GettingSummaryPageIsFailed() {
+        when(tuitionRepository.findSummariesByIdGreaterThan(anyString(), any(Pageable.class)))
+                .thenThrow(new DataAccessException(ERROR) {
+                });
+        TuitionServiceException exception = assertThrows(TuitionServiceException.class, () ->
+                tuitionService.getSummaryPage(TUITION_ID, null));
+        assertEquals("Failed to get tuition summary page after id: " + TUITION_ID, exception.getMessage());
+    }
+
+    /**
+     * Start of test for exportAll method
+     */
+    @Test
+    void Should_WriteOneJsonLinePerTuition_When_ExportingAllTuitionIsSuccessful() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        when(tuitionRepository.streamAll(anyInt())).thenReturn(getSampleTuitionList().stream());
+        assertEquals(1, tuitionService.exportAll(outputStream));
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8.name()).split("\n");
+        assertEquals(1, lines.length);
+        assertTrue(lines[0].contains("\"tuitionId\":\"" + TUITION_ID + "\""));
+        verify(tuitionRepository).streamAll(EXPORT_FETCH_SIZE);
+    }
+
+    @Test
+    void Should_ThrowTuitionServiceException_When_ExportingAllTuitionIsFailed() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        when(tuitionRepository.streamAll(anyInt())).thenThrow(new DataAccessException(ERROR) {
+        });
+        TuitionServiceException exception = assertThrows(TuitionServiceException.class, () ->
+                tuitionService.exportAll(outputStream));
+        assertEquals("Failed to export tuition from DB after 0 tuition", exception.getMessage());
     }
 
     /**
      * Start of test for addStudentToTuition method
      */
     @Test
-    void Should_ReturnStudentResponseDto_When_AddingStudentToTuitionIsSuccessful() throws IOException {
-        doNothing().when(studentService).addTuition(anyString(), anyString(), anyString());
+    void Should_ReturnStudentResponseDto_When_AddingStudentToTuitionIsSuccessful() {
         assertEquals(STUDENT_NAME, tuitionService.addStudentToTuition(getSampleStudentResponseDto(),
-                getSampleTuition(), TOKEN).getName());
+                getSampleTuition()).getName());
         assertEquals(TUITION_ID, tuitionService.addStudentToTuition(getSampleStudentResponseDto(),
-                getSampleTuition(), TOKEN).getTuitionId());
-        verify(tuitionRepository, times(2)).save(any(Tuition.class));
+                getSampleTuition()).getTuitionId());
+        verify(enrollmentRepository, times(2)).saveAndFlush(any(Enrollment.class));
+        verify(outboxService, times(2)).enqueueAddTuitionToStudent(TUITION_ID, null);
     }
 
     @Test
-    void Should_ThrowTuitionServiceException_When_AddingStudentToTuitionIsFailed() throws IOException {
+    void Should_CheckVersionAfterEnrollment_When_AddingStudentToTuition() {
+        tuitionService.addStudentToTuition(getSampleStudentResponseDto(), getSampleTuition());
+        InOrder inOrder = inOrder(enrollmentRepository, outboxService, tuitionRepository);
+        inOrder.verify(enrollmentRepository).saveAndFlush(any(Enrollment.class));
+        inOrder.verify(outboxService).enqueueAddTuitionToStudent(TUITION_ID, null);
+        inOrder.verify(tuitionRepository).incrementVersion(TUITION_ID, VERSION);
+    }
+
+    @Test
+    void Should_RetryWithCurrentVersion_When_AddingStudentToTuitionForConcurrentlyChangedTuition() {
+        when(tuitionRepository.incrementVersion(TUITION_ID, VERSION)).thenReturn(0);
+        assertEquals(TUITION_ID, tuitionService.addStudentToTuition(getSampleStudentResponseDto(),
+                getSampleTuition()).getTuitionId());
+        verify(tuitionRepository).incrementVersion(TUITION_ID, VERSION + 1);
+        verify(enrollmentRepository, times(2)).saveAndFlush(any(Enrollment.class));
+        verify(transactionManager).rollback(any());
+        verify(transactionManager).commit(any());
+        assertEquals(1, meterRegistry.counter("tuition.enrollment.conflicts", "operation", "add").count());
+        assertEquals(1, meterRegistry.counter("tuition.enrollment.retries", "operation", "add").count());
+    }
+
+    @Test
+    void Should_RetryWithCurrentVersion_When_AddingStudentToTuitionLosesLockConflict() {
+        when(enrollmentRepository.saveAndFlush(any(Enrollment.class))).thenThrow(new CannotAcquireLockException(ERROR))
+                .thenReturn(null);
+        assertEquals(TUITION_ID, tuitionService.addStudentToTuition(getSampleStudentResponseDto(),
+                getSampleTuition()).getTuitionId());
+        verify(tuitionRepository).incrementVersion(TUITION_ID, VERSION + 1);
+        verify(outboxService).enqueueAddTuitionToStudent(TUITION_ID, null);
+        assertEquals(1, meterRegistry.counter("tuition.enrollment.retries", "operation", "add").count());
+    }
+
+    @Test
+    void Should_ThrowTuitionServiceException_When_AddingStudentToTuitionConflictsOnEveryAttempt() {
+        StudentResponseDto studentResponseDto = getSampleStudentResponseDto();
+        Tuition tuition = getSampleTuition();
+
+        when(tuitionRepository.incrementVersion(anyString(), any())).thenReturn(0);
+        TuitionServiceException exception = assertThrows(TuitionServiceException.class, () -> tuitionService
+                .addStudentToTuition(studentResponseDto, tuition));
+        assertEquals("Failed to add student to tuition of id: " + TUITION_ID, exception.getMessage());
+        verify(tuitionRepository, times(ENROLLMENT_MAX_ATTEMPTS)).incrementVersion(anyString(), any());
+        verify(transactionManager, times(ENROLLMENT_MAX_ATTEMPTS)).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        assertEquals(1, meterRegistry.counter("tuition.enrollment.retries.exhausted", "operation", "add")
+                .count());
+    }
+
+    @Test
+    void Should_ThrowTuitionNotFoundException_When_AddingStudentToTuitionForDeletedTuition() {
         StudentResponseDto studentResponseDto = getSampleStudentResponseDto();
         Tuition tuition = getSampleTuition();
 
-        doNothing().when(studentService).addTuition(anyString(), anyString(), anyString());
-        when(tuitionRepository.save(any(Tuition.class))).thenThrow(new DataAccessException(ERROR) {
+        when(tuitionRepository.incrementVersion(TUITION_ID, VERSION)).thenReturn(0);
+        when(tuitionRepository.findVersionById(TUITION_ID)).thenReturn(Optional.empty());
+        assertThrows(TuitionNotFoundException.class, () -> tuitionService.addStudentToTuition(studentResponseDto,
+                tuition));
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    void Should_ThrowStudentAlreadyEnrolledException_When_AddingStudentToTuitionForStudentEnrolledInATuition() {
+        StudentResponseDto studentResponseDto = getSampleStudentResponseDto();
+        Tuition tuition = getSampleTuition();
+
+        when(enrollmentRepository.existsByIdStudentId(any())).thenReturn(true);
+        assertThrows(StudentAlreadyEnrolledException.class, () -> tuitionService
+                .addStudentToTuition(studentResponseDto, tuition));
+        verify(enrollmentRepository, never()).saveAndFlush(any(Enrollment.class));
+        verifyNoInteractions(outboxService);
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void Should_ThrowStudentAlreadyEnrolledException_When_AddingStudentToTuitionForConcurrentEnrollment() {
+        StudentResponseDto studentResponseDto = getSampleStudentResponseDto();
+        Tuition tuition = getSampleTuition();
+
+        when(enrollmentRepository.saveAndFlush(any(Enrollment.class))).thenThrow(getStudentIdViolation());
+        assertThrows(StudentAlreadyEnrolledException.class, () -> tuitionService
+                .addStudentToTuition(studentResponseDto, tuition));
+        assertNull(studentResponseDto.getTuitionId());
+        verifyNoInteractions(outboxService);
+    }
+
+    @Test
+    void Should_ThrowTuitionServiceException_When_AddingStudentToTuitionIsFailed() {
+        StudentResponseDto studentResponseDto = getSampleStudentResponseDto();
+        Tuition tuition = getSampleTuition();
+
+        when(enrollmentRepository.saveAndFlush(any(Enrollment.class))).thenThrow(new DataAccessException(ERROR) {
         });
         TuitionServiceException exception = assertThrows(TuitionServiceException.class, () -> tuitionService
-                .addStudentToTuition(studentResponseDto, tuition, TOKEN));
+                .addStudentToTuition(studentResponseDto, tuition));
         assertEquals("Failed to add student to tuition of id: " + TUITION_ID, exception.getMessage());
+        assertNull(studentResponseDto.getTuitionId());
+        verifyNoInteractions(outboxService);
+    }
+
+    @Test
+    void Should_RollBackEnrollment_When_AddingStudentToTuitionForFailedToEnqueueAddingTuitionToStudent() {
+        StudentResponseDto studentResponseDto = getSampleStudentResponseDto();
+        Tuition tuition = getSampleTuition();
+
+        doThrow(new DataAccessException(ERROR) {
+        }).when(outboxService).enqueueAddTuitionToStudent(anyString(), any());
+        TuitionServiceException exception = assertThrows(TuitionServiceException.class, () -> tuitionService
+                .addStudentToTuition(studentResponseDto, tuition));
+        assertEquals("Failed to add student to tuition of id: " + TUITION_ID, exception.getMessage());
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    /**
+     * Start of test for addStudentsToTuition method
+     */
+    @Test
+    void Should_EnrollStudentsInOneTransaction_When_AddingStudentsToTuitionIsSuccessful() {
+        List<String> studentIds = Arrays.asList(STUDENT_ID + 1, STUDENT_ID + 2);
+
+        tuitionService.addStudentsToTuition(studentIds, getSampleTuition());
+        verify(tuitionRepository).incrementVersion(TUITION_ID, VERSION);
+        verify(enrollmentRepository).saveAll(argThat((Iterable<Enrollment> enrollments) ->
+                enrollments.spliterator().getExactSizeIfKnown() == studentIds.size()));
+        verify(outboxService).enqueueAddTuitionToStudent(TUITION_ID, STUDENT_ID + 1);
+        verify(outboxService).enqueueAddTuitionToStudent(TUITION_ID, STUDENT_ID + 2);
+        verify(transactionManager).commit(any());
+        assertEquals(TuitionVersions.toETag(VERSION + 1), tuitionService.getETag(TUITION_ID));
+    }
+
+    @Test
+    void Should_SkipEnrolledStudents_When_AddingStudentsToTuitionForStudentsEnrolledInATuition() {
+        List<String> studentIds = Arrays.asList(STUDENT_ID + 1, STUDENT_ID + 2);
+
+        when(enrollmentRepository.findEnrolledStudentIds(studentIds))
+                .thenReturn(Collections.singleton(STUDENT_ID + 1));
+        assertEquals(Collections.singleton(STUDENT_ID + 1), tuitionService.addStudentsToTuition(studentIds,
+                getSampleTuition()));
+        verify(enrollmentRepository).saveAll(argThat((Iterable<Enrollment> enrollments) ->
+                enrollments.spliterator().getExactSizeIfKnown() == 1));
+        verify(outboxService, never()).enqueueAddTuitionToStudent(TUITION_ID, STUDENT_ID + 1);
+        verify(outboxService).enqueueAddTuitionToStudent(TUITION_ID, STUDENT_ID + 2);
+    }
+
+    @Test
+    void Should_ThrowStudentAlreadyEnrolledException_When_AddingStudentsToTuitionForConcurrentEnrollment() {
+        List<String> studentIds = Collections.singletonList(STUDENT_ID);
+        Tuition tuition = getSampleTuition();
+
+        doThrow(getStudentIdViolation()).when(enrollmentRepository).flush();
+        assertThrows(StudentAlreadyEnrolledException.class, () -> tuitionService.addStudentsToTuition(studentIds,
+                tuition));
+        verifyNoInteractions(outboxService);
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void Should_NotWrite_When_AddingStudentsToTuitionForNoStudents() {
+        tuitionService.addStudentsToTuition(Collections.emptyList(), getSampleTuition());
+        verifyNoInteractions(enrollmentRepository, outboxService);
+        verify(tuitionRepository, never()).incrementVersion(anyString(), any());
+    }
+
+    @Test
+    void Should_ThrowTuitionServiceException_When_AddingStudentsToTuitionIsFailed() {
+        List<String> studentIds = Collections.singletonList(STUDENT_ID);
+        Tuition tuition = getSampleTuition();
+
+        doThrow(new DataAccessException(ERROR) {
+        }).when(outboxService).enqueueAddTuitionToStudent(anyString(), anyString());
+        TuitionServiceException exception = assertThrows(TuitionServiceException.class, () -> tuitionService
+                .addStudentsToTuition(studentIds, tuition));
+        assertEquals("Failed to add students to tuition of id: " + TUITION_ID, exception.getMessage());
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    /**
+     * Start of test for addStudentToTuitionAsync method
+     */
+    @Test
+    void Should_ReturnStudentResponseDto_When_AddingStudentToTuitionAsyncIsSuccessful() {
+        StudentResponseDto responseDto = tuitionService.addStudentToTuitionAsync(getSampleStudentResponseDto(),
+                getSampleTuition()).join();
+        assertEquals(TUITION_ID, responseDto.getTuitionId());
+        verify(enrollmentRepository).saveAndFlush(any(Enrollment.class));
+        verify(outboxService).enqueueAddTuitionToStudent(TUITION_ID, null);
+        verify(outboxDispatcher).dispatchTuition(TUITION_ID);
+    }
+
+    @Test
+    void Should_ThrowTuitionServiceException_When_AddingStudentToTuitionAsyncIsFailed() {
+        StudentResponseDto studentResponseDto = getSampleStudentResponseDto();
+        Tuition tuition = getSampleTuition();
+
+        when(enrollmentRepository.saveAndFlush(any(Enrollment.class))).thenThrow(new DataAccessException(ERROR) {
+        });
+        CompletionException exception = assertThrows(CompletionException.class, () -> tuitionService
+                .addStudentToTuitionAsync(studentResponseDto, tuition).join());
+        assertEquals("Failed to add student to tuition of id: " + TUITION_ID, exception.getCause().getMessage());
+        verifyNoInteractions(outboxDispatcher);
     }
 
     /**
      * Start of test for removeStudentFromTuition method
      */
     @Test
-    void Should_ReturnStudentResponseDto_When_RemovingStudentFromTuitionIsSuccessful() throws IOException {
-        doNothing().when(studentService).removeTuition(anyString(), anyString(), anyString());
+    void Should_ReturnStudentResponseDto_When_RemovingStudentFromTuitionIsSuccessful() {
         assertEquals(STUDENT_NAME, tuitionService.removeStudentFromTuition(getSampleStudentResponseDto(),
-                getSampleTuition(), TOKEN).getName());
+                getSampleTuition()).getName());
         assertNull(tuitionService.removeStudentFromTuition(getSampleStudentResponseDto(),
-                getSampleTuition(), TOKEN).getTuitionId());
-        verify(tuitionRepository, times(2)).save(any(Tuition.class));
+                getSampleTuition()).getTuitionId());
+        verify(enrollmentRepository, times(2)).deleteEnrollment(TUITION_ID, null);
+        verify(outboxService, times(2)).enqueueRemoveTuitionFromStudent(TUITION_ID, null);
+    }
+
+    @Test
+    void Should_ThrowStudentNotEnrolledException_When_RemovingStudentFromTuitionForStudentNotEnrolledInTuition() {
+        StudentResponseDto studentResponseDto = getSampleStudentResponseDto();
+        Tuition tuition = getSampleTuition();
+
+        when(enrollmentRepository.deleteEnrollment(anyString(), any())).thenReturn(0);
+        assertThrows(StudentNotEnrolledException.class, () -> tuitionService
+                .removeStudentFromTuition(studentResponseDto, tuition));
+        verifyNoInteractions(outboxService);
+        verify(transactionManager).rollback(any());
     }
 
     @Test
-    void Should_ThrowTuitionServiceException_When_RemovingStudentFromTuitionIsFailed() throws IOException {
+    void Should_ThrowTuitionServiceException_When_RemovingStudentFromTuitionIsFailed() {
         StudentResponseDto studentResponseDto = getSampleStudentResponseDto();
         Tuition tuition = getSampleTuition();
 
-        doNothing().when(studentService).removeTuition(anyString(), anyString(), anyString());
-        when(tuitionRepository.save(any(Tuition.class))).thenThrow(new DataAccessException(ERROR) {
+        when(enrollmentRepository.deleteEnrollment(anyString(), any())).thenThrow(new DataAccessException(ERROR) {
         });
         TuitionServiceException exception = assertThrows(TuitionServiceException.class, () -> tuitionService
-                .removeStudentFromTuition(studentResponseDto, tuition, TOKEN));
+                .removeStudentFromTuition(studentResponseDto, tuition));
         assertEquals("Failed to remove student to tuition of id: " + TUITION_ID, exception.getMessage());
+        verifyNoInteractions(outboxService);
+    }
+
+    /**
+     * Start of test for removeStudentFromTuitionAsync method
+     */
+    @Test
+    void Should_ReturnStudentResponseDto_When_RemovingStudentFromTuitionAsyncIsSuccessful() {
+        StudentResponseDto responseDto = tuitionService.removeStudentFromTuitionAsync(getSampleStudentResponseDto(),
+                getSampleTuition()).join();
+        assertNull(responseDto.getTuitionId());
+        verify(enrollmentRepository).deleteEnrollment(TUITION_ID, null);
+        verify(outboxService).enqueueRemoveTuitionFromStudent(TUITION_ID, null);
+        verify(outboxDispatcher).dispatchTuition(TUITION_ID);
+    }
+
+    @Test
+    void Should_ThrowStudentNotEnrolledException_When_RemovingStudentFromTuitionAsyncForStudentNotEnrolledInTuition() {
+        StudentResponseDto studentResponseDto = getSampleStudentResponseDto();
+        Tuition tuition = getSampleTuition();
+
+        when(enrollmentRepository.deleteEnrollment(anyString(), any())).thenReturn(0);
+        CompletionException exception = assertThrows(CompletionException.class, () -> tuitionService
+                .removeStudentFromTuitionAsync(studentResponseDto, tuition).join());
+        assertTrue(exception.getCause() instanceof StudentNotEnrolledException);
+        verifyNoInteractions(outboxDispatcher);
+    }
+
+    /**
+     * Start of test for removeStudentsFromTuition method
+     */
+    @Test
+    void Should_RemoveStudentsInOneTransaction_When_RemovingStudentsFromTuitionIsSuccessful() {
+        List<String> studentIds = Arrays.asList(STUDENT_ID + 1, STUDENT_ID + 2);
+
+        tuitionService.removeStudentsFromTuition(studentIds, getSampleTuition());
+        verify(tuitionRepository).incrementVersion(TUITION_ID, VERSION);
+        verify(enrollmentRepository).deleteEnrollments(TUITION_ID, studentIds);
+        verify(outboxService).enqueueRemoveTuitionFromStudent(TUITION_ID, STUDENT_ID + 1);
+        verify(outboxService).enqueueRemoveTuitionFromStudent(TUITION_ID, STUDENT_ID + 2);
+        verify(transactionManager).commit(any());
+        assertEquals(TuitionVersions.toETag(VERSION + 1), tuitionService.getETag(TUITION_ID));
+    }
+
+    @Test
+    void Should_NotWrite_When_RemovingStudentsFromTuitionForNoStudents() {
+        tuitionService.removeStudentsFromTuition(Collections.emptyList(), getSampleTuition());
+        verifyNoInteractions(enrollmentRepository, outboxService);
+        verify(tuitionRepository, never()).incrementVersion(anyString(), any());
+    }
+
+    @Test
+    void Should_ThrowTuitionServiceException_When_RemovingStudentsFromTuitionIsFailed() {
+        List<String> studentIds = Collections.singletonList(STUDENT_ID);
+        Tuition tuition = getSampleTuition();
+
+        doThrow(new DataAccessException(ERROR) {
+        }).when(outboxService).enqueueRemoveTuitionFromStudent(anyString(), anyString());
+        TuitionServiceException exception = assertThrows(TuitionServiceException.class, () -> tuitionService
+                .removeStudentsFromTuition(studentIds, tuition));
+        assertEquals("Failed to remove students from tuition of id: " + TUITION_ID, exception.getMessage());
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
     }
 
     /**
@@ -218,9 +815,33 @@ class TuitionServiceTest {
         tuition.setId(TUITION_ID);
         tuition.setName(TUITION_NAME);
         tuition.setStudentIds(getSampleStudentIds());
+        tuition.setVersion(VERSION);
         return tuition;
     }
 
+    /**
+     * This method returns a violation of the unique student index of the enrollments
+     *
+     * @return data integrity violation exception
+     */
+    private DataIntegrityViolationException getStudentIdViolation() {
+        return new DataIntegrityViolationException(ERROR, new ConstraintViolationException(ERROR,
+                new SQLException(ERROR), "tuition_enrollment." + Enrollment.STUDENT_ID_CONSTRAINT));
+    }
+
+    /**
+     * This method returns a sample TuitionCreateRequestDto
+     *
+     * @param name tuition name
+     * @return TuitionCreateRequestDto
+     */
+    private TuitionCreateRequestDto getSampleTuitionCreateRequestDto(String name) {
+        TuitionCreateRequestDto requestDto = new TuitionCreateRequestDto();
+        requestDto.setName(name);
+        requestDto.setLocation(TUITION_LOCATION);
+        return requestDto;
+    }
+
     /**
      * This method returns a sample Tuition list
      *
@@ -232,6 +853,28 @@ class TuitionServiceTest {
         return tuitionList;
     }
 
+    /**
+     * This method returns a sample Tuition slice
+     *
+     * @return Tuition Slice
+     */
+    private Slice<Tuition> getSampleTuitionSlice() {
+        return new SliceImpl<>(getSampleTuitionList(), PageRequest.of(0, DEFAULT_PAGE_SIZE), false);
+    }
+
+    /**
+     * This method returns a sample TuitionSummary slice
+     *
+     * @return TuitionSummary slice
+     */
+    private Slice<TuitionSummary> getSampleTuitionSummarySlice() {
+        TuitionSummary tuitionSummary = mock(TuitionSummary.class);
+        when(tuitionSummary.getId()).thenReturn(TUITION_ID);
+        when(tuitionSummary.getEnrollmentCount()).thenReturn(1L);
+        return new SliceImpl<>(Collections.singletonList(tuitionSummary), PageRequest.of(0, DEFAULT_PAGE_SIZE),
+                false);
+    }
+
     /**
      * This method returns a sample Student Set
      *
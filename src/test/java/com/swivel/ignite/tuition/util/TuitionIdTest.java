@@ -0,0 +1,47 @@
+package com.swivel.ignite.tuition.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests {@link TuitionId} class
+ */
+class TuitionIdTest {
+
+    private static final String TUITION_ID = "tid-0183f1a2-6c3d-7e4f-8a9b-0c1d2e3f4a5b";
+    private static final long EPOCH_MILLIS = 1_700_000_000_000L;
+
+    @Test
+    void Should_ReturnValidTimeOrderedId_When_GeneratingId() {
+        String id = TuitionId.generate();
+        assertTrue(TuitionId.isValid(id));
+        UUID uuid = UUID.fromString(id.substring(TuitionId.PREFIX.length()));
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void Should_OrderIdsByTime_When_GeneratingIdsForLaterTime() {
+        UUID earlier = TuitionId.timeOrderedUuid(EPOCH_MILLIS);
+        UUID later = TuitionId.timeOrderedUuid(EPOCH_MILLIS + 1);
+        assertTrue(earlier.toString().compareTo(later.toString()) < 0);
+        assertEquals(EPOCH_MILLIS, earlier.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void Should_ReturnSameId_When_ConvertingIdToBytesAndBack() {
+        byte[] bytes = TuitionId.toBytes(TUITION_ID);
+        assertEquals(TuitionId.BINARY_LENGTH, bytes.length);
+        assertEquals(TUITION_ID, TuitionId.fromBytes(bytes));
+    }
+
+    @Test
+    void Should_ThrowIllegalArgumentException_When_ConvertingMalformedIdToBytes() {
+        assertFalse(TuitionId.isValid("tid-123456789"));
+        assertFalse(TuitionId.isValid(TUITION_ID.toUpperCase()));
+        assertThrows(IllegalArgumentException.class, () -> TuitionId.toBytes("tid-1-1-1-1-1"));
+    }
+}